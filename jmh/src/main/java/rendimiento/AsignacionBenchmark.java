@@ -0,0 +1,111 @@
+package rendimiento;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.HomeSolution;
+import entidades.ResultadoAsignacion;
+
+/**
+ * Mide el tiempo de asignar responsables a todas las tareas de un proyecto,
+ * con cada politica (primer empleado libre, empleado con menos retrasos y el mas barato por indice).
+ *
+ * Con api=RESULTADO usa las variantes que no lanzan excepcion cuando no hay empleados libres.
+ *
+ * Asignar cambia el estado (el empleado queda ocupado), asi que cada iteracion
+ * arranca de un HomeSolution nuevo y mide una sola pasada (SingleShotTime).
+ * El resultado se divide por la cantidad de tareas para obtener el costo por asignacion.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsignacionBenchmark {
+
+    @Param({"PRIMERO", "MENOS_RETRASO", "MAS_BARATO"})
+    public String politica;
+
+    //EXCEPCION = metodos originales (lanzan si no hay empleados), RESULTADO = variantes sin excepciones
+    @Param({"EXCEPCION", "RESULTADO"})
+    public String api;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int empleados;
+
+    //1.000.000 de tareas en un mismo proyecto se puede pedir con -p tareas=1000000,
+    //no va por defecto porque asignar hoy recorre las tareas del proyecto en cada llamada
+    @Param({"10", "1000", "100000"})
+    public int tareas;
+
+    private HomeSolution homeSolution;
+    private String[] titulos;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        homeSolution = new HomeSolution();
+        Escenarios.registrarEmpleados(homeSolution, empleados);
+        Escenarios.registrarProyectos(homeSolution, 1, tareas);
+        titulos = Escenarios.titulos(tareas);
+    }
+
+    @Benchmark
+    public int asignarTodasLasTareas() {
+        if (api.equals("RESULTADO")) {
+            return asignarConResultado();
+        }
+        int asignadas = 0;
+        for (String titulo : titulos) {
+            try {
+                switch (politica) {
+                    case "MENOS_RETRASO":
+                        homeSolution.asignarResponsableMenosRetraso(1, titulo);
+                        break;
+                    case "MAS_BARATO":
+                        homeSolution.asignarResponsableMasBarato(1, titulo);
+                        break;
+                    default:
+                        homeSolution.asignarResponsableEnTarea(1, titulo);
+                }
+                asignadas++;
+            } catch (Exception e) {
+                //sin empleados libres: el proyecto queda pendiente y se sigue con la proxima
+            }
+        }
+        return asignadas;
+    }
+
+    private int asignarConResultado() {
+        int asignadas = 0;
+        for (String titulo : titulos) {
+            ResultadoAsignacion resultado;
+            switch (politica) {
+                case "MENOS_RETRASO":
+                    resultado = homeSolution.intentarAsignarResponsableMenosRetraso(1, titulo);
+                    break;
+                case "MAS_BARATO":
+                    resultado = homeSolution.intentarAsignarResponsableMasBarato(1, titulo);
+                    break;
+                default:
+                    resultado = homeSolution.intentarAsignarResponsableEnTarea(1, titulo);
+            }
+            if (resultado.fueAsignado()) {
+                asignadas++;
+            }
+        }
+        return asignadas;
+    }
+}
@@ -0,0 +1,87 @@
+package rendimiento;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.ColaComandos;
+import entidades.EstrategiaEspera;
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+import entidades.IHomeSolution;
+
+/**
+ * Throughput de registrarRetrasoEnTarea desde varios hilos: HomeSolutionSincronizada (un lock
+ * por operacion) contra ColaComandos con cada estrategia de espera.
+ * En la cola los productores no esperan la respuesta; el buffer lleno es lo que los frena,
+ * asi que el throughput medido es el del escritor. Al cerrar la iteracion se aplica lo pendiente
+ * (como mucho un buffer).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ColaComandosBenchmark {
+    private static final int PROYECTOS = 1000;
+    private static final String[] TITULOS = Escenarios.titulos(4);
+
+    @Param({"LOCK", "OCUPADA", "CEDER", "DORMIR"})
+    public String implementacion;
+
+    private IHomeSolution sincronizada;
+    private ColaComandos cola;
+
+    @Setup(Level.Iteration)
+    public void preparar() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        Escenarios.registrarEmpleados(homeSolution, PROYECTOS * TITULOS.length);
+        Escenarios.registrarProyectos(homeSolution, PROYECTOS, TITULOS.length);
+        for (int numero = 1; numero <= PROYECTOS; numero++) {
+            for (String titulo : TITULOS) {
+                homeSolution.asignarResponsableEnTarea(numero, titulo);
+            }
+        }
+        if (implementacion.equals("LOCK")) {
+            sincronizada = new HomeSolutionSincronizada(homeSolution);
+        } else {
+            cola = new ColaComandos(homeSolution, 1024, EstrategiaEspera.valueOf(implementacion));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void cerrar() throws InterruptedException {
+        if (cola != null) {
+            cola.close();
+            cola = null;
+        }
+    }
+
+    @Benchmark
+    public void registrarRetraso() {
+        ThreadLocalRandom azar = ThreadLocalRandom.current();
+        int numero = 1 + azar.nextInt(PROYECTOS);
+        String titulo = TITULOS[azar.nextInt(TITULOS.length)];
+        if (cola == null) {
+            sincronizada.registrarRetrasoEnTarea(numero, titulo, 1);
+        } else {
+            cola.registrarRetrasoEnTarea(numero, titulo, 1, null);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package rendimiento;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.HomeSolution;
+import entidades.Tupla;
+
+/**
+ * Mide los listados filtrados por estado y empleadosNoAsignados.
+ * Los proyectos quedan repartidos en tercios: pendientes, activos y finalizados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsultasBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int proyectos;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int empleados;
+
+    private HomeSolution homeSolution;
+
+    @Setup
+    public void preparar() throws Exception {
+        homeSolution = new HomeSolution();
+        Escenarios.registrarEmpleados(homeSolution, empleados);
+        Escenarios.registrarProyectos(homeSolution, proyectos, 1);
+
+        //un proyecto de una sola tarea pasa a activo al asignarla; finalizar la tarea
+        //libera al empleado, asi la proxima asignacion vuelve a encontrar libre al primero
+        for (int numero = 1; numero <= proyectos; numero++) {
+            if (numero % 3 == 0) {
+                continue;	//queda pendiente
+            }
+            homeSolution.asignarResponsableEnTarea(numero, "Tarea0");
+            homeSolution.finalizarTarea(numero, "Tarea0");
+            if (numero % 3 == 2) {
+                homeSolution.finalizarProyecto(numero, "2030-01-01");
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Tupla<Integer, String>> proyectosPendientes() {
+        return homeSolution.proyectosPendientes();
+    }
+
+    @Benchmark
+    public List<Tupla<Integer, String>> proyectosActivos() {
+        return homeSolution.proyectosActivos();
+    }
+
+    @Benchmark
+    public List<Tupla<Integer, String>> proyectosFinalizados() {
+        return homeSolution.proyectosFinalizados();
+    }
+
+    @Benchmark
+    public Object[] empleadosNoAsignados() {
+        return homeSolution.empleadosNoAsignados();
+    }
+}
@@ -0,0 +1,63 @@
+package rendimiento;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.Estado;
+import entidades.Proyecto;
+
+/**
+ * Mide el calculo de costos que hay detras de costoProyecto: Proyecto.calcularCostoTotal
+ * sobre un proyecto activo (se recalcula en cada llamada) y getCostoFinal sobre uno
+ * finalizado (devuelve el costoFinal guardado).
+ * Los proyectos se arman directamente para no depender del costo de asignar por HomeSolution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CostoProyectoBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int tareas;
+
+    //cantidad de empleados distintos que trabajaron en el proyecto
+    @Param({"10", "1000"})
+    public int empleados;
+
+    private Proyecto proyectoActivo;
+    private Proyecto proyectoFinalizado;
+
+    @Setup
+    public void preparar() {
+        proyectoActivo = Escenarios.proyectoAsignado(tareas, empleados);
+        proyectoActivo.setEstado(Estado.activo);
+
+        proyectoFinalizado = Escenarios.proyectoAsignado(tareas, empleados);
+        proyectoFinalizado.setEstado(Estado.activo);
+        proyectoFinalizado.finalizarProyecto("2030-01-01");
+    }
+
+    @Benchmark
+    public double calcularCostoTotal() {
+        return proyectoActivo.calcularCostoTotal();
+    }
+
+    @Benchmark
+    public double costoProyectoFinalizado() {
+        return proyectoFinalizado.getCostoFinal();
+    }
+}
@@ -0,0 +1,81 @@
+package rendimiento;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.CalculoCostosMasivo;
+import entidades.HomeSolution;
+import entidades.Instantanea;
+
+/**
+ * Mide el recorrido de costos de fin de mes sobre todos los proyectos de una instantanea, en serie
+ * (hilos=0, un for comun por numero de proyecto) y con CalculoCostosMasivo en un ForkJoinPool de
+ * "hilos" hilos. El sumidero solo suma los costos, asi se mide el reparto y no la exportacion.
+ * La aceleracion depende de los nucleos de la maquina: con uno solo no hay mejora.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CostosMasivosBenchmark {
+
+    @Param({"10000", "100000"})
+    public int proyectos;
+
+    @Param({"10"})
+    public int tareas;
+
+    @Param({"0", "1", "2", "4"})
+    public int hilos;
+
+    private Instantanea instantanea;
+    private ForkJoinPool pool;
+    private CalculoCostosMasivo calculo;
+
+    @Setup
+    public void preparar() {
+        HomeSolution homeSolution = new HomeSolution();
+        Escenarios.registrarProyectos(homeSolution, proyectos, tareas);
+        instantanea = homeSolution.instantanea();
+        if (hilos > 0) {
+            pool = new ForkJoinPool(hilos);
+            calculo = new CalculoCostosMasivo(pool);
+        }
+    }
+
+    @TearDown
+    public void cerrar() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long recalcularTodos() {
+        LongAdder total = new LongAdder();
+        if (hilos == 0) {
+            for (int numero = 1; numero <= proyectos; numero++) {
+                total.add(instantanea.costoProyectoEnMilesimos(numero));
+            }
+        } else {
+            calculo.calcular(instantanea, (numero, costo, estado) -> total.add(costo));
+        }
+        return total.sum();
+    }
+}
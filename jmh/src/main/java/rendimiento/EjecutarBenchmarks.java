@@ -0,0 +1,24 @@
+package rendimiento;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar.
+ * Acepta las mismas opciones que el Main de JMH (filtro por nombre, -p, -f, -wi, etc.)
+ * y agrega siempre el profiler de GC, para que cada resultado informe tambien
+ * la tasa de asignacion de memoria (gc.alloc.rate y gc.alloc.rate.norm).
+ */
+public class EjecutarBenchmarks {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        Options opciones = new OptionsBuilder()
+                .parent(lineaDeComandos)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opciones).run();
+    }
+}
@@ -0,0 +1,92 @@
+package rendimiento;
+
+import entidades.Cliente;
+import entidades.Empleado;
+import entidades.EmpleadoContratado;
+import entidades.EmpleadoDePlanta;
+import entidades.HomeSolution;
+import entidades.Proyecto;
+import entidades.Tarea;
+
+/**
+ * Arma los datos iniciales que usan los benchmarks.
+ * Todo se carga por la interfaz publica para medir el mismo camino que usa la GUI,
+ * salvo los proyectos "sueltos" que se arman directamente para medir el calculo de costos.
+ */
+public final class Escenarios {
+    static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+    static final String INICIO = "2025-12-01";
+    static final String FIN = "2025-12-05";
+    private static final String[] CATEGORIAS = {"INICIAL", "TECNICO", "EXPERTO"};
+
+    private Escenarios() {
+    }
+
+    //registra empleados alternando contratados y de planta
+    static void registrarEmpleados(HomeSolution homeSolution, int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            if (i % 2 == 0) {
+                homeSolution.registrarEmpleado("Empleado" + i, 15000);
+            } else {
+                homeSolution.registrarEmpleado("Empleado" + i, 50000, CATEGORIAS[i % CATEGORIAS.length]);
+            }
+        }
+    }
+
+    static String[] titulos(int cantidad) {
+        String[] titulos = new String[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            titulos[i] = "Tarea" + i;
+        }
+        return titulos;
+    }
+
+    static String[] descripciones(int cantidad) {
+        String[] descripciones = new String[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            descripciones[i] = "";
+        }
+        return descripciones;
+    }
+
+    static double[] duraciones(int cantidad) {
+        double[] dias = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            dias[i] = (i % 4) + 0.5;	//mezcla medios dias y dias completos
+        }
+        return dias;
+    }
+
+    //registra la cantidad pedida de proyectos con la misma cantidad de tareas
+    static void registrarProyectos(HomeSolution homeSolution, int cantidad, int tareasPorProyecto) {
+        String[] titulos = titulos(tareasPorProyecto);
+        String[] descripciones = descripciones(tareasPorProyecto);
+        double[] dias = duraciones(tareasPorProyecto);
+        for (int i = 0; i < cantidad; i++) {
+            homeSolution.registrarProyecto(titulos, descripciones, dias, "Calle " + i, CLIENTE, INICIO, FIN);
+        }
+    }
+
+    /**
+     * Arma un proyecto fuera de HomeSolution con todas sus tareas asignadas
+     * a "responsables" empleados distintos (por turnos), mitad de planta y mitad contratados.
+     */
+    static Proyecto proyectoAsignado(int tareas, int responsables) {
+        Proyecto proyecto = new Proyecto(1, "San Martin 1000", new Cliente(CLIENTE[0], CLIENTE[1], CLIENTE[2]), INICIO, FIN);
+        Empleado[] empleados = new Empleado[responsables];
+        for (int i = 0; i < responsables; i++) {
+            if (i % 2 == 0) {
+                empleados[i] = new EmpleadoContratado("Empleado" + i, 1000 + i, 15000);
+            } else {
+                empleados[i] = new EmpleadoDePlanta("Empleado" + i, 1000 + i, 50000, CATEGORIAS[i % CATEGORIAS.length]);
+            }
+        }
+        double[] dias = duraciones(tareas);
+        for (int i = 0; i < tareas; i++) {
+            Tarea tarea = new Tarea("Tarea" + i, "", dias[i]);
+            proyecto.agregarTarea(tarea);
+            proyecto.asignarEmpleadoATarea(tarea, empleados[i % responsables]);
+        }
+        return proyecto;
+    }
+}
@@ -0,0 +1,57 @@
+package rendimiento;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entidades.HomeSolution;
+
+/**
+ * Mide registrarProyecto sobre un HomeSolution que ya tiene "proyectos" cargados.
+ * El sistema se vuelve a armar en cada iteracion para que no crezca sin limite durante la medicion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistroProyectoBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int proyectos;
+
+    @Param({"10", "1000"})
+    public int tareas;
+
+    private HomeSolution homeSolution;
+    private String[] titulos;
+    private String[] descripciones;
+    private double[] dias;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        homeSolution = new HomeSolution();
+        Escenarios.registrarProyectos(homeSolution, proyectos, 1);
+        titulos = Escenarios.titulos(tareas);
+        descripciones = Escenarios.descripciones(tareas);
+        dias = Escenarios.duraciones(tareas);
+    }
+
+    @Benchmark
+    public void registrarProyecto() {
+        homeSolution.registrarProyecto(titulos, descripciones, dias, "San Martin 1000",
+                Escenarios.CLIENTE, Escenarios.INICIO, Escenarios.FIN);
+    }
+}
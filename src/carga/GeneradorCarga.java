@@ -0,0 +1,249 @@
+package carga;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Genera secuencias de operaciones reproducibles (misma semilla = misma secuencia)
+ * con proporciones configurables por tipo y sesgo hacia los proyectos mas recientes.
+ *
+ * Lleva un modelo simple de lo que ya emitio (proyectos registrados, tareas asignadas,
+ * proyectos finalizados) para que la mayoria de las operaciones sean validas si se
+ * reproducen en orden sobre un sistema nuevo. Los numeros de proyecto se suponen
+ * consecutivos desde 1, como los genera HomeSolution.
+ */
+public class GeneradorCarga {
+    private static final int MAX_INTENTOS = 8;
+
+    //DATOS
+    private final Random random;
+    private final EnumMap<TipoOperacion, Double> proporciones;
+    private final double sesgo;
+    private final int tareasPorProyecto;
+
+    private final List<ProyectoModelo> proyectos;
+    private int empleadosEmitidos;
+    private double totalProporciones;
+
+    //CONSTRUCTOR
+    /**
+     * @param semilla Semilla del generador.
+     * @param proporciones Peso relativo de cada tipo de operacion (los que no esten no se emiten).
+     * @param sesgo 0 = proyectos elegidos uniformemente; cuanto mayor, mas se concentra en los recientes.
+     * @param tareasPorProyecto Tareas con las que se registra cada proyecto nuevo.
+     */
+    public GeneradorCarga(long semilla, Map<TipoOperacion, Double> proporciones, double sesgo, int tareasPorProyecto) {
+        if (proporciones == null || proporciones.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos una proporcion");
+        }
+        if (sesgo < 0) {
+            throw new IllegalArgumentException("El sesgo no puede ser negativo");
+        }
+        if (tareasPorProyecto <= 0) {
+            throw new IllegalArgumentException("Las tareas por proyecto deben ser mayores a 0");
+        }
+        this.random = new Random(semilla);
+        this.proporciones = new EnumMap<>(TipoOperacion.class);
+        for (Map.Entry<TipoOperacion, Double> e : proporciones.entrySet()) {
+            if (e.getValue() < 0) {
+                throw new IllegalArgumentException("La proporcion de " + e.getKey() + " no puede ser negativa");
+            }
+            this.proporciones.put(e.getKey(), e.getValue());
+            this.totalProporciones += e.getValue();
+        }
+        if (this.totalProporciones <= 0) {
+            throw new IllegalArgumentException("La suma de las proporciones debe ser mayor a 0");
+        }
+        this.sesgo = sesgo;
+        this.tareasPorProyecto = tareasPorProyecto;
+        this.proyectos = new ArrayList<>();
+        this.empleadosEmitidos = 0;
+    }
+
+    /**
+     * Mezcla por defecto: mayormente asignaciones y lecturas de reportes,
+     * con algo de altas, retrasos, reasignaciones y finalizaciones.
+     */
+    public static Map<TipoOperacion, Double> proporcionesPorDefecto() {
+        EnumMap<TipoOperacion, Double> proporciones = new EnumMap<>(TipoOperacion.class);
+        proporciones.put(TipoOperacion.REGISTRAR_EMPLEADO, 2.0);
+        proporciones.put(TipoOperacion.REGISTRAR_PROYECTO, 5.0);
+        proporciones.put(TipoOperacion.AGREGAR_TAREA, 3.0);
+        proporciones.put(TipoOperacion.ASIGNAR, 15.0);
+        proporciones.put(TipoOperacion.ASIGNAR_MENOS_RETRASO, 10.0);
+        proporciones.put(TipoOperacion.REGISTRAR_RETRASO, 10.0);
+        proporciones.put(TipoOperacion.REASIGNAR, 5.0);
+        proporciones.put(TipoOperacion.FINALIZAR_TAREA, 10.0);
+        proporciones.put(TipoOperacion.FINALIZAR_PROYECTO, 5.0);
+        proporciones.put(TipoOperacion.CONSULTAR_PROYECTO, 20.0);
+        proporciones.put(TipoOperacion.LISTAR, 15.0);
+        return proporciones;
+    }
+
+    // ------------------------------ GENERACION ------------------------------
+
+    /**
+     * Operaciones para cargar datos iniciales: primero los empleados y despues los proyectos.
+     * Se reproducen antes de la medicion.
+     */
+    public List<Operacion> generarCargaInicial(int empleados, int proyectos) {
+        List<Operacion> operaciones = new ArrayList<>(empleados + proyectos);
+        for (int i = 0; i < empleados; i++) {
+            operaciones.add(nuevoEmpleado());
+        }
+        for (int i = 0; i < proyectos; i++) {
+            operaciones.add(nuevoProyecto());
+        }
+        return operaciones;
+    }
+
+    public List<Operacion> generar(int cantidad) {
+        List<Operacion> operaciones = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            operaciones.add(siguiente());
+        }
+        return operaciones;
+    }
+
+    public Operacion siguiente() {
+        Operacion operacion = generar(elegirTipo());
+        if (operacion == null) {	//no hay ningun proyecto donde tenga sentido: se registra uno nuevo
+            operacion = nuevoProyecto();
+        }
+        return operacion;
+    }
+
+    private TipoOperacion elegirTipo() {
+        double r = random.nextDouble() * totalProporciones;
+        TipoOperacion ultimo = null;
+        for (Map.Entry<TipoOperacion, Double> e : proporciones.entrySet()) {
+            r -= e.getValue();
+            ultimo = e.getKey();
+            if (r < 0 && e.getValue() > 0) {
+                return e.getKey();
+            }
+        }
+        return ultimo;
+    }
+
+    private Operacion generar(TipoOperacion tipo) {
+        ProyectoModelo p;
+        switch (tipo) {
+            case REGISTRAR_EMPLEADO:
+                return nuevoEmpleado();
+            case REGISTRAR_PROYECTO:
+                return nuevoProyecto();
+            case AGREGAR_TAREA:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                p.tareas++;
+                return new Operacion(tipo, p.numero, Operacion.tituloTarea(p.tareas - 1), 1 + random.nextInt(4));
+            case ASIGNAR:
+            case ASIGNAR_MENOS_RETRASO:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                p.asignadas++;
+                return new Operacion(tipo, p.numero, Operacion.tituloTarea(p.asignadas - 1), 0);
+            case REGISTRAR_RETRASO:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                return new Operacion(tipo, p.numero, tareaAsignada(p), 1 + random.nextInt(3));
+            case REASIGNAR:
+            case FINALIZAR_TAREA:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                return new Operacion(tipo, p.numero, tareaAsignada(p), 0);
+            case FINALIZAR_PROYECTO:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                p.finalizado = true;
+                return new Operacion(tipo, p.numero, null, 0);
+            case CONSULTAR_PROYECTO:
+                p = elegirProyecto(tipo);
+                if (p == null) return null;
+                return new Operacion(tipo, p.numero, null, 0);
+            case LISTAR:
+                return new Operacion(tipo, 0, null, random.nextInt(4));
+        }
+        return null;
+    }
+
+    private Operacion nuevoEmpleado() {
+        int i = empleadosEmitidos++;
+        String nombre = "Empleado" + i;
+        if (random.nextBoolean()) {
+            return new Operacion(TipoOperacion.REGISTRAR_EMPLEADO, -1, nombre, 10000 + random.nextInt(10000));
+        }
+        return new Operacion(TipoOperacion.REGISTRAR_EMPLEADO, random.nextInt(3), nombre, 40000 + random.nextInt(40000));
+    }
+
+    private Operacion nuevoProyecto() {
+        ProyectoModelo p = new ProyectoModelo(proyectos.size() + 1, tareasPorProyecto);
+        proyectos.add(p);
+        return new Operacion(TipoOperacion.REGISTRAR_PROYECTO, tareasPorProyecto, "Calle " + p.numero, 0);
+    }
+
+    private String tareaAsignada(ProyectoModelo p) {
+        return Operacion.tituloTarea(random.nextInt(p.asignadas));
+    }
+
+    /**
+     * Elige un proyecto con sesgo hacia los mas recientes, probando algunas veces
+     * hasta encontrar uno donde la operacion tenga sentido.
+     */
+    private ProyectoModelo elegirProyecto(TipoOperacion tipo) {
+        if (proyectos.isEmpty()) {
+            return null;
+        }
+        for (int intento = 0; intento < MAX_INTENTOS; intento++) {
+            ProyectoModelo p = proyectos.get(indiceSesgado(proyectos.size()));
+            if (admite(p, tipo)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    private int indiceSesgado(int cantidad) {
+        //u^(1+sesgo) se concentra cerca de 0: se cuenta desde el final para favorecer a los recientes
+        double u = Math.pow(random.nextDouble(), 1 + sesgo);
+        int desdeElFinal = (int) (u * cantidad);
+        return cantidad - 1 - Math.min(desdeElFinal, cantidad - 1);
+    }
+
+    private static boolean admite(ProyectoModelo p, TipoOperacion tipo) {
+        switch (tipo) {
+            case AGREGAR_TAREA:
+                return !p.finalizado;
+            case ASIGNAR:
+            case ASIGNAR_MENOS_RETRASO:
+                return !p.finalizado && p.asignadas < p.tareas;
+            case REGISTRAR_RETRASO:
+            case REASIGNAR:
+            case FINALIZAR_TAREA:
+                return !p.finalizado && p.asignadas > 0;
+            case FINALIZAR_PROYECTO:
+                return !p.finalizado && p.asignadas == p.tareas;
+            default:
+                return true;
+        }
+    }
+
+    //lo que el generador sabe de cada proyecto que emitio
+    private static class ProyectoModelo {
+        private final int numero;
+        private int tareas;
+        private int asignadas;
+        private boolean finalizado;
+
+        ProyectoModelo(int numero, int tareas) {
+            this.numero = numero;
+            this.tareas = tareas;
+            this.asignadas = 0;
+            this.finalizado = false;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package carga;
+
+import entidades.IHomeSolution;
+
+/**
+ * Una operacion de la carga: que metodo de IHomeSolution llamar y con que datos.
+ * Es inmutable y se puede pasar a una linea de texto y volver a leer,
+ * para guardar un escenario y reproducirlo mas tarde.
+ */
+public final class Operacion {
+    static final String[] CLIENTE = {"Cliente", "cliente@mail.com", "123456"};
+    static final String INICIO = "2025-01-01";
+    static final String FIN = "2025-01-10";
+    static final String FIN_REAL = "2026-01-01";
+    private static final String[] CATEGORIAS = {"INICIAL", "TECNICO", "EXPERTO"};
+
+    //DATOS
+    private final TipoOperacion tipo;
+    private final int numero;		//numero de proyecto (o cantidad de tareas al registrar un proyecto)
+    private final String titulo;	//titulo de la tarea, o nombre al registrar un empleado
+    private final double valor;		//dias, valor del empleado o variante de la consulta
+
+    //CONSTRUCTOR
+    public Operacion(TipoOperacion tipo, int numero, String titulo, double valor) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo de operacion no puede ser nulo");
+        }
+        this.tipo = tipo;
+        this.numero = numero;
+        this.titulo = titulo;
+        this.valor = valor;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public TipoOperacion getTipo() {
+        return tipo;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public double getValor() {
+        return valor;
+    }
+
+    // ------------------------------ EJECUCION  ------------------------------
+
+    /**
+     * Ejecuta la operacion sobre el sistema. Las excepciones del sistema se propagan
+     * (por ejemplo "No hay empleados disponibles") y las cuenta quien reproduce la carga.
+     * @return Lo que devuelve el sistema en las consultas y asignaciones, null en el resto.
+     */
+    public Object ejecutar(IHomeSolution sistema) throws Exception {
+        switch (tipo) {
+            case REGISTRAR_EMPLEADO:
+                if (numero < 0) {	//numero negativo = contratado, si no indica la categoria
+                    sistema.registrarEmpleado(titulo, valor);
+                } else {
+                    sistema.registrarEmpleado(titulo, valor, CATEGORIAS[numero % CATEGORIAS.length]);
+                }
+                return null;
+            case REGISTRAR_PROYECTO:
+                sistema.registrarProyecto(titulos(numero), descripciones(numero), duraciones(numero),
+                        titulo, CLIENTE, INICIO, FIN);
+                return null;
+            case AGREGAR_TAREA:
+                sistema.agregarTareaEnProyecto(numero, titulo, "", valor);
+                return null;
+            case ASIGNAR:	//sin excepciones: quedarse sin empleados es un caso normal de la carga
+                return sistema.intentarAsignarResponsableEnTarea(numero, titulo);
+            case ASIGNAR_MENOS_RETRASO:
+                return sistema.intentarAsignarResponsableMenosRetraso(numero, titulo);
+            case REGISTRAR_RETRASO:
+                sistema.registrarRetrasoEnTarea(numero, titulo, valor);
+                return null;
+            case REASIGNAR:
+                sistema.reasignarEmpleadoConMenosRetraso(numero, titulo);
+                return null;
+            case FINALIZAR_TAREA:
+                sistema.finalizarTarea(numero, titulo);
+                return null;
+            case FINALIZAR_PROYECTO:
+                sistema.finalizarProyecto(numero, FIN_REAL);
+                return null;
+            case CONSULTAR_PROYECTO:
+                sistema.costoProyecto(numero);
+                return sistema.consultarProyecto(numero);	//el texto ya incluye el costo
+            case LISTAR:
+                return listar(sistema, (int) valor);
+        }
+        return null;
+    }
+
+    private static Object listar(IHomeSolution sistema, int variante) {
+        switch (variante % 4) {
+            case 0:
+                return sistema.proyectosActivos();
+            case 1:
+                return sistema.proyectosPendientes();
+            case 2:
+                return sistema.proyectosFinalizados();
+            default:
+                return sistema.empleadosNoAsignados();
+        }
+    }
+
+    //las tareas de un proyecto generado se llaman Tarea0, Tarea1, ...
+    static String tituloTarea(int indice) {
+        return "Tarea" + indice;
+    }
+
+    private static String[] titulos(int cantidad) {
+        String[] titulos = new String[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            titulos[i] = tituloTarea(i);
+        }
+        return titulos;
+    }
+
+    private static String[] descripciones(int cantidad) {
+        String[] descripciones = new String[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            descripciones[i] = "";
+        }
+        return descripciones;
+    }
+
+    private static double[] duraciones(int cantidad) {
+        double[] dias = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            dias[i] = (i % 4) + 0.5;
+        }
+        return dias;
+    }
+
+    // ------------------------------ TEXTO  ------------------------------
+
+    //formato: TIPO;numero;titulo;valor
+    public String aLinea() {
+        return tipo + ";" + numero + ";" + (titulo == null ? "" : titulo) + ";" + valor;
+    }
+
+    public static Operacion desdeLinea(String linea) {
+        String[] partes = linea.split(";", -1);
+        if (partes.length != 4) {
+            throw new IllegalArgumentException("Linea de operacion invalida: " + linea);
+        }
+        String titulo = partes[2].isEmpty() ? null : partes[2];
+        return new Operacion(TipoOperacion.valueOf(partes[0]), Integer.parseInt(partes[1]), titulo,
+                Double.parseDouble(partes[3]));
+    }
+
+    @Override
+    public String toString() {
+        return aLinea();
+    }
+}
@@ -0,0 +1,168 @@
+package carga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+import entidades.IHomeSolution;
+
+/**
+ * Prueba de estres para implementaciones concurrentes de IHomeSolution.
+ *
+ * Cada ronda arma un sistema nuevo con pocos empleados y proyectos (para forzar contencion),
+ * lanza varios hilos a la vez con operaciones generadas y, al terminar, verifica:
+ * - los invariantes (VerificadorInvariantes): un empleado en una sola tarea, proyectos activos
+ *   sin tareas sin asignar, legajos y numeros de proyecto unicos, ningun empleado "perdido";
+ * - que el historial sea linealizable respecto del modelo secuencial (VerificadorLinealizabilidad),
+ *   solo si la ronda tiene a lo sumo MAX_OPERACIONES_LINEALIZABLES operaciones.
+ */
+public class PruebaEstres {
+    public static final int MAX_OPERACIONES_LINEALIZABLES = 64;
+    private static final int MAX_PASOS_BUSQUEDA = 200_000;
+    private static final int EMPLEADOS_INICIALES = 4;
+    private static final int PROYECTOS_INICIALES = 3;
+    private static final int TAREAS_POR_PROYECTO = 2;
+    private static final double SESGO = 0.5;
+
+    //DATOS
+    private final Supplier<IHomeSolution> fabricaImplementacion;
+    private final Supplier<IHomeSolution> fabricaModelo;
+    private final int hilos;
+    private final int operacionesPorHilo;
+    private final long semilla;
+
+    //CONSTRUCTOR
+    /**
+     * @param fabricaImplementacion Crea la implementacion a probar (tiene que soportar varios hilos).
+     * @param fabricaModelo Crea el modelo secuencial de referencia (por ejemplo HomeSolution::new).
+     * @param hilos Hilos que operan a la vez en cada ronda.
+     * @param operacionesPorHilo Operaciones de cada hilo en cada ronda.
+     * @param semilla Semilla de la ronda 0 (la ronda r usa semilla + r).
+     */
+    public PruebaEstres(Supplier<IHomeSolution> fabricaImplementacion, Supplier<IHomeSolution> fabricaModelo,
+                        int hilos, int operacionesPorHilo, long semilla) {
+        if (hilos <= 0 || operacionesPorHilo <= 0) {
+            throw new IllegalArgumentException("Los hilos y las operaciones por hilo deben ser mayores a 0");
+        }
+        this.fabricaImplementacion = fabricaImplementacion;
+        this.fabricaModelo = fabricaModelo;
+        this.hilos = hilos;
+        this.operacionesPorHilo = operacionesPorHilo;
+        this.semilla = semilla;
+    }
+
+    public ResultadoEstres ejecutar(int rondas) throws InterruptedException {
+        ResultadoEstres resultado = new ResultadoEstres();
+        for (int r = 0; r < rondas; r++) {
+            ejecutarRonda(r, resultado);
+        }
+        return resultado;
+    }
+
+    private void ejecutarRonda(int ronda, ResultadoEstres resultado) throws InterruptedException {
+        GeneradorCarga generador = new GeneradorCarga(semilla + ronda, GeneradorCarga.proporcionesPorDefecto(),
+                SESGO, TAREAS_POR_PROYECTO);
+        List<Operacion> inicial = generador.generarCargaInicial(EMPLEADOS_INICIALES, PROYECTOS_INICIALES);
+        List<Operacion> operaciones = generador.generar(hilos * operacionesPorHilo);
+
+        IHomeSolution sistema = fabricaImplementacion.get();
+        for (Operacion op : inicial) {
+            RegistroOperacion.ejecutarYDescribir(op, sistema);
+        }
+
+        List<RegistroOperacion> historial = ejecutarConcurrente(sistema, operaciones);
+
+        int empleados = EMPLEADOS_INICIALES + exitosas(historial, TipoOperacion.REGISTRAR_EMPLEADO);
+        int proyectos = PROYECTOS_INICIALES + exitosas(historial, TipoOperacion.REGISTRAR_PROYECTO);
+        for (String violacion : VerificadorInvariantes.verificar(sistema, empleados, proyectos)) {
+            resultado.agregarViolacion(ronda, violacion);
+        }
+
+        VerificadorLinealizabilidad.Veredicto veredicto = null;
+        if (historial.size() <= MAX_OPERACIONES_LINEALIZABLES) {
+            VerificadorLinealizabilidad verificador =
+                    new VerificadorLinealizabilidad(fabricaModelo, inicial, MAX_PASOS_BUSQUEDA);
+            veredicto = verificador.verificar(historial, VerificadorInvariantes.estadoCanonico(sistema));
+            if (veredicto == VerificadorLinealizabilidad.Veredicto.NO_LINEALIZABLE) {
+                resultado.agregarViolacion(ronda, "Historial no linealizable:\n" + describir(historial));
+            }
+        }
+        resultado.registrarRonda(historial.size(), veredicto);
+    }
+
+    private List<RegistroOperacion> ejecutarConcurrente(IHomeSolution sistema, List<Operacion> operaciones)
+            throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<List<RegistroOperacion>> porHilo = new ArrayList<>();
+        Thread[] trabajadores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            List<RegistroOperacion> propios = new ArrayList<>();
+            porHilo.add(propios);
+            int hilo = h;
+            trabajadores[h] = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = hilo; i < operaciones.size(); i += hilos) {	//reparte las operaciones por turnos
+                    Operacion op = operaciones.get(i);
+                    long inicio = System.nanoTime();
+                    String descripcion = RegistroOperacion.ejecutarYDescribir(op, sistema);
+                    propios.add(new RegistroOperacion(op, hilo, inicio, System.nanoTime(), descripcion));
+                }
+            }, "estres-" + h);
+            trabajadores[h].start();
+        }
+        largada.countDown();
+        for (Thread t : trabajadores) {
+            t.join();
+        }
+
+        List<RegistroOperacion> historial = new ArrayList<>();
+        for (List<RegistroOperacion> propios : porHilo) {
+            historial.addAll(propios);
+        }
+        return historial;
+    }
+
+    private static int exitosas(List<RegistroOperacion> historial, TipoOperacion tipo) {
+        int cantidad = 0;
+        for (RegistroOperacion r : historial) {
+            if (r.getOperacion().getTipo() == tipo && !r.fueRechazada()) {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
+
+    private static String describir(List<RegistroOperacion> historial) {
+        StringBuilder sb = new StringBuilder();
+        for (RegistroOperacion r : historial) {
+            sb.append("  ").append(r).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Uso: PruebaEstres [hilos] [operacionesPorHilo] [rondas] [sin-lock]
+     * Por defecto prueba HomeSolution envuelto en HomeSolutionSincronizada;
+     * con "sin-lock" prueba HomeSolution directamente (se espera que falle).
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int hilos = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int operacionesPorHilo = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        int rondas = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        boolean sinLock = args.length > 3 && args[3].equals("sin-lock");
+
+        Supplier<IHomeSolution> implementacion = sinLock
+                ? HomeSolution::new
+                : () -> new HomeSolutionSincronizada(new HomeSolution());
+        PruebaEstres prueba = new PruebaEstres(implementacion, HomeSolution::new, hilos, operacionesPorHilo, 1);
+        System.out.println(prueba.ejecutar(rondas));
+    }
+}
@@ -0,0 +1,119 @@
+package carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
+import entidades.Tupla;
+
+/**
+ * Una operacion del historial de una prueba concurrente: quien la ejecuto,
+ * cuando empezo y termino (System.nanoTime) y que devolvio el sistema.
+ */
+public final class RegistroOperacion {
+    //DATOS
+    private final Operacion operacion;
+    private final int hilo;
+    private final long inicio;
+    private final long fin;
+    private final String resultado;
+
+    //CONSTRUCTOR
+    public RegistroOperacion(Operacion operacion, int hilo, long inicio, long fin, String resultado) {
+        this.operacion = operacion;
+        this.hilo = hilo;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.resultado = resultado;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public Operacion getOperacion() {
+        return operacion;
+    }
+
+    public int getHilo() {
+        return hilo;
+    }
+
+    public long getInicio() {
+        return inicio;
+    }
+
+    public long getFin() {
+        return fin;
+    }
+
+    public String getResultado() {
+        return resultado;
+    }
+
+    public boolean fueRechazada() {
+        return resultado.startsWith("error:") || resultado.equals(ResultadoAsignacion.SIN_EMPLEADOS.toString())
+                || resultado.equals(ResultadoAsignacion.YA_ASIGNADA.toString())
+                || resultado.equals(ResultadoAsignacion.PROYECTO_FINALIZADO.toString());
+    }
+
+    // ------------------------------ RESULTADOS  ------------------------------
+
+    /**
+     * Ejecuta la operacion y describe lo que devolvio (o la excepcion) de forma
+     * que dos implementaciones equivalentes den el mismo texto, sin importar el orden
+     * en que recorren sus colecciones.
+     */
+    public static String ejecutarYDescribir(Operacion operacion, IHomeSolution sistema) {
+        try {
+            return describir(operacion.ejecutar(sistema));
+        } catch (Exception e) {
+            return "error:" + e.getClass().getSimpleName() + ":" + e.getMessage();
+        }
+    }
+
+    static String describir(Object resultado) {
+        if (resultado == null) {
+            return "ok";
+        }
+        if (resultado instanceof List) {
+            List<String> elementos = new ArrayList<>();
+            for (Object o : (List<?>) resultado) {
+                elementos.add(describirElemento(o));
+            }
+            Collections.sort(elementos);
+            return elementos.toString();
+        }
+        if (resultado instanceof Object[]) {
+            List<String> elementos = new ArrayList<>();
+            for (Object o : (Object[]) resultado) {
+                elementos.add(describirElemento(o));
+            }
+            Collections.sort(elementos);
+            return elementos.toString();
+        }
+        if (resultado instanceof Double) {
+            return String.format(Locale.ROOT, "%.4f", (Double) resultado);
+        }
+        if (resultado instanceof String) {	//textos de varias lineas (consultarProyecto): se ordenan las lineas
+            String[] lineas = ((String) resultado).split("\n");
+            Arrays.sort(lineas);
+            return String.join("\n", lineas);
+        }
+        return resultado.toString();
+    }
+
+    private static String describirElemento(Object o) {
+        if (o instanceof Tupla) {
+            Tupla<?, ?> t = (Tupla<?, ?>) o;
+            return t.getValor1() + "=" + t.getValor2();
+        }
+        return String.valueOf(o);
+    }
+
+    @Override
+    public String toString() {
+        return "[hilo " + hilo + "] " + operacion + " -> " + resultado.replace("\n", " | ");
+    }
+}
@@ -0,0 +1,107 @@
+package carga;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
+
+/**
+ * Reproduce una secuencia de operaciones contra cualquier IHomeSolution desde varios hilos,
+ * a un ritmo objetivo (operaciones por segundo) o lo mas rapido posible.
+ *
+ * Con ritmo objetivo la carga es de lazo abierto: la operacion i tiene un instante previsto
+ * (inicio + i / ritmo) y su latencia se mide desde ese instante, no desde que un hilo la tomo.
+ * Asi, si el sistema se atrasa, la espera acumulada aparece en la latencia de cola.
+ *
+ * El sistema tiene que soportar acceso concurrente si se usa mas de un hilo
+ * (por ejemplo envolviendo HomeSolution en HomeSolutionSincronizada).
+ */
+public class ReproductorCarga {
+    //DATOS
+    private final IHomeSolution sistema;
+    private final int hilos;
+    private final double operacionesPorSegundo;
+
+    //CONSTRUCTOR
+    /**
+     * @param sistema Sistema sobre el que se ejecutan las operaciones.
+     * @param hilos Cantidad de hilos que ejecutan operaciones.
+     * @param operacionesPorSegundo Ritmo objetivo; 0 o menos = sin limite.
+     */
+    public ReproductorCarga(IHomeSolution sistema, int hilos, double operacionesPorSegundo) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser nulo");
+        }
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0");
+        }
+        this.sistema = sistema;
+        this.hilos = hilos;
+        this.operacionesPorSegundo = operacionesPorSegundo;
+    }
+
+    /**
+     * Ejecuta en orden y en el hilo actual, sin medir (para la carga inicial).
+     * @return Cantidad de operaciones rechazadas por el sistema.
+     */
+    public int preparar(List<Operacion> operaciones) {
+        int rechazadas = 0;
+        for (Operacion op : operaciones) {
+            try {
+                Object resultado = op.ejecutar(sistema);
+                if (resultado instanceof ResultadoAsignacion && !((ResultadoAsignacion) resultado).fueAsignado()) {
+                    rechazadas++;
+                }
+            } catch (Exception e) {
+                rechazadas++;
+            }
+        }
+        return rechazadas;
+    }
+
+    public ResultadoCarga reproducir(List<Operacion> operaciones) throws InterruptedException {
+        int total = operaciones.size();
+        long[] latencias = new long[total];
+        boolean[] rechazadas = new boolean[total];
+        AtomicInteger siguiente = new AtomicInteger();
+        long nanosEntreOperaciones = operacionesPorSegundo > 0 ? (long) (1_000_000_000L / operacionesPorSegundo) : 0;
+
+        long inicio = System.nanoTime();
+        Thread[] trabajadores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            trabajadores[h] = new Thread(() -> {
+                int i;
+                while ((i = siguiente.getAndIncrement()) < total) {
+                    long previsto = inicio + i * nanosEntreOperaciones;
+                    esperarHasta(previsto);
+                    long comienzo = nanosEntreOperaciones > 0 ? previsto : System.nanoTime();
+                    try {
+                        Object resultado = operaciones.get(i).ejecutar(sistema);
+                        if (resultado instanceof ResultadoAsignacion) {
+                            rechazadas[i] = !((ResultadoAsignacion) resultado).fueAsignado();
+                        }
+                    } catch (Exception e) {
+                        rechazadas[i] = true;	//rechazo del sistema (sin empleados, estado invalido, etc.)
+                    }
+                    latencias[i] = System.nanoTime() - comienzo;
+                }
+            }, "carga-" + h);
+            trabajadores[h].start();
+        }
+        for (Thread t : trabajadores) {
+            t.join();
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        return new ResultadoCarga(operaciones, latencias, rechazadas, duracion);
+    }
+
+    private static void esperarHasta(long instante) {
+        long falta;
+        while ((falta = instante - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(falta);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package carga;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de reproducir una carga: throughput sostenido, latencias
+ * (percentiles de cola) y operaciones rechazadas por tipo.
+ */
+public class ResultadoCarga {
+    //DATOS
+    private final int operaciones;
+    private final int rechazadas;
+    private final long duracionNanos;
+    private final long[] latenciasOrdenadas;
+    private final EnumMap<TipoOperacion, Integer> cantidadPorTipo;
+    private final EnumMap<TipoOperacion, Integer> rechazadasPorTipo;
+
+    //CONSTRUCTOR
+    ResultadoCarga(List<Operacion> ejecutadas, long[] latencias, boolean[] rechazos, long duracionNanos) {
+        this.operaciones = ejecutadas.size();
+        this.duracionNanos = duracionNanos;
+        this.latenciasOrdenadas = latencias.clone();
+        Arrays.sort(this.latenciasOrdenadas);
+
+        this.cantidadPorTipo = new EnumMap<>(TipoOperacion.class);
+        this.rechazadasPorTipo = new EnumMap<>(TipoOperacion.class);
+        int totalRechazadas = 0;
+        for (int i = 0; i < operaciones; i++) {
+            TipoOperacion tipo = ejecutadas.get(i).getTipo();
+            cantidadPorTipo.merge(tipo, 1, Integer::sum);
+            if (rechazos[i]) {
+                rechazadasPorTipo.merge(tipo, 1, Integer::sum);
+                totalRechazadas++;
+            }
+        }
+        this.rechazadas = totalRechazadas;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public int getOperaciones() {
+        return operaciones;
+    }
+
+    public int getRechazadas() {
+        return rechazadas;
+    }
+
+    public long getDuracionNanos() {
+        return duracionNanos;
+    }
+
+    public Map<TipoOperacion, Integer> getRechazadasPorTipo() {
+        return new EnumMap<>(rechazadasPorTipo);
+    }
+
+    public double operacionesPorSegundo() {
+        if (duracionNanos == 0) {
+            return 0;
+        }
+        return operaciones * 1_000_000_000.0 / duracionNanos;
+    }
+
+    /**
+     * @param percentil Entre 0 y 100 (por ejemplo 99.9).
+     * @return Latencia en nanosegundos.
+     */
+    public long latenciaPercentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        if (latenciasOrdenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100 * latenciasOrdenadas.length) - 1;
+        return latenciasOrdenadas[Math.max(0, indice)];
+    }
+
+    public long latenciaMaxima() {
+        return latenciasOrdenadas.length == 0 ? 0 : latenciasOrdenadas[latenciasOrdenadas.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Operaciones: ").append(operaciones);
+        sb.append(" (rechazadas: ").append(rechazadas).append(")\n");
+        sb.append("Duracion: ").append(String.format("%.3f", duracionNanos / 1e9)).append(" s\n");
+        sb.append("Throughput: ").append(String.format("%.1f", operacionesPorSegundo())).append(" ops/s\n");
+        sb.append("Latencia (us) p50: ").append(micros(latenciaPercentil(50)));
+        sb.append("  p90: ").append(micros(latenciaPercentil(90)));
+        sb.append("  p99: ").append(micros(latenciaPercentil(99)));
+        sb.append("  p99.9: ").append(micros(latenciaPercentil(99.9)));
+        sb.append("  max: ").append(micros(latenciaMaxima())).append("\n");
+        for (Map.Entry<TipoOperacion, Integer> e : cantidadPorTipo.entrySet()) {
+            sb.append("  ").append(e.getKey()).append(": ").append(e.getValue());
+            sb.append(" (rechazadas: ").append(rechazadasPorTipo.getOrDefault(e.getKey(), 0)).append(")\n");
+        }
+        return sb.toString();
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f", nanos / 1000.0);
+    }
+}
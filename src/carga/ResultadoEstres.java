@@ -0,0 +1,75 @@
+package carga;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lo que encontro una PruebaEstres: violaciones de invariantes o de linealizabilidad por ronda.
+ */
+public class ResultadoEstres {
+    private static final int MAX_VIOLACIONES_EN_TEXTO = 10;
+
+    //DATOS
+    private int rondas;
+    private int operaciones;
+    private int linealizables;
+    private int inconclusas;
+    private final List<String> violaciones;
+
+    //CONSTRUCTOR
+    public ResultadoEstres() {
+        this.violaciones = new ArrayList<>();
+    }
+
+    void registrarRonda(int operacionesRonda, VerificadorLinealizabilidad.Veredicto veredicto) {
+        this.rondas++;
+        this.operaciones += operacionesRonda;
+        if (veredicto == VerificadorLinealizabilidad.Veredicto.LINEALIZABLE) {
+            this.linealizables++;
+        } else if (veredicto == VerificadorLinealizabilidad.Veredicto.INCONCLUSO) {
+            this.inconclusas++;
+        }
+    }
+
+    void agregarViolacion(int ronda, String violacion) {
+        this.violaciones.add("Ronda " + ronda + ": " + violacion);
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public int getRondas() {
+        return rondas;
+    }
+
+    public int getOperaciones() {
+        return operaciones;
+    }
+
+    public int getLinealizables() {
+        return linealizables;
+    }
+
+    public int getInconclusas() {
+        return inconclusas;
+    }
+
+    public List<String> getViolaciones() {
+        return new ArrayList<>(violaciones);
+    }
+
+    public boolean sinViolaciones() {
+        return violaciones.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Rondas: ").append(rondas).append(" (operaciones: ").append(operaciones).append(")\n");
+        sb.append("Historiales linealizables: ").append(linealizables);
+        sb.append(", inconclusos: ").append(inconclusas).append('\n');
+        sb.append("Violaciones: ").append(violaciones.size()).append('\n');
+        for (int i = 0; i < violaciones.size() && i < MAX_VIOLACIONES_EN_TEXTO; i++) {
+            sb.append(violaciones.get(i)).append('\n');
+        }
+        return sb.toString();
+    }
+}
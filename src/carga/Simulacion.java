@@ -0,0 +1,78 @@
+package carga;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+
+/**
+ * Corre una carga sintetica contra HomeSolution (sincronizado) e imprime el resultado.
+ *
+ * Uso: Simulacion [semilla] [operaciones] [hilos] [opsPorSegundo] [archivo]
+ * Si se indica un archivo y existe, se reproduce el escenario guardado en el;
+ * si no existe, el escenario generado se guarda ahi para poder repetirlo.
+ */
+public class Simulacion {
+    private static final int EMPLEADOS_INICIALES = 200;
+    private static final int PROYECTOS_INICIALES = 500;
+    private static final int TAREAS_POR_PROYECTO = 4;
+    private static final double SESGO = 1.5;
+
+    public static void main(String[] args) throws Exception {
+        long semilla = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        int cantidad = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int hilos = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        double ritmo = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+        Path archivo = args.length > 4 ? Paths.get(args[4]) : null;
+
+        List<Operacion> inicial;
+        List<Operacion> operaciones;
+        if (archivo != null && Files.exists(archivo)) {
+            List<Operacion> todas = cargar(archivo);
+            int separador = EMPLEADOS_INICIALES + PROYECTOS_INICIALES;
+            inicial = todas.subList(0, separador);
+            operaciones = todas.subList(separador, todas.size());
+        } else {
+            GeneradorCarga generador = new GeneradorCarga(semilla, GeneradorCarga.proporcionesPorDefecto(),
+                    SESGO, TAREAS_POR_PROYECTO);
+            inicial = generador.generarCargaInicial(EMPLEADOS_INICIALES, PROYECTOS_INICIALES);
+            operaciones = generador.generar(cantidad);
+            if (archivo != null) {
+                List<Operacion> todas = new ArrayList<>(inicial);
+                todas.addAll(operaciones);
+                guardar(todas, archivo);
+            }
+        }
+
+        ReproductorCarga reproductor = new ReproductorCarga(new HomeSolutionSincronizada(new HomeSolution()), hilos, ritmo);
+        reproductor.preparar(inicial);
+        ResultadoCarga resultado = reproductor.reproducir(operaciones);
+        System.out.println(resultado);
+    }
+
+    // ------------------------------ ESCENARIOS EN ARCHIVO ------------------------------
+
+    public static void guardar(List<Operacion> operaciones, Path archivo) throws IOException {
+        List<String> lineas = new ArrayList<>(operaciones.size());
+        for (Operacion op : operaciones) {
+            lineas.add(op.aLinea());
+        }
+        Files.write(archivo, lineas, StandardCharsets.UTF_8);
+    }
+
+    public static List<Operacion> cargar(Path archivo) throws IOException {
+        List<Operacion> operaciones = new ArrayList<>();
+        for (String linea : Files.readAllLines(archivo, StandardCharsets.UTF_8)) {
+            if (!linea.isEmpty()) {
+                operaciones.add(Operacion.desdeLinea(linea));
+            }
+        }
+        return operaciones;
+    }
+}
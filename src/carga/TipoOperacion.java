@@ -0,0 +1,18 @@
+package carga;
+
+/**
+ * Tipos de operacion que puede emitir el generador de carga.
+ */
+public enum TipoOperacion {
+    REGISTRAR_EMPLEADO,
+    REGISTRAR_PROYECTO,
+    AGREGAR_TAREA,
+    ASIGNAR,
+    ASIGNAR_MENOS_RETRASO,
+    REGISTRAR_RETRASO,
+    REASIGNAR,
+    FINALIZAR_TAREA,
+    FINALIZAR_PROYECTO,
+    CONSULTAR_PROYECTO,	//costoProyecto y consultarProyecto de un proyecto
+    LISTAR				//listados por estado y empleados no asignados
+}
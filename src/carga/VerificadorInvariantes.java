@@ -0,0 +1,148 @@
+package carga;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import entidades.Estado;
+import entidades.IHomeSolution;
+import entidades.Tarea;
+import entidades.Tupla;
+
+/**
+ * Verifica el IREP de un IHomeSolution "en reposo" (sin operaciones en curso),
+ * usando solo la interfaz publica.
+ */
+public final class VerificadorInvariantes {
+
+    private VerificadorInvariantes() {
+    }
+
+    /**
+     * @param empleadosEsperados Empleados que se registraron con exito.
+     * @param proyectosEsperados Proyectos que se registraron con exito.
+     * @return Descripcion de cada invariante violado (vacia si esta todo bien).
+     */
+    public static List<String> verificar(IHomeSolution sistema, int empleadosEsperados, int proyectosEsperados) {
+        List<String> violaciones = new ArrayList<>();
+
+        //legajos unicos y sin perdidas
+        Set<Integer> legajos = new HashSet<>();
+        for (Tupla<Integer, String> e : sistema.empleados()) {
+            if (!legajos.add(e.getValor1())) {
+                violaciones.add("Legajo duplicado: " + e.getValor1());
+            }
+        }
+        if (legajos.size() != empleadosEsperados) {
+            violaciones.add("Se esperaban " + empleadosEsperados + " empleados y hay " + legajos.size());
+        }
+
+        //numeros de proyecto unicos y cada proyecto en un solo estado
+        Map<Integer, String> estados = estadosDeProyectos(sistema, violaciones);
+        if (estados.size() != proyectosEsperados) {
+            violaciones.add("Se esperaban " + proyectosEsperados + " proyectos y hay " + estados.size());
+        }
+
+        Set<Integer> libres = new HashSet<>();
+        for (Object o : sistema.empleadosNoAsignados()) {
+            libres.add(Integer.parseInt(o.toString()));
+        }
+
+        //un empleado trabaja en una sola tarea a la vez, y si trabaja no figura como libre
+        Map<Integer, String> ocupados = new HashMap<>();
+        for (Map.Entry<Integer, String> p : estados.entrySet()) {
+            int numero = p.getKey();
+            for (Object o : sistema.tareasDeUnProyecto(numero)) {
+                Tarea t = (Tarea) o;
+                if (!t.getEstado().equals(Estado.activo)) {
+                    continue;
+                }
+                if (t.getResponsable() == null) {
+                    violaciones.add("Tarea activa sin responsable: proyecto " + numero + " " + t.getTituloID());
+                    continue;
+                }
+                int legajo = t.getResponsable().getNumLegajo();
+                String donde = "proyecto " + numero + " " + t.getTituloID();
+                String anterior = ocupados.put(legajo, donde);
+                if (anterior != null) {
+                    violaciones.add("Empleado " + legajo + " asignado a dos tareas: " + anterior + " y " + donde);
+                }
+                if (libres.contains(legajo)) {
+                    violaciones.add("Empleado " + legajo + " figura libre pero trabaja en " + donde);
+                }
+            }
+
+            //un proyecto activo tiene todas sus tareas asignadas
+            if (p.getValue().equals(Estado.activo) && sistema.tareasProyectoNoAsignadas(numero).length > 0) {
+                violaciones.add("Proyecto " + numero + " activo con tareas sin asignar");
+            }
+        }
+
+        //un empleado que no esta libre tiene que estar trabajando en alguna tarea
+        for (Integer legajo : legajos) {
+            if (!libres.contains(legajo) && !ocupados.containsKey(legajo)) {
+                violaciones.add("Empleado " + legajo + " ocupado sin ninguna tarea activa");
+            }
+        }
+        return violaciones;
+    }
+
+    /**
+     * Describe todo el estado observable del sistema en un texto ordenado,
+     * para comparar una implementacion con el modelo secuencial.
+     */
+    public static String estadoCanonico(IHomeSolution sistema) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Integer, String> p : estadosDeProyectos(sistema, new ArrayList<>()).entrySet()) {
+            int numero = p.getKey();
+            sb.append("P").append(numero).append(' ').append(p.getValue()).append(' ');
+            sb.append(String.format(Locale.ROOT, "%.4f", sistema.costoProyecto(numero))).append('\n');
+            sb.append(RegistroOperacion.describir(sistema.consultarProyecto(numero))).append('\n');	//incluye las fechas
+            TreeMap<String, String> tareas = new TreeMap<>();
+            for (Object o : sistema.tareasDeUnProyecto(numero)) {
+                Tarea t = (Tarea) o;
+                String responsable = t.getResponsable() == null ? "-" : String.valueOf(t.getResponsable().getNumLegajo());
+                tareas.put(t.getTituloID(), t.getEstado() + " " + responsable + " " + t.getDiasTotales());
+            }
+            for (Map.Entry<String, String> t : tareas.entrySet()) {
+                sb.append("  ").append(t.getKey()).append(' ').append(t.getValue()).append('\n');
+            }
+        }
+        Set<String> libres = new HashSet<>();
+        for (Object o : sistema.empleadosNoAsignados()) {
+            libres.add(o.toString());
+        }
+        TreeMap<Integer, String> empleados = new TreeMap<>();
+        for (Tupla<Integer, String> e : sistema.empleados()) {
+            empleados.put(e.getValor1(), e.getValor2() + " " + (libres.contains(e.getValor1().toString()) ? "libre" : "ocupado")
+                    + " " + sistema.consultarCantidadRetrasosEmpleado(e.getValor1()));
+        }
+        for (Map.Entry<Integer, String> e : empleados.entrySet()) {
+            sb.append("E").append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static Map<Integer, String> estadosDeProyectos(IHomeSolution sistema, List<String> violaciones) {
+        TreeMap<Integer, String> estados = new TreeMap<>();
+        agregarEstados(estados, sistema.proyectosPendientes(), Estado.pendiente, violaciones);
+        agregarEstados(estados, sistema.proyectosActivos(), Estado.activo, violaciones);
+        agregarEstados(estados, sistema.proyectosFinalizados(), Estado.finalizado, violaciones);
+        return estados;
+    }
+
+    private static void agregarEstados(Map<Integer, String> estados, List<Tupla<Integer, String>> lista,
+                                       String estado, List<String> violaciones) {
+        for (Tupla<Integer, String> p : lista) {
+            String anterior = estados.put(p.getValor1(), estado);
+            if (anterior != null) {
+                violaciones.add("Proyecto " + p.getValor1() + " listado como " + anterior + " y " + estado);
+            }
+        }
+    }
+}
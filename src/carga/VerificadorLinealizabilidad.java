@@ -0,0 +1,129 @@
+package carga;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import entidades.IHomeSolution;
+
+/**
+ * Decide si un historial concurrente es linealizable respecto de un modelo secuencial
+ * (por ejemplo un HomeSolution nuevo): busca un orden total de las operaciones que respete
+ * el tiempo real (si A termino antes de que empiece B, A va primero) y en el que el modelo
+ * devuelva exactamente lo que devolvio la implementacion, terminando en el mismo estado.
+ *
+ * Es la busqueda de Wing y Gong con memoria de estados ya visitados. El modelo no se puede
+ * copiar, asi que cada paso lo reconstruye reproduciendo el prefijo: sirve para historiales
+ * chicos (decenas de operaciones), que es como lo usa PruebaEstres.
+ */
+public class VerificadorLinealizabilidad {
+
+    public enum Veredicto {
+        LINEALIZABLE,
+        NO_LINEALIZABLE,
+        INCONCLUSO	//se supero el limite de busqueda
+    }
+
+    //DATOS
+    private final Supplier<IHomeSolution> fabricaModelo;
+    private final List<Operacion> inicial;
+    private final int maxPasos;
+
+    //CONSTRUCTOR
+    /**
+     * @param fabricaModelo Crea instancias nuevas del modelo secuencial.
+     * @param inicial Operaciones que se aplicaron antes del historial (en orden).
+     * @param maxPasos Cantidad maxima de operaciones a probar antes de abandonar.
+     */
+    public VerificadorLinealizabilidad(Supplier<IHomeSolution> fabricaModelo, List<Operacion> inicial, int maxPasos) {
+        this.fabricaModelo = fabricaModelo;
+        this.inicial = inicial;
+        this.maxPasos = maxPasos;
+    }
+
+    public Veredicto verificar(List<RegistroOperacion> historial, String estadoFinal) {
+        Busqueda busqueda = new Busqueda(historial, estadoFinal);
+        try {
+            return busqueda.buscar(0) ? Veredicto.LINEALIZABLE : Veredicto.NO_LINEALIZABLE;
+        } catch (LimiteSuperado e) {
+            return Veredicto.INCONCLUSO;
+        }
+    }
+
+    private IHomeSolution reconstruir(List<RegistroOperacion> historial, int[] orden, int largo) {
+        IHomeSolution modelo = fabricaModelo.get();
+        for (Operacion op : inicial) {
+            RegistroOperacion.ejecutarYDescribir(op, modelo);
+        }
+        for (int i = 0; i < largo; i++) {
+            RegistroOperacion.ejecutarYDescribir(historial.get(orden[i]).getOperacion(), modelo);
+        }
+        return modelo;
+    }
+
+    private class Busqueda {
+        private final List<RegistroOperacion> historial;
+        private final String estadoFinal;
+        private final BitSet hechas;
+        private final int[] orden;
+        private final Set<String> visitados;
+        private int pasos;
+
+        Busqueda(List<RegistroOperacion> historial, String estadoFinal) {
+            this.historial = historial;
+            this.estadoFinal = estadoFinal;
+            this.hechas = new BitSet(historial.size());
+            this.orden = new int[historial.size()];
+            this.visitados = new HashSet<>();
+            this.pasos = 0;
+        }
+
+        boolean buscar(int largo) {
+            int n = historial.size();
+            if (largo == n) {
+                return VerificadorInvariantes.estadoCanonico(reconstruir(historial, orden, largo)).equals(estadoFinal);
+            }
+
+            //una operacion puede ir ahora si ninguna pendiente termino antes de que ella empiece
+            long primerFin = Long.MAX_VALUE;
+            for (int i = hechas.nextClearBit(0); i < n; i = hechas.nextClearBit(i + 1)) {
+                primerFin = Math.min(primerFin, historial.get(i).getFin());
+            }
+
+            for (int i = hechas.nextClearBit(0); i < n; i = hechas.nextClearBit(i + 1)) {
+                RegistroOperacion candidata = historial.get(i);
+                if (candidata.getInicio() > primerFin) {
+                    continue;
+                }
+                if (++pasos > maxPasos) {
+                    throw new LimiteSuperado();
+                }
+                IHomeSolution modelo = reconstruir(historial, orden, largo);
+                String resultado = RegistroOperacion.ejecutarYDescribir(candidata.getOperacion(), modelo);
+                if (!resultado.equals(candidata.getResultado())) {
+                    continue;
+                }
+                hechas.set(i);
+                String clave = hechas + "|" + VerificadorInvariantes.estadoCanonico(modelo);
+                if (visitados.add(clave)) {
+                    orden[largo] = i;
+                    if (buscar(largo + 1)) {
+                        return true;
+                    }
+                }
+                hechas.clear(i);
+            }
+            return false;
+        }
+    }
+
+    private static class LimiteSuperado extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        LimiteSuperado() {
+            super(null, null, false, false);	//sin stack trace: es control de flujo
+        }
+    }
+}
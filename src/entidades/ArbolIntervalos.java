@@ -0,0 +1,182 @@
+package entidades;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * Arbol de intervalos cerrados [desde, hasta] de dias (LocalDate.toEpochDay), cada uno de un empleado.
+ *
+ * Es un treap (arbol binario de busqueda con prioridades al azar, asi queda balanceado en promedio)
+ * ordenado por inicio, donde cada nodo guarda ademas el fin mas grande de su subarbol. Con eso una
+ * consulta por superposicion descarta subarboles enteros: los que terminan antes del rango y los que
+ * empiezan despues. Agregar y quitar cuestan O(log n) y listar los k intervalos que tocan un rango,
+ * O(log n + k).
+ */
+public class ArbolIntervalos {
+    private static final class Nodo {
+        private final long desde;
+        private final long hasta;
+        private final int legajo;
+        private final int prioridad;
+        private long maxHasta;	//fin mas grande de este subarbol
+        private Nodo izq;
+        private Nodo der;
+
+        Nodo(long desde, long hasta, int legajo, int prioridad) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.legajo = legajo;
+            this.prioridad = prioridad;
+            this.maxHasta = hasta;
+        }
+    }
+
+    //DATOS
+    private Nodo raiz;
+    private int tamanio;
+    private final Random azar;
+
+    //CONSTRUCTOR
+    public ArbolIntervalos() {
+        this.raiz = null;
+        this.tamanio = 0;
+        this.azar = new Random(31);	//semilla fija: la forma del arbol se repite entre corridas
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    public void agregar(long desde, long hasta, int legajo) {
+        if (hasta < desde) {
+            throw new IllegalArgumentException("El intervalo termina antes de empezar");
+        }
+        raiz = insertar(raiz, new Nodo(desde, hasta, legajo, azar.nextInt()));
+        tamanio++;
+    }
+
+    public boolean quitar(long desde, long hasta, int legajo) {	//false si no estaba
+        int antes = tamanio;
+        raiz = borrar(raiz, desde, hasta, legajo);
+        return tamanio < antes;
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    /**
+     * Llama a accion con el legajo de cada intervalo que comparte al menos un dia con [desde, hasta].
+     * Un legajo aparece una vez por intervalo que se superpone.
+     */
+    public void superpuestos(long desde, long hasta, IntConsumer accion) {
+        buscar(raiz, desde, hasta, accion);
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private void buscar(Nodo nodo, long desde, long hasta, IntConsumer accion) {
+        if (nodo == null || nodo.maxHasta < desde) {	//todo el subarbol termina antes del rango
+            return;
+        }
+        buscar(nodo.izq, desde, hasta, accion);
+        if (nodo.desde > hasta) {	//este y los de la derecha empiezan despues del rango
+            return;
+        }
+        if (nodo.hasta >= desde) {
+            accion.accept(nodo.legajo);
+        }
+        buscar(nodo.der, desde, hasta, accion);
+    }
+
+    private Nodo insertar(Nodo nodo, Nodo nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (comparar(nuevo.desde, nuevo.legajo, nuevo.hasta, nodo) < 0) {
+            nodo.izq = insertar(nodo.izq, nuevo);
+            if (nodo.izq.prioridad > nodo.prioridad) {
+                nodo = rotarDerecha(nodo);
+            }
+        } else {
+            nodo.der = insertar(nodo.der, nuevo);
+            if (nodo.der.prioridad > nodo.prioridad) {
+                nodo = rotarIzquierda(nodo);
+            }
+        }
+        recalcular(nodo);
+        return nodo;
+    }
+
+    private Nodo borrar(Nodo nodo, long desde, long hasta, int legajo) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = comparar(desde, legajo, hasta, nodo);
+        if (comparacion == 0) {
+            tamanio--;
+            return unir(nodo.izq, nodo.der);
+        }
+        if (comparacion < 0) {
+            nodo.izq = borrar(nodo.izq, desde, hasta, legajo);
+        } else {
+            nodo.der = borrar(nodo.der, desde, hasta, legajo);
+        }
+        recalcular(nodo);
+        return nodo;
+    }
+
+    private Nodo unir(Nodo a, Nodo b) {	//todos los de a van antes que los de b
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.prioridad > b.prioridad) {
+            a.der = unir(a.der, b);
+            recalcular(a);
+            return a;
+        }
+        b.izq = unir(a, b.izq);
+        recalcular(b);
+        return b;
+    }
+
+    private Nodo rotarDerecha(Nodo nodo) {
+        Nodo hijo = nodo.izq;
+        nodo.izq = hijo.der;
+        hijo.der = nodo;
+        recalcular(nodo);
+        recalcular(hijo);
+        return hijo;
+    }
+
+    private Nodo rotarIzquierda(Nodo nodo) {
+        Nodo hijo = nodo.der;
+        nodo.der = hijo.izq;
+        hijo.izq = nodo;
+        recalcular(nodo);
+        recalcular(hijo);
+        return hijo;
+    }
+
+    private static void recalcular(Nodo nodo) {
+        long max = nodo.hasta;
+        if (nodo.izq != null) {
+            max = Math.max(max, nodo.izq.maxHasta);
+        }
+        if (nodo.der != null) {
+            max = Math.max(max, nodo.der.maxHasta);
+        }
+        nodo.maxHasta = max;
+    }
+
+    private static int comparar(long desde, int legajo, long hasta, Nodo nodo) {	//por inicio, legajo y fin
+        int comparacion = Long.compare(desde, nodo.desde);
+        if (comparacion == 0) {
+            comparacion = Integer.compare(legajo, nodo.legajo);
+        }
+        return comparacion != 0 ? comparacion : Long.compare(hasta, nodo.hasta);
+    }
+}
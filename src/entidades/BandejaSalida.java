@@ -0,0 +1,66 @@
+package entidades;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bandeja de salida de notificaciones a clientes.
+ *
+ * HomeSolution agrega una notificacion en el mismo paso en que publica el cambio que la origina,
+ * asi que solo se encolan avisos de operaciones que se completaron. Agregar es un offer sobre una
+ * cola sin locks: la operacion no espera a ningun envio. Un DespachadorNotificaciones la vacia
+ * desde su propio hilo.
+ *
+ * Mientras no haya un despachador conectado HomeSolution no encola nada, para que la cola
+ * no crezca sin que nadie la lea.
+ */
+public final class BandejaSalida {
+    //DATOS
+    private final ConcurrentLinkedQueue<Notificacion> cola;
+    private final AtomicInteger tamanio;	//size() de la cola es O(n)
+    private volatile boolean conectada;
+
+    //CONSTRUCTOR
+    public BandejaSalida() {
+        this.cola = new ConcurrentLinkedQueue<>();
+        this.tamanio = new AtomicInteger();
+        this.conectada = false;
+    }
+
+    void agregar(Notificacion notificacion) {
+        cola.offer(notificacion);
+        tamanio.incrementAndGet();
+    }
+
+    /**
+     * Pasa a destino hasta maximo notificaciones, en el orden en que se agregaron.
+     * @return Cantidad de notificaciones que se sacaron.
+     */
+    int tomar(List<Notificacion> destino, int maximo) {
+        int tomadas = 0;
+        Notificacion notificacion;
+        while (tomadas < maximo && (notificacion = cola.poll()) != null) {
+            destino.add(notificacion);
+            tomadas++;
+        }
+        tamanio.addAndGet(-tomadas);
+        return tomadas;
+    }
+
+    void conectar() {
+        conectada = true;
+    }
+
+    void desconectar() {
+        conectada = false;
+    }
+
+    public boolean estaConectada() {
+        return conectada;
+    }
+
+    public int tamanio() {
+        return tamanio.get();
+    }
+}
@@ -0,0 +1,74 @@
+package entidades;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Manda el costo de todos los proyectos de una instantanea al sumidero, en paralelo con un ForkJoinPool.
+ *
+ * Los proyectos se parten a la mitad hasta llegar a tramos de UMBRAL; cada tramo manda sus filas al
+ * sumidero sin pasar por una lista intermedia, asi que lo que se reparte entre los nucleos es el trabajo
+ * del sumidero (por ejemplo la exportacion de fin de mes).
+ *
+ * Lee solo la instantanea, que es inmutable: todas las filas son del mismo estado del sistema y las
+ * escrituras siguen mientras tanto, sin importar por que fachada se use HomeSolution.
+ */
+public class CalculoCostosMasivo {
+    static final int UMBRAL = 256;	//proyectos por tramo; por debajo el reparto cuesta mas de lo que ahorra
+
+    //DATOS
+    private final ForkJoinPool pool;
+
+    //CONSTRUCTOR
+    public CalculoCostosMasivo(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Manda al sumidero (numero, costo en milesimos, estado) de cada proyecto de la instantanea. El costo
+     * es el mismo que devuelve costoProyecto: el actual para los no finalizados y el final para los finalizados.
+     * @return Cantidad de filas enviadas.
+     */
+    public int calcular(Instantanea instantanea, SumideroCostos sumidero) {
+        if (instantanea == null || sumidero == null) {
+            throw new IllegalArgumentException("La instantanea y el sumidero no pueden ser nulos");
+        }
+        VistaProyecto[] proyectos = instantanea.vistasProyectos();
+        return pool.invoke(new Tramo(proyectos, 0, proyectos.length, sumidero));
+    }
+
+    private static final class Tramo extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final VistaProyecto[] proyectos;
+        private final int desde;
+        private final int hasta;	//exclusivo
+        private final SumideroCostos sumidero;
+
+        Tramo(VistaProyecto[] proyectos, int desde, int hasta, SumideroCostos sumidero) {
+            this.proyectos = proyectos;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.sumidero = sumidero;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hasta - desde <= UMBRAL) {
+                for (int i = desde; i < hasta; i++) {
+                    VistaProyecto p = proyectos[i];
+                    sumidero.aceptar(p.getNumID(), p.getCostoEnMilesimos(), p.getEstado());
+                }
+                return hasta - desde;
+            }
+            int medio = (desde + hasta) >>> 1;
+            Tramo izquierda = new Tramo(proyectos, desde, medio, sumidero);
+            izquierda.fork();	//la otra mitad la hace este mismo hilo
+            int derecha = new Tramo(proyectos, medio, hasta, sumidero).compute();
+            return izquierda.join() + derecha;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Ausencias de los empleados (vacaciones, licencias, francos) como intervalos de dias.
+ *
+ * Cada empleado tiene sus ausencias en un TreeMap de inicio a fin, unidas para que no se superpongan
+ * ni se toquen; asi saber si un empleado esta libre en un rango es un floorEntry, O(log m).
+ * Las mismas ausencias estan en un ArbolIntervalos comun a todos: los que faltan en un rango salen en
+ * O(log n + k), con k los que faltan, sin mirar el calendario de cada empleado.
+ */
+public class CalendarioDisponibilidad {
+    //DATOS
+    private HashMap<Integer, TreeMap<Long, Long>> ausencias;	//legajo -> inicio -> fin (dias, ambos incluidos)
+    private ArbolIntervalos arbol;
+
+    //CONSTRUCTOR
+    public CalendarioDisponibilidad() {
+        this.ausencias = new HashMap<>();
+        this.arbol = new ArbolIntervalos();
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    public void registrarAusencia(int legajo, LocalDate desde, LocalDate hasta) {	//ambas incluidas
+        validarRango(desde, hasta);
+        TreeMap<Long, Long> propias = ausencias.computeIfAbsent(legajo, k -> new TreeMap<>());
+        long inicio = desde.toEpochDay();
+        long fin = hasta.toEpochDay();
+        //absorbe las que se superponen o quedan pegadas, de la ultima hacia atras
+        Map.Entry<Long, Long> otra = propias.floorEntry(fin + 1);
+        while (otra != null && otra.getValue() >= inicio - 1) {
+            quitar(legajo, propias, otra);
+            inicio = Math.min(inicio, otra.getKey());
+            fin = Math.max(fin, otra.getValue());
+            otra = propias.floorEntry(fin + 1);
+        }
+        propias.put(inicio, fin);
+        arbol.agregar(inicio, fin, legajo);
+    }
+
+    public void cancelarAusencia(int legajo, LocalDate desde, LocalDate hasta) {	//los dias fuera del rango siguen
+        validarRango(desde, hasta);
+        TreeMap<Long, Long> propias = ausencias.get(legajo);
+        if (propias == null) {
+            return;
+        }
+        long inicio = desde.toEpochDay();
+        long fin = hasta.toEpochDay();
+        List<long[]> restos = new ArrayList<>(2);
+        Map.Entry<Long, Long> otra = propias.floorEntry(fin);
+        while (otra != null && otra.getValue() >= inicio) {
+            quitar(legajo, propias, otra);
+            if (otra.getKey() < inicio) {
+                restos.add(new long[] {otra.getKey(), inicio - 1});
+            }
+            if (otra.getValue() > fin) {
+                restos.add(new long[] {fin + 1, otra.getValue()});
+            }
+            otra = propias.floorEntry(fin);
+        }
+        for (long[] resto : restos) {
+            propias.put(resto[0], resto[1]);
+            arbol.agregar(resto[0], resto[1], legajo);
+        }
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public boolean estaLibre(int legajo, LocalDate desde, LocalDate hasta) {
+        TreeMap<Long, Long> propias = ausencias.get(legajo);
+        if (propias == null) {
+            return true;
+        }
+        Map.Entry<Long, Long> ultima = propias.floorEntry(hasta.toEpochDay());	//la ultima que empieza hasta el fin
+        return ultima == null || ultima.getValue() < desde.toEpochDay();
+    }
+
+    public Set<Integer> ausentesEntre(LocalDate desde, LocalDate hasta) {
+        Set<Integer> ausentes = new HashSet<>();
+        arbol.superpuestos(desde.toEpochDay(), hasta.toEpochDay(), ausentes::add);
+        return ausentes;
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private void quitar(int legajo, TreeMap<Long, Long> propias, Map.Entry<Long, Long> ausencia) {
+        propias.remove(ausencia.getKey());
+        arbol.quitar(ausencia.getKey(), ausencia.getValue(), legajo);
+    }
+
+    private static void validarRango(LocalDate desde, LocalDate hasta) {
+        if (desde == null || hasta == null || hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("El rango de fechas no es válido");
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package entidades;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cola de comandos con un solo escritor, al estilo disruptor, delante de un IHomeSolution
+ * sin sincronizar.
+ *
+ * Cada modificacion se guarda como comando en un buffer circular de comandos creados de antemano
+ * (no se crean objetos por operacion). Los productores reservan un lugar con un contador atomico,
+ * llenan el comando y lo publican; un unico hilo escritor los aplica en orden y por lotes,
+ * avanzando su cursor una sola vez por lote. Si el buffer se llena, los productores esperan
+ * (cediendo el procesador) a que el escritor libere lugar. Como espera el escritor cuando no hay comandos
+ * lo decide la EstrategiaEspera.
+ *
+ * Cuando un comando se aplica se llama a su Respuesta (si tiene) desde el hilo escritor,
+ * con el resultado o con la excepcion que tiro el sistema.
+ */
+public class ColaComandos implements AutoCloseable {
+    static final int CAPACIDAD_POR_DEFECTO = 1024;
+    private static final long CERRADA = Long.MIN_VALUE;	//bit de "reservado" que marca que ya no se aceptan reservas
+
+    /**
+     * Aviso de que un comando ya se aplico. Se llama en el hilo escritor, asi que tiene que ser rapido.
+     */
+    @FunctionalInterface
+    public interface Respuesta<T> {
+        void completar(T resultado, Exception error);
+    }
+
+    private enum Tipo {
+        REGISTRAR_CONTRATADO,
+        REGISTRAR_DE_PLANTA,
+        REGISTRAR_PROYECTO,
+        ASIGNAR,
+        ASIGNAR_MENOS_RETRASO,
+        REGISTRAR_RETRASO,
+        AGREGAR_TAREA,
+        FINALIZAR_TAREA,
+        FINALIZAR_PROYECTO,
+        REASIGNAR,
+        REASIGNAR_MENOS_RETRASO
+    }
+
+    //un lugar del buffer; se reutiliza en cada vuelta
+    private static final class Comando {
+        private volatile long publicado = -1;	//secuencia del comando que contiene ahora
+        private Tipo tipo;
+        private Integer numero;	//numero de proyecto
+        private Integer legajo;
+        private String texto;	//titulo de tarea, nombre del empleado o fecha de fin
+        private String categoria;	//categoria o descripcion de la tarea
+        private double valor;	//valor del empleado, dias de retraso o duracion
+        private String[] titulos;
+        private String[] descripciones;
+        private double[] dias;
+        private String domicilio;
+        private String[] cliente;
+        private String inicio;
+        private String fin;
+        private Respuesta<Object> respuesta;
+
+        private void limpiar() {	//no retener datos ya aplicados
+            texto = categoria = domicilio = inicio = fin = null;
+            numero = legajo = null;
+            titulos = descripciones = cliente = null;
+            dias = null;
+            respuesta = null;
+        }
+    }
+
+    //DATOS
+    private final IHomeSolution sistema;
+    private final Comando[] buffer;
+    private final int mascara;
+    private final EstrategiaEspera espera;
+    private final AtomicLong reservado;	//ultima secuencia reservada por un productor, con el bit CERRADA al cerrar
+    private volatile long aplicado;	//ultima secuencia aplicada por el escritor
+    private final Thread escritor;
+
+    //CONSTRUCTOR
+    public ColaComandos(IHomeSolution sistema, int capacidad, EstrategiaEspera espera) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser nulo");
+        }
+        if (capacidad <= 0 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de 2");
+        }
+        if (espera == null) {
+            throw new IllegalArgumentException("La estrategia de espera no puede ser nula");
+        }
+        this.sistema = sistema;
+        this.buffer = new Comando[capacidad];
+        for (int i = 0; i < capacidad; i++) {
+            this.buffer[i] = new Comando();
+        }
+        this.mascara = capacidad - 1;
+        this.espera = espera;
+        this.reservado = new AtomicLong(0);
+        this.aplicado = 0;
+        this.escritor = new Thread(this::procesar, "cola-comandos-escritor");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    public ColaComandos(IHomeSolution sistema) {
+        this(sistema, CAPACIDAD_POR_DEFECTO, EstrategiaEspera.DORMIR);
+    }
+
+    // ------------------------------ COMANDOS ------------------------------
+
+    public void registrarEmpleado(String nombre, double valor, Respuesta<Void> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = Tipo.REGISTRAR_CONTRATADO;
+        c.texto = nombre;
+        c.valor = valor;
+        publicar(c, secuencia, respuesta);
+    }
+
+    public void registrarEmpleado(String nombre, double valor, String categoria, Respuesta<Void> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = Tipo.REGISTRAR_DE_PLANTA;
+        c.texto = nombre;
+        c.valor = valor;
+        c.categoria = categoria;
+        publicar(c, secuencia, respuesta);
+    }
+
+    public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+                                  String[] cliente, String inicio, String fin, Respuesta<Void> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = Tipo.REGISTRAR_PROYECTO;
+        c.titulos = titulos;
+        c.descripciones = descripcion;
+        c.dias = dias;
+        c.domicilio = domicilio;
+        c.cliente = cliente;
+        c.inicio = inicio;
+        c.fin = fin;
+        publicar(c, secuencia, respuesta);
+    }
+
+    public void asignarResponsableEnTarea(Integer numero, String titulo, Respuesta<ResultadoAsignacion> respuesta) {
+        tarea(Tipo.ASIGNAR, numero, titulo, 0, respuesta);
+    }
+
+    public void asignarResponsableMenosRetraso(Integer numero, String titulo, Respuesta<ResultadoAsignacion> respuesta) {
+        tarea(Tipo.ASIGNAR_MENOS_RETRASO, numero, titulo, 0, respuesta);
+    }
+
+    public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias, Respuesta<Void> respuesta) {
+        tarea(Tipo.REGISTRAR_RETRASO, numero, titulo, cantidadDias, respuesta);
+    }
+
+    public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                       Respuesta<Void> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = Tipo.AGREGAR_TAREA;
+        c.numero = numero;
+        c.texto = titulo;
+        c.categoria = descripcion;
+        c.valor = dias;
+        publicar(c, secuencia, respuesta);
+    }
+
+    public void finalizarTarea(Integer numero, String titulo, Respuesta<Void> respuesta) {
+        tarea(Tipo.FINALIZAR_TAREA, numero, titulo, 0, respuesta);
+    }
+
+    public void finalizarProyecto(Integer numero, String fin, Respuesta<Void> respuesta) {
+        tarea(Tipo.FINALIZAR_PROYECTO, numero, fin, 0, respuesta);
+    }
+
+    public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo, Respuesta<Void> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = Tipo.REASIGNAR;
+        c.numero = numero;
+        c.legajo = legajo;
+        c.texto = titulo;
+        publicar(c, secuencia, respuesta);
+    }
+
+    public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo, Respuesta<Void> respuesta) {
+        tarea(Tipo.REASIGNAR_MENOS_RETRASO, numero, titulo, 0, respuesta);
+    }
+
+    public Instantanea instantanea() {	//los reportes no pasan por la cola
+        return sistema.instantanea();
+    }
+
+    public long getAplicados() {
+        return aplicado;
+    }
+
+    /**
+     * Deja de aceptar comandos, espera a que se apliquen los ya reservados y termina el escritor.
+     * El corte es atomico con las reservas: un comando pedido mientras se cierra o queda antes del corte,
+     * y se aplica y recibe su Respuesta, o tira IllegalStateException en el hilo que lo pidio; nunca queda
+     * reservado sin aplicar. Si interrumpen al hilo que cierra, deja de esperar (el escritor igual aplica
+     * lo reservado y termina) y le devuelve la marca de interrupcion.
+     */
+    @Override
+    public void close() {
+        reservado.getAndUpdate(r -> r | CERRADA);
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ------------------------------ PRODUCTORES ------------------------------
+
+    private void tarea(Tipo tipo, Integer numero, String texto, double valor, Respuesta<?> respuesta) {
+        long secuencia = reservar();
+        Comando c = buffer[(int) (secuencia & mascara)];
+        c.tipo = tipo;
+        c.numero = numero;
+        c.texto = texto;
+        c.valor = valor;
+        publicar(c, secuencia, respuesta);
+    }
+
+    //reserva la siguiente secuencia y espera a que su lugar este libre
+    private long reservar() {
+        long secuencia;
+        do {	//compareAndSet en vez de incrementAndGet: no puede reservar despues del corte de close()
+            long actual = reservado.get();
+            if (actual < 0) {
+                throw new IllegalStateException("La cola de comandos esta cerrada");
+            }
+            secuencia = actual + 1;
+        } while (!reservado.compareAndSet(secuencia - 1, secuencia));
+        long ocupadoHasta = secuencia - buffer.length;	//el lugar tenia el comando de la vuelta anterior
+        int intentos = 0;
+        while (ocupadoHasta > aplicado) {	//le deja el procesador al escritor, que es quien libera lugar
+            if (++intentos < 1000) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(1000);
+            }
+        }
+        return secuencia;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publicar(Comando c, long secuencia, Respuesta<?> respuesta) {
+        c.respuesta = (Respuesta<Object>) respuesta;
+        c.publicado = secuencia;	//escritura volatil: a partir de aca el escritor lo puede leer
+    }
+
+    // ------------------------------ ESCRITOR ------------------------------
+
+    private void procesar() {
+        long siguiente = 1;
+        int intentos = 0;
+        while (true) {
+            Comando c = buffer[(int) (siguiente & mascara)];
+            if (c.publicado != siguiente) {
+                long r = reservado.get();
+                if (r < 0 && (r & ~CERRADA) < siguiente) {	//cerrada y no queda nada reservado sin aplicar
+                    return;
+                }
+                espera.esperar(intentos++);
+                continue;
+            }
+            intentos = 0;
+            //aplica todo lo que ya este publicado y recien despues avanza el cursor
+            do {
+                aplicar(c);
+                siguiente++;
+                c = buffer[(int) (siguiente & mascara)];
+            } while (c.publicado == siguiente);
+            aplicado = siguiente - 1;
+        }
+    }
+
+    private void aplicar(Comando c) {
+        Object resultado = null;
+        Exception error = null;
+        try {
+            resultado = ejecutar(c);
+        } catch (Exception e) {
+            error = e;
+        }
+        Respuesta<Object> respuesta = c.respuesta;
+        c.limpiar();
+        if (respuesta != null) {
+            respuesta.completar(resultado, error);
+        }
+    }
+
+    private Object ejecutar(Comando c) throws Exception {
+        switch (c.tipo) {
+            case REGISTRAR_CONTRATADO:
+                sistema.registrarEmpleado(c.texto, c.valor);
+                return null;
+            case REGISTRAR_DE_PLANTA:
+                sistema.registrarEmpleado(c.texto, c.valor, c.categoria);
+                return null;
+            case REGISTRAR_PROYECTO:
+                sistema.registrarProyecto(c.titulos, c.descripciones, c.dias, c.domicilio, c.cliente, c.inicio, c.fin);
+                return null;
+            case ASIGNAR:
+                return sistema.intentarAsignarResponsableEnTarea(c.numero, c.texto);
+            case ASIGNAR_MENOS_RETRASO:
+                return sistema.intentarAsignarResponsableMenosRetraso(c.numero, c.texto);
+            case REGISTRAR_RETRASO:
+                sistema.registrarRetrasoEnTarea(c.numero, c.texto, c.valor);
+                return null;
+            case AGREGAR_TAREA:
+                sistema.agregarTareaEnProyecto(c.numero, c.texto, c.categoria, c.valor);
+                return null;
+            case FINALIZAR_TAREA:
+                sistema.finalizarTarea(c.numero, c.texto);
+                return null;
+            case FINALIZAR_PROYECTO:
+                sistema.finalizarProyecto(c.numero, c.texto);
+                return null;
+            case REASIGNAR:
+                sistema.reasignarEmpleadoEnProyecto(c.numero, c.legajo, c.texto);
+                return null;
+            case REASIGNAR_MENOS_RETRASO:
+                sistema.reasignarEmpleadoConMenosRetraso(c.numero, c.texto);
+                return null;
+            default:
+                throw new IllegalStateException("Comando desconocido: " + c.tipo);
+        }
+    }
+}
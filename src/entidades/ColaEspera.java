@@ -0,0 +1,199 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Tareas que se quisieron asignar y no habia nadie, esperando a que se libere un empleado.
+ *
+ * Se agrupan por la categoria minima que piden (sin minimo, INICIAL, TECNICO, EXPERTO) y dentro
+ * de cada grupo por carga; cada grupo de carga es un TreeSet en el orden de la cola. Para el empleado
+ * que se libera se miran solo los grupos que admite y las cargas que le entran, y de cada uno el
+ * primero: la cantidad de grupos no depende de cuantas tareas esperan, asi que elegir la siguiente
+ * cuesta O(log n).
+ *
+ * Con VENCIMIENTO_MAS_TEMPRANO la fecha de fin de un proyecto se puede mover mientras espera;
+ * HomeSolution llama a actualizar despues de cada cambio y las tareas de ese proyecto se reubican.
+ */
+public class ColaEspera {
+    private static final class Entrada {
+        private final Proyecto proyecto;
+        private final Tarea tarea;
+        private final long secuencia;	//orden de llegada, desempata
+        private long clave;
+
+        Entrada(Proyecto proyecto, Tarea tarea, long secuencia, long clave) {
+            this.proyecto = proyecto;
+            this.tarea = tarea;
+            this.secuencia = secuencia;
+            this.clave = clave;
+        }
+    }
+
+    private static final Comparator<Entrada> EN_ORDEN = Comparator
+            .comparingLong((Entrada e) -> e.clave)
+            .thenComparingLong(e -> e.secuencia);
+
+    //DATOS
+    private OrdenEspera orden;
+    private List<TreeMap<Integer, TreeSet<Entrada>>> porCategoria;	//uno por categoria minima: carga -> tareas en orden
+    private HashMap<Integer, HashMap<String, Entrada>> porProyecto;	//numID -> titulo -> entrada
+    private long contador;
+    private int tamanio;
+
+    //CONSTRUCTOR
+    public ColaEspera(OrdenEspera orden) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden de la cola no puede ser nulo");
+        }
+        this.orden = orden;
+        this.porCategoria = new ArrayList<>(PoolesCategoria.NIVELES.length);
+        for (int i = 0; i < PoolesCategoria.NIVELES.length; i++) {
+            this.porCategoria.add(new TreeMap<>());
+        }
+        this.porProyecto = new HashMap<>();
+        this.contador = 0;
+        this.tamanio = 0;
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    public boolean agregar(Proyecto proyecto, Tarea tarea) {	//false si ya estaba esperando
+        HashMap<String, Entrada> delProyecto = porProyecto.computeIfAbsent(proyecto.getNumID(), k -> new HashMap<>());
+        if (delProyecto.containsKey(tarea.getTituloID())) {
+            return false;
+        }
+        Entrada entrada = new Entrada(proyecto, tarea, ++contador, orden.clave(proyecto));
+        delProyecto.put(tarea.getTituloID(), entrada);
+        grupo(entrada, true).add(entrada);
+        tamanio++;
+        return true;
+    }
+
+    public boolean quitar(Proyecto proyecto, Tarea tarea) {
+        HashMap<String, Entrada> delProyecto = porProyecto.get(proyecto.getNumID());
+        if (delProyecto == null) {
+            return false;
+        }
+        Entrada entrada = delProyecto.remove(tarea.getTituloID());
+        if (entrada == null) {
+            return false;
+        }
+        if (delProyecto.isEmpty()) {
+            porProyecto.remove(proyecto.getNumID());
+        }
+        sacar(entrada);
+        tamanio--;
+        return true;
+    }
+
+    public void quitarProyecto(Proyecto proyecto) {
+        HashMap<String, Entrada> delProyecto = porProyecto.remove(proyecto.getNumID());
+        if (delProyecto == null) {
+            return;
+        }
+        for (Entrada entrada : delProyecto.values()) {
+            sacar(entrada);
+            tamanio--;
+        }
+    }
+
+    public void actualizar(Proyecto proyecto) {	//reubica sus tareas si cambio la clave del proyecto
+        HashMap<String, Entrada> delProyecto = porProyecto.get(proyecto.getNumID());
+        if (delProyecto == null) {
+            return;
+        }
+        long clave = orden.clave(proyecto);
+        for (Entrada entrada : delProyecto.values()) {
+            if (entrada.clave != clave) {
+                sacar(entrada);
+                entrada.clave = clave;
+                grupo(entrada, true).add(entrada);
+            }
+        }
+    }
+
+    public void cambiarOrden(OrdenEspera nuevoOrden) {	//las que esperan mantienen su orden de llegada
+        if (nuevoOrden == null) {
+            throw new IllegalArgumentException("El orden de la cola no puede ser nulo");
+        }
+        this.orden = nuevoOrden;
+        for (HashMap<String, Entrada> delProyecto : porProyecto.values()) {
+            for (Entrada entrada : delProyecto.values()) {
+                sacar(entrada);
+                entrada.clave = nuevoOrden.clave(entrada.proyecto);
+                grupo(entrada, true).add(entrada);
+            }
+        }
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    /**
+     * La primera tarea en el orden de la cola que el empleado puede tomar: de una categoria minima
+     * que admite y con una carga que le entra en la capacidad que le queda. No la saca de la cola.
+     * @return Tupla (proyecto, tarea), o null si no hay ninguna para el.
+     */
+    public Tupla<Proyecto, Tarea> siguientePara(Empleado empleado) {
+        int libre = empleado.getCapacidadLibre();
+        int nivel = PoolesCategoria.nivel(empleado.getCategoria());
+        Entrada mejor = null;
+        for (int i = 0; i <= nivel; i++) {
+            for (TreeSet<Entrada> grupo : porCategoria.get(i).headMap(libre, true).values()) {
+                Entrada primera = grupo.first();
+                if (mejor == null || EN_ORDEN.compare(primera, mejor) < 0) {
+                    mejor = primera;
+                }
+            }
+        }
+        return mejor == null ? null : new Tupla<>(mejor.proyecto, mejor.tarea);
+    }
+
+    public List<Tupla<Integer, String>> enOrden() {	//para reportes: ordena todo, O(n log n)
+        List<Entrada> entradas = new ArrayList<>(tamanio);
+        for (HashMap<String, Entrada> delProyecto : porProyecto.values()) {
+            entradas.addAll(delProyecto.values());
+        }
+        entradas.sort(EN_ORDEN);
+        List<Tupla<Integer, String>> lista = new ArrayList<>(entradas.size());
+        for (Entrada entrada : entradas) {
+            lista.add(new Tupla<>(entrada.proyecto.getNumID(), entrada.tarea.getTituloID()));
+        }
+        return lista;
+    }
+
+    public OrdenEspera getOrden() {
+        return orden;
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private TreeSet<Entrada> grupo(Entrada entrada, boolean crear) {
+        Tarea tarea = entrada.tarea;
+        TreeMap<Integer, TreeSet<Entrada>> porCarga = porCategoria.get(categoria(tarea));
+        if (crear) {
+            return porCarga.computeIfAbsent(tarea.getCargaEnCentesimos(), k -> new TreeSet<>(EN_ORDEN));
+        }
+        return porCarga.get(tarea.getCargaEnCentesimos());
+    }
+
+    private void sacar(Entrada entrada) {	//antes de cambiar la clave
+        TreeSet<Entrada> grupo = grupo(entrada, false);
+        grupo.remove(entrada);
+        if (grupo.isEmpty()) {	//no deja grupos vacios que despues haya que saltear
+            porCategoria.get(categoria(entrada.tarea)).remove(entrada.tarea.getCargaEnCentesimos());
+        }
+    }
+
+    private static int categoria(Tarea tarea) {	//las tareas sin minimo van con los contratados
+        return tarea.getCategoriaMinima() == null ? 0 : PoolesCategoria.nivel(tarea.getCategoriaMinima());
+    }
+}
@@ -0,0 +1,282 @@
+package entidades;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Cronograma de las tareas de un proyecto con dependencias entre ellas (metodo del camino critico).
+ *
+ * Cada tarea empieza cuando terminan todas las tareas de las que depende, y las que no dependen
+ * de nada empiezan el dia 0. Hay dos calendarios: el estimado (dias estimados de cada tarea)
+ * y el real (dias estimados mas retrasos). Como siempre se contaron las fechas del proyecto, los dias
+ * estimados se redondean hacia arriba y cada retraso tambien, por separado.
+ *
+ * Por defecto cada tarea nueva depende de la agregada antes, asi que sin definir dependencias las
+ * tareas van en fila, como siempre se calcularon las fechas del proyecto. definirDependencias
+ * reemplaza las de una tarea (sin ninguna, arranca en paralelo con el resto).
+ *
+ * Una tarea nueva solo depende de la ultima, asi que sus fechas salen de las de esa en O(1) y va al
+ * final del orden topologico. Cambiar dependencias recalcula todo en O(V + E) y deja un orden nuevo.
+ * Un retraso, que es lo frecuente, solo recorre las tareas que dependen de la retrasada y cuyo fin
+ * realmente se mueve, en ese orden, para que cada una se recalcule una sola vez.
+ */
+public class Cronograma {
+    private static final class Nodo {
+        private final Tarea tarea;
+        private final LinkedHashSet<Nodo> anteriores;	//de las que depende
+        private final LinkedHashSet<Nodo> siguientes;	//las que dependen de esta
+        private long duracionEstimada;
+        private long duracionReal;
+        private long inicioEstimado;	//dias desde el inicio del cronograma
+        private long finEstimado;
+        private long inicioReal;
+        private long finReal;
+        private int posicion;	//en el orden topologico: mayor que la de todas las tareas de las que depende
+
+        Nodo(Tarea tarea) {
+            this.tarea = tarea;
+            this.anteriores = new LinkedHashSet<>();
+            this.siguientes = new LinkedHashSet<>();
+            this.duracionEstimada = (long) Math.ceil(tarea.getDiasEstimados());
+            this.duracionReal = this.duracionEstimada;	//una tarea nueva todavia no tiene retrasos
+        }
+    }
+
+    //DATOS
+    private LinkedHashMap<String, Nodo> nodos;	//clave = titulo, en orden de alta
+    private Nodo ultimo;	//la ultima agregada: la siguiente depende de ella si no se dice otra cosa
+    private TreeMap<Long, Integer> finesReales;	//fin real -> cuantas tareas terminan ese dia
+    private long duracionEstimada;
+
+    //CONSTRUCTOR
+    public Cronograma() {
+        this.nodos = new LinkedHashMap<>();
+        this.ultimo = null;
+        this.finesReales = new TreeMap<>();
+        this.duracionEstimada = 0;
+    }
+
+    // ------------------------------ ESTRUCTURA ------------------------------
+
+    public void agregar(Tarea tarea) {
+        Nodo nodo = new Nodo(tarea);
+        if (ultimo != null) {
+            enlazar(ultimo, nodo);
+        }
+        nodo.posicion = nodos.size();	//las demas tienen posiciones menores, entre ellas la ultima
+        nodos.put(tarea.getTituloID(), nodo);
+        ultimo = nodo;
+        nodo.inicioEstimado = inicio(nodo, true);
+        nodo.finEstimado = nodo.inicioEstimado + nodo.duracionEstimada;
+        nodo.inicioReal = inicio(nodo, false);
+        nodo.finReal = nodo.inicioReal + nodo.duracionReal;
+        finesReales.merge(nodo.finReal, 1, Integer::sum);
+        duracionEstimada = Math.max(duracionEstimada, nodo.finEstimado);
+    }
+
+    /**
+     * Reemplaza las dependencias de una tarea: empieza cuando terminen todas las indicadas.
+     * @throws IllegalArgumentException si alguna tarea no existe, es la misma o se formaria un ciclo.
+     */
+    public void definirDependencias(String titulo, List<String> dependeDe) {
+        Nodo nodo = nodo(titulo);
+        List<Nodo> nuevos = new ArrayList<>(dependeDe.size());
+        for (String otro : dependeDe) {
+            Nodo anterior = nodo(otro);
+            if (anterior == nodo || alcanza(nodo, anterior)) {
+                throw new IllegalArgumentException("La tarea " + titulo + " no puede depender de " + otro + ": se formaria un ciclo");
+            }
+            nuevos.add(anterior);
+        }
+        for (Nodo anterior : nodo.anteriores) {
+            anterior.siguientes.remove(nodo);
+        }
+        nodo.anteriores.clear();
+        for (Nodo anterior : nuevos) {
+            enlazar(anterior, nodo);
+        }
+        recalcular();
+    }
+
+    // ------------------------------ RETRASOS ------------------------------
+
+    /**
+     * Suma el retraso, redondeado hacia arriba, a la duracion real de la tarea y mueve solo lo que
+     * depende de ella.
+     */
+    public void registrarRetraso(Tarea tarea, double dias) {
+        Nodo nodo = nodo(tarea.getTituloID());
+        long redondeado = (long) Math.ceil(dias);	//redondea por si llega a ser 0.5
+        if (redondeado == 0) {
+            return;
+        }
+        nodo.duracionReal += redondeado;
+        PriorityQueue<Nodo> pendientes = new PriorityQueue<>(Comparator.comparingInt((Nodo n) -> n.posicion));
+        Set<Nodo> encolados = new HashSet<>();
+        pendientes.add(nodo);
+        encolados.add(nodo);
+        while (!pendientes.isEmpty()) {
+            Nodo actual = pendientes.poll();
+            long inicio = inicio(actual, false);
+            long fin = inicio + actual.duracionReal;
+            if (actual != nodo && fin == actual.finReal) {	//absorbio el cambio con su holgura
+                continue;
+            }
+            actual.inicioReal = inicio;
+            moverFinReal(actual, fin);
+            for (Nodo siguiente : actual.siguientes) {
+                if (encolados.add(siguiente)) {
+                    pendientes.add(siguiente);
+                }
+            }
+        }
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public long getDuracionEstimada() {	//dias desde el inicio hasta que termina la ultima tarea
+        return duracionEstimada;
+    }
+
+    public long getDuracionReal() {
+        return finesReales.isEmpty() ? 0 : finesReales.lastKey();
+    }
+
+    public long inicioMasTemprano(String titulo) {	//con retrasos, en dias desde el inicio
+        return nodo(titulo).inicioReal;
+    }
+
+    public long finMasTemprano(String titulo) {
+        return nodo(titulo).finReal;
+    }
+
+    public List<String> dependenciasDe(String titulo) {
+        List<String> titulos = new ArrayList<>();
+        for (Nodo anterior : nodo(titulo).anteriores) {
+            titulos.add(anterior.tarea.getTituloID());
+        }
+        return titulos;
+    }
+
+    /**
+     * Una cadena de tareas sin holgura en el calendario real, de la primera a la ultima:
+     * retrasar cualquiera de ellas retrasa el fin del proyecto. Sale de la tarea que termina ultima
+     * y va hacia atras por la dependencia que la hace empezar cuando empieza.
+     */
+    public List<String> rutaCritica() {
+        Nodo actual = null;
+        long duracion = getDuracionReal();
+        for (Nodo nodo : nodos.values()) {
+            if (nodo.finReal == duracion) {
+                actual = nodo;
+                break;
+            }
+        }
+        List<String> ruta = new ArrayList<>();
+        while (actual != null) {
+            ruta.add(actual.tarea.getTituloID());
+            Nodo previo = null;
+            for (Nodo anterior : actual.anteriores) {
+                if (anterior.finReal == actual.inicioReal) {
+                    previo = anterior;
+                    break;
+                }
+            }
+            actual = previo;
+        }
+        Collections.reverse(ruta);
+        return ruta;
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    //orden topologico (Kahn) y las dos pasadas hacia adelante
+    private void recalcular() {
+        LinkedHashMap<Nodo, Integer> faltan = new LinkedHashMap<>();
+        Deque<Nodo> listos = new ArrayDeque<>();
+        for (Nodo nodo : nodos.values()) {
+            faltan.put(nodo, nodo.anteriores.size());
+            if (nodo.anteriores.isEmpty()) {
+                listos.add(nodo);
+            }
+        }
+        finesReales.clear();
+        duracionEstimada = 0;
+        int posicion = 0;
+        while (!listos.isEmpty()) {
+            Nodo nodo = listos.poll();
+            nodo.posicion = posicion++;
+            nodo.inicioEstimado = inicio(nodo, true);
+            nodo.finEstimado = nodo.inicioEstimado + nodo.duracionEstimada;
+            nodo.inicioReal = inicio(nodo, false);
+            nodo.finReal = nodo.inicioReal + nodo.duracionReal;
+            finesReales.merge(nodo.finReal, 1, Integer::sum);
+            duracionEstimada = Math.max(duracionEstimada, nodo.finEstimado);
+            for (Nodo siguiente : nodo.siguientes) {
+                if (faltan.merge(siguiente, -1, Integer::sum) == 0) {
+                    listos.add(siguiente);
+                }
+            }
+        }
+    }
+
+    private static long inicio(Nodo nodo, boolean estimado) {
+        long inicio = 0;
+        for (Nodo anterior : nodo.anteriores) {
+            inicio = Math.max(inicio, estimado ? anterior.finEstimado : anterior.finReal);
+        }
+        return inicio;
+    }
+
+    private void moverFinReal(Nodo nodo, long fin) {
+        int cantidad = finesReales.get(nodo.finReal);
+        if (cantidad == 1) {
+            finesReales.remove(nodo.finReal);
+        } else {
+            finesReales.put(nodo.finReal, cantidad - 1);
+        }
+        nodo.finReal = fin;
+        finesReales.merge(fin, 1, Integer::sum);
+    }
+
+    private static void enlazar(Nodo anterior, Nodo siguiente) {
+        anterior.siguientes.add(siguiente);
+        siguiente.anteriores.add(anterior);
+    }
+
+    private static boolean alcanza(Nodo desde, Nodo buscado) {	//si buscado depende (directa o indirectamente) de desde
+        Deque<Nodo> pila = new ArrayDeque<>();
+        Set<Nodo> vistos = new HashSet<>();
+        pila.push(desde);
+        while (!pila.isEmpty()) {
+            Nodo nodo = pila.pop();
+            if (nodo == buscado) {
+                return true;
+            }
+            for (Nodo siguiente : nodo.siguientes) {
+                if (vistos.add(siguiente)) {
+                    pila.push(siguiente);
+                }
+            }
+        }
+        return false;
+    }
+
+    private Nodo nodo(String titulo) {
+        Nodo nodo = nodos.get(titulo);
+        if (nodo == null) {
+            throw new IllegalArgumentException("La tarea '" + titulo + "' no existe en el proyecto");
+        }
+        return nodo;
+    }
+}
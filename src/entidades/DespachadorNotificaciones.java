@@ -0,0 +1,169 @@
+package entidades;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vacia la BandejaSalida cada cierto tiempo desde un hilo propio y manda las notificaciones
+ * por el transporte, en lotes.
+ *
+ * - Descarta repetidas: lo que espera envio se guarda por clave (ver Notificacion.getClave), asi que
+ *   el mismo aviso encolado varias veces antes de salir se manda una sola vez.
+ * - Limita la tasa con un balde de fichas: como mucho maximoPorSegundo notificaciones por segundo,
+ *   con rafagas de hasta ese mismo tamaño. Lo que no entra queda para la vuelta siguiente.
+ * - Si el transporte falla, el lote se reintenta en la vuelta siguiente sin perder el orden.
+ *
+ * Al crearse se conecta a la bandeja (desde ese momento HomeSolution encola). Al cerrarse se
+ * desconecta y manda todo lo que quedaba, respetando la tasa; lo que no pudo salir queda contado
+ * en getNoEnviadas().
+ */
+public class DespachadorNotificaciones implements AutoCloseable {
+    //DATOS
+    private final BandejaSalida bandeja;
+    private final TransporteNotificaciones transporte;
+    private final int tamanioLote;
+    private final int maximoPorSegundo;
+    private final ScheduledExecutorService timer;
+    private final LinkedHashMap<String, Notificacion> pendientes;	//clave = Notificacion.getClave(), en orden de llegada
+    private double fichas;
+    private long ultimaRecarga;	//System.nanoTime()
+    private final AtomicLong enviadas;
+    private final AtomicLong repetidas;
+    private final AtomicLong fallos;
+    private final AtomicLong noEnviadas;
+
+    //CONSTRUCTOR
+    public DespachadorNotificaciones(BandejaSalida bandeja, TransporteNotificaciones transporte, int tamanioLote,
+                                     int maximoPorSegundo, long periodo, TimeUnit unidad) {
+        if (bandeja == null || transporte == null || unidad == null) {
+            throw new IllegalArgumentException("La bandeja, el transporte y la unidad no pueden ser nulos");
+        }
+        if (tamanioLote <= 0 || maximoPorSegundo <= 0 || periodo <= 0) {
+            throw new IllegalArgumentException("El lote, la tasa y el periodo deben ser mayores a 0");
+        }
+        this.bandeja = bandeja;
+        this.transporte = transporte;
+        this.tamanioLote = tamanioLote;
+        this.maximoPorSegundo = maximoPorSegundo;
+        this.pendientes = new LinkedHashMap<>();
+        this.fichas = maximoPorSegundo;
+        this.ultimaRecarga = System.nanoTime();
+        this.enviadas = new AtomicLong();
+        this.repetidas = new AtomicLong();
+        this.fallos = new AtomicLong();
+        this.noEnviadas = new AtomicLong();
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "despachador-notificaciones");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        bandeja.conectar();
+        this.timer.scheduleWithFixedDelay(this::vuelta, periodo, periodo, unidad);
+    }
+
+    private void vuelta() {
+        try {
+            despachar();
+        } catch (RuntimeException e) {
+            //una excepcion cancelaria las vueltas siguientes: se descarta y se sigue
+        }
+    }
+
+    /**
+     * Hace una vuelta ya, sin esperar al timer: toma lo que haya en la bandeja y manda
+     * todo lo que permita la tasa.
+     * @return Cantidad de notificaciones enviadas en esta vuelta.
+     */
+    public synchronized int despachar() {
+        List<Notificacion> nuevas = new ArrayList<>();
+        bandeja.tomar(nuevas, Integer.MAX_VALUE);
+        for (Notificacion notificacion : nuevas) {
+            if (pendientes.putIfAbsent(notificacion.getClave(), notificacion) != null) {
+                repetidas.incrementAndGet();
+            }
+        }
+        recargarFichas();
+        int enviadasEnVuelta = 0;
+        while (!pendientes.isEmpty() && fichas >= 1) {
+            int cantidad = (int) Math.min(Math.min(tamanioLote, (long) fichas), pendientes.size());
+            List<Notificacion> lote = new ArrayList<>(cantidad);
+            Iterator<Notificacion> it = pendientes.values().iterator();
+            while (lote.size() < cantidad) {
+                lote.add(it.next());
+            }
+            try {
+                transporte.enviar(lote);
+            } catch (IOException e) {
+                fallos.incrementAndGet();
+                break;	//quedan en pendientes, en el mismo orden
+            }
+            for (Notificacion notificacion : lote) {
+                pendientes.remove(notificacion.getClave());
+            }
+            fichas -= cantidad;
+            enviadasEnVuelta += cantidad;
+        }
+        enviadas.addAndGet(enviadasEnVuelta);
+        return enviadasEnVuelta;
+    }
+
+    private void recargarFichas() {
+        long ahora = System.nanoTime();
+        fichas = Math.min(maximoPorSegundo, fichas + (ahora - ultimaRecarga) * maximoPorSegundo / 1e9);
+        ultimaRecarga = ahora;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public long getEnviadas() {
+        return enviadas.get();
+    }
+
+    public long getRepetidas() {	//descartadas por tener la misma clave que una que esperaba envio
+        return repetidas.get();
+    }
+
+    public long getFallos() {	//lotes que el transporte no pudo mandar
+        return fallos.get();
+    }
+
+    public synchronized int getPendientes() {
+        return pendientes.size();
+    }
+
+    public long getNoEnviadas() {	//las que quedaron sin mandar al cerrar
+        return noEnviadas.get();
+    }
+
+    /**
+     * Deja de despachar por timer, se desconecta de la bandeja y hace vueltas hasta mandar todo,
+     * esperando a tener fichas entre una y otra. Si el transporte falla o interrumpen al hilo que
+     * cierra, deja de intentar (y en el segundo caso le devuelve la marca de interrupcion): lo que
+     * no salio queda contado en getNoEnviadas().
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        bandeja.desconectar();
+        long esperaPorFicha = Math.max(1, 1000 / maximoPorSegundo);	//milisegundos
+        try {
+            while (true) {
+                long fallosAntes = fallos.get();
+                despachar();
+                if ((getPendientes() == 0 && bandeja.tamanio() == 0) || fallos.get() > fallosAntes) {
+                    break;
+                }
+                Thread.sleep(esperaPorFicha);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        noEnviadas.set(getPendientes() + bandeja.tamanio());
+    }
+}
@@ -0,0 +1,84 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Proyectos no finalizados que todavia no vencieron, ordenados por fecha real de fin (epoch day).
+ *
+ * Cada revision saca del comienzo del arbol los que vencieron desde la anterior y los marca como
+ * avisados: no se vuelve a mirar a los que ya se avisaron ni a los que vencen mas adelante, asi que
+ * una revision cuesta O(log n + vencidos nuevos) aunque haya muchos proyectos.
+ *
+ * HomeSolution llama a actualizar cuando publica un proyecto. Si un proyecto avisado corre su fecha
+ * de fin hacia el futuro (por ejemplo porque se le agrego una tarea) vuelve a quedar pendiente.
+ */
+public class DetectorVencimientos {
+    //DATOS
+    private TreeMap<Long, TreeSet<Integer>> porVencer;	//dia de fin real -> proyectos sin avisar
+    private HashMap<Integer, Long> pendientes;	//numID -> dia con el que esta en porVencer
+    private HashSet<Integer> avisados;	//vencidos ya avisados que siguen sin finalizar
+
+    //CONSTRUCTOR
+    public DetectorVencimientos() {
+        this.porVencer = new TreeMap<>();
+        this.pendientes = new HashMap<>();
+        this.avisados = new HashSet<>();
+    }
+
+    /**
+     * @param hoy Dia actual (epoch day), para saber si un proyecto avisado sigue vencido.
+     */
+    public void actualizar(Proyecto proyecto, long hoy) {
+        int numero = proyecto.getNumID();
+        Long anterior = pendientes.get(numero);
+        if (proyecto.estaFinalizado()) {	//ya no puede vencer
+            if (anterior != null) {
+                IndiceFechas.quitar(porVencer, anterior, numero);
+                pendientes.remove(numero);
+            }
+            avisados.remove(numero);
+            return;
+        }
+        long fin = proyecto.getFechaRealFin().toEpochDay();
+        if (avisados.contains(numero)) {
+            if (fin < hoy) {	//sigue vencido: no se avisa de nuevo
+                return;
+            }
+            avisados.remove(numero);
+        } else if (anterior != null) {
+            if (anterior == fin) {
+                return;
+            }
+            IndiceFechas.quitar(porVencer, anterior, numero);
+        }
+        IndiceFechas.agregar(porVencer, fin, numero);
+        pendientes.put(numero, fin);
+    }
+
+    /**
+     * Saca los proyectos cuya fecha real de fin es anterior a hoy y todavia no se avisaron.
+     * @return Tuplas (numero de proyecto, dia de fin real), del que vencio primero al ultimo.
+     */
+    public List<Tupla<Integer, Long>> vencidosAntesDe(long hoy) {
+        List<Tupla<Integer, Long>> vencidos = new ArrayList<>();
+        while (!porVencer.isEmpty() && porVencer.firstKey() < hoy) {
+            Map.Entry<Long, TreeSet<Integer>> dia = porVencer.pollFirstEntry();
+            for (Integer numero : dia.getValue()) {
+                pendientes.remove(numero);
+                avisados.add(numero);
+                vencidos.add(new Tupla<>(numero, dia.getKey()));
+            }
+        }
+        return vencidos;
+    }
+
+    public int cantidadPendientes() {
+        return pendientes.size();
+    }
+}
@@ -0,0 +1,42 @@
+package entidades;
+
+/**
+ * Montos de dinero en punto fijo: un long con milesimos de peso (1 peso = 1000).
+ *
+ * Sumar montos es exacto (no hay error de redondeo que se acumule entre proyectos) y no crea
+ * objetos, a diferencia de BigDecimal. El unico redondeo esta en los porcentajes, que se llevan
+ * al milesimo mas cercano. Los metodos con double siguen existiendo para la GUI y la interfaz.
+ */
+public final class Dinero {
+    public static final long ESCALA = 1000;	//milesimos por peso
+    static final int BASE_PORCENTAJE = 10_000;	//los porcentajes van en centesimos de punto: 2% = 200
+
+    private Dinero() {
+    }
+
+    public static long desde(double pesos) {	//al milesimo mas cercano
+        return Math.round(pesos * ESCALA);
+    }
+
+    public static double aDouble(long milesimos) {
+        return (double) milesimos / ESCALA;
+    }
+
+    /**
+     * El porcentaje de un monto, redondeado al milesimo mas cercano (las mitades hacia arriba).
+     * @param puntosBasicos Porcentaje en centesimos de punto, por ejemplo 3500 para el 35%.
+     */
+    public static long porcentaje(long milesimos, int puntosBasicos) {
+        long producto = Math.multiplyExact(milesimos, (long) puntosBasicos);
+        return Math.floorDiv(producto + BASE_PORCENTAJE / 2, BASE_PORCENTAJE);
+    }
+
+    //para los totales de muchos proyectos: como porcentaje, si no entra en un long avisa en vez de dar la vuelta
+    public static long sumar(long milesimos, long otro) {
+        return Math.addExact(milesimos, otro);
+    }
+
+    public static long restar(long milesimos, long otro) {
+        return Math.subtractExact(milesimos, otro);
+    }
+}
@@ -3,18 +3,22 @@ package entidades;
 import java.util.Objects;
 
 public abstract class Empleado {
+	static final int JORNADA = 100;	//capacidad por defecto y carga de una tarea que ocupa todo el dia
+	
 	//DATOS
 	private String nombre;
 	private int numLegajo;
-	private boolean estaDisponible;
 	private int cantRetrasos;
+	private int capacidad;	//en centesimos de jornada: 100 = una persona a tiempo completo
+	private int carga;	//suma de las cargas de sus tareas sin finalizar, en centesimos
 	
 	//CONSTRUCTOR
 	public Empleado(String nombre, int numLegajo) {
 		this.nombre = nombre;
 		this.numLegajo = numLegajo;
-		this.estaDisponible = true;
 		this.cantRetrasos = 0;
+		this.capacidad = JORNADA;
+		this.carga = 0;
 	}
 	
 	//METODOS DE GESTION COMPARTIDA entre EmpleadoContratado y EmpleadoDePlanta
@@ -27,8 +31,24 @@ public abstract class Empleado {
 		return numLegajo;
 	}
 	
-	public boolean estaDisponible() {
-		return estaDisponible;
+	public boolean estaDisponible() {	//sin ninguna tarea asignada
+		return carga == 0;
+	}
+	
+	public double getCapacidad() {
+		return capacidad / (double) JORNADA;
+	}
+	
+	public double getCarga() {
+		return carga / (double) JORNADA;
+	}
+	
+	public int getCapacidadLibre() {	//en centesimos
+		return capacidad - carga;
+	}
+	
+	public boolean puedeTomar(Tarea tarea) {	//si le queda capacidad para la carga de la tarea
+		return tarea.getCargaEnCentesimos() <= getCapacidadLibre();
 	}
 	
 	public int getCantRetrasos() {
@@ -40,19 +60,40 @@ public abstract class Empleado {
 		this.cantRetrasos++;
 	}
 	
-	public void cambiarADisponible() {
-		this.estaDisponible = true;
+	public void tomarCarga(Tarea tarea) {
+		if (!puedeTomar(tarea)) {
+			throw new IllegalStateException("El empleado " + numLegajo + " no tiene capacidad para la tarea " + tarea.getTituloID());
+		}
+		this.carga += tarea.getCargaEnCentesimos();
+	}
+	
+	public void devolverCarga(Tarea tarea) {
+		this.carga -= tarea.getCargaEnCentesimos();
+	}
+	
+	public void cambiarCapacidad(double nuevaCapacidad) {
+		int centesimos = aCentesimos(nuevaCapacidad);
+		if (centesimos <= 0 || centesimos < this.carga) {
+			throw new IllegalArgumentException("La capacidad debe ser mayor a 0 y cubrir la carga actual (" + getCarga() + ")");
+		}
+		this.capacidad = centesimos;
 	}
 	
-	public void cambiarANoDisponible() {
-		this.estaDisponible = false;
+	static int aCentesimos(double valor) {
+		return (int) Math.round(valor * JORNADA);
 	}
 	
 	public boolean tieneRetrasos() {
 		return this.cantRetrasos > 0;
 	}
 
-	public abstract double calcularCosto(double cantDias); //en cada tipo de empleado es diferente
+	public abstract long calcularCostoEnMilesimos(double cantDias); //en cada tipo de empleado es diferente (ver Dinero)
+	
+	public double calcularCosto(double cantDias) {
+		return Dinero.aDouble(this.calcularCostoEnMilesimos(cantDias));
+	}
+	
+	public abstract String getCategoria(); //INICIAL, TECNICO, EXPERTO o CONTRATADO
 	
 	@Override	//pedido por el enunciado e interfaz
 	public boolean equals(Object o) {
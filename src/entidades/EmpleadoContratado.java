@@ -1,21 +1,28 @@
 package entidades;
 
 public class EmpleadoContratado extends Empleado {
+	public static final String CATEGORIA = "CONTRATADO";	//no tienen categoria; se agrupan aparte
+	
 	//DATOS
-	private double valorHora;
+	private long valorHora;	//en milesimos (ver Dinero)
 	
 	//CONSTRUCTOR
 	public EmpleadoContratado(String nombre, int numLegajo, double valorHora) {
 		super(nombre, numLegajo);	//llamamos al constructor padre (Empleado)
-		this.valorHora = valorHora;
+		this.valorHora = Dinero.desde(valorHora);
 	}
 	
 	//calculo espeficio
 	@Override
-	public double calcularCosto(double cantDias) {
+	public long calcularCostoEnMilesimos(double cantDias) {
 		//0.5 dia * 8 = 4h
 		//1 dia * 8 == 8h
 		//...
-		return (cantDias * 8) * this.valorHora;
+		return Math.round((cantDias * 8) * this.valorHora);	//con dias enteros o medios las horas son enteras y no redondea
+	}
+	
+	@Override
+	public String getCategoria() {
+		return CATEGORIA;
 	}
 }
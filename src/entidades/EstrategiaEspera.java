@@ -0,0 +1,46 @@
+package entidades;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Como espera el escritor de ColaComandos cuando no hay comandos nuevos.
+ * Cambia latencia por uso de CPU: OCUPADA responde antes pero deja un nucleo al 100%,
+ * y solo conviene si sobran nucleos para los productores.
+ */
+public enum EstrategiaEspera {
+    OCUPADA {	//gira sin soltar el procesador
+        @Override
+        void esperar(int intentos) {
+            Thread.onSpinWait();
+        }
+    },
+    CEDER {	//gira un rato y despues le cede el procesador a otros hilos
+        @Override
+        void esperar(int intentos) {
+            if (intentos < GIROS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+    DORMIR {	//gira, cede y al final duerme de a poco; casi no usa CPU en reposo
+        @Override
+        void esperar(int intentos) {
+            if (intentos < GIROS) {
+                Thread.onSpinWait();
+            } else if (intentos < 2 * GIROS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(50_000);
+            }
+        }
+    };
+
+    private static final int GIROS = 100;
+
+    /**
+     * @param intentos Cuantas veces seguidas se espero ya (empieza en 0).
+     */
+    abstract void esperar(int intentos);
+}
@@ -0,0 +1,85 @@
+package entidades;
+
+/**
+ * Evento inmutable emitido por HomeSolution despues de una operacion que modifica datos.
+ * Los campos que no aplican al tipo de evento quedan en null (o en 0 el valor).
+ */
+public final class EventoDominio {
+    //DATOS
+    private final long secuencia;	//posicion en el flujo, consecutiva desde 1
+    private final long version;		//version de la instantanea que ya incluye el cambio
+    private final TipoEvento tipo;
+    private final Integer numeroProyecto;
+    private final String tituloTarea;
+    private final Integer legajo;
+    private final String estado;	//estado del proyecto despues de la operacion
+    private final double valor;		//dias de retraso o costoFinal, segun el tipo
+
+    //CONSTRUCTOR
+    EventoDominio(long secuencia, long version, TipoEvento tipo, Integer numeroProyecto,
+                  String tituloTarea, Integer legajo, String estado, double valor) {
+        this.secuencia = secuencia;
+        this.version = version;
+        this.tipo = tipo;
+        this.numeroProyecto = numeroProyecto;
+        this.tituloTarea = tituloTarea;
+        this.legajo = legajo;
+        this.estado = estado;
+        this.valor = valor;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public Integer getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public String getTituloTarea() {
+        return tituloTarea;
+    }
+
+    public Integer getLegajo() {
+        return legajo;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public double getValor() {
+        return valor;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("#").append(secuencia).append(" ").append(tipo);
+        if (numeroProyecto != null) {
+            sb.append(" proyecto=").append(numeroProyecto);
+        }
+        if (tituloTarea != null) {
+            sb.append(" tarea=").append(tituloTarea);
+        }
+        if (legajo != null) {
+            sb.append(" legajo=").append(legajo);
+        }
+        if (estado != null) {
+            sb.append(" estado=").append(estado);
+        }
+        if (valor != 0) {
+            sb.append(" valor=").append(valor);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package entidades;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Flujo de eventos de dominio sobre un buffer circular de tamaño fijo.
+ *
+ * Hay un solo escritor (el hilo que esta operando sobre HomeSolution, o el que tiene el lock
+ * de HomeSolutionSincronizada) y cualquier cantidad de suscriptores, cada uno con su propio cursor.
+ * Escribir un evento es guardar una referencia en el arreglo y avanzar el cursor con una escritura
+ * volatil; si no hay suscriptores ni siquiera se crea el evento.
+ *
+ * Cuando un suscriptor se atrasa una vuelta entera del buffer, la politica de desborde decide:
+ * ESPERAR frena al escritor hasta que el mas lento lea (contrapresion), y DESCARTAR sigue
+ * escribiendo y el suscriptor atrasado saltea lo que se perdio (lo informa getPerdidos()).
+ */
+public final class FlujoEventos {
+    public enum Desborde {
+        ESPERAR,
+        DESCARTAR
+    }
+
+    static final int CAPACIDAD_POR_DEFECTO = 1024;
+
+    //DATOS
+    private final EventoDominio[] buffer;
+    private final int mascara;	//capacidad - 1, la capacidad es potencia de 2
+    private final Desborde desborde;
+    private final List<Suscripcion> suscripciones;
+    private volatile long cursor;	//secuencia del ultimo evento publicado (0 = ninguno)
+    private long limite;	//hasta donde se puede escribir sin volver a mirar a los suscriptores (solo ESPERAR)
+
+    //CONSTRUCTOR
+    public FlujoEventos(int capacidad, Desborde desborde) {
+        if (capacidad <= 0 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de 2");
+        }
+        if (desborde == null) {
+            throw new IllegalArgumentException("La politica de desborde no puede ser nula");
+        }
+        this.buffer = new EventoDominio[capacidad];
+        this.mascara = capacidad - 1;
+        this.desborde = desborde;
+        this.suscripciones = new CopyOnWriteArrayList<>();
+        this.cursor = 0;
+        this.limite = 0;
+    }
+
+    public FlujoEventos() {
+        this(CAPACIDAD_POR_DEFECTO, Desborde.DESCARTAR);
+    }
+
+    // ------------------------------ SUSCRIPTORES ------------------------------
+
+    /**
+     * Crea un suscriptor que recibe los eventos publicados desde este momento.
+     */
+    public Suscripcion suscribir() {
+        Suscripcion suscripcion = new Suscripcion(this, cursor);
+        suscripciones.add(suscripcion);
+        return suscripcion;
+    }
+
+    void cancelar(Suscripcion suscripcion) {
+        suscripciones.remove(suscripcion);
+    }
+
+    public boolean tieneSuscriptores() {
+        return !suscripciones.isEmpty();
+    }
+
+    public int getCapacidad() {
+        return buffer.length;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    // ------------------------------ ESCRITOR ------------------------------
+
+    void emitir(TipoEvento tipo, long version, Integer numeroProyecto, String tituloTarea,
+                Integer legajo, String estado, double valor) {
+        if (suscripciones.isEmpty()) {
+            return;
+        }
+        long siguiente = cursor + 1;
+        if (desborde == Desborde.ESPERAR && siguiente > limite) {
+            esperarLugar(siguiente);
+        }
+        buffer[(int) (siguiente & mascara)] = new EventoDominio(siguiente, version, tipo, numeroProyecto,
+                tituloTarea, legajo, estado, valor);
+        cursor = siguiente;	//publica el evento
+    }
+
+    //frena al escritor hasta que el suscriptor mas lento libere el lugar
+    private void esperarLugar(long siguiente) {
+        int vueltas = 0;
+        while (true) {
+            long minimo = Long.MAX_VALUE;
+            for (Suscripcion s : suscripciones) {
+                minimo = Math.min(minimo, s.getLeido());
+            }
+            if (minimo == Long.MAX_VALUE) {	//se cancelaron todos
+                limite = siguiente;
+                return;
+            }
+            limite = minimo + buffer.length;
+            if (siguiente <= limite) {
+                return;
+            }
+            if (++vueltas < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1000);
+            }
+        }
+    }
+
+    // ------------------------------ LECTURA ------------------------------
+
+    //lo usa Suscripcion; devuelve el evento de esa secuencia o null si ya fue pisado
+    EventoDominio leer(long secuencia) {
+        EventoDominio evento = buffer[(int) (secuencia & mascara)];
+        if (evento == null || evento.getSecuencia() != secuencia) {
+            return null;
+        }
+        return evento;
+    }
+}
@@ -0,0 +1,81 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Historial de cada retraso registrado, con su instante, por empleado y por categoria
+ * (la categoria de los empleados de planta, o CONTRATADO). Cada serie contesta cantidades,
+ * sumas y percentiles de una ventana de tiempo en O(log n).
+ */
+public class HistorialRetrasos {
+    public static final String CONTRATADO = EmpleadoContratado.CATEGORIA;
+
+    //DATOS
+    private HashMap<Integer, SerieRetrasos> porEmpleado;	//clave = numLegajo
+    private HashMap<String, SerieRetrasos> porCategoria;
+
+    //CONSTRUCTOR
+    public HistorialRetrasos() {
+        this.porEmpleado = new HashMap<>();
+        this.porCategoria = new HashMap<>();
+    }
+
+    public void registrar(Empleado empleado, long instante, double dias) {
+        porEmpleado.computeIfAbsent(empleado.getNumLegajo(), k -> new SerieRetrasos()).registrar(instante, dias);
+        porCategoria.computeIfAbsent(empleado.getCategoria(), k -> new SerieRetrasos()).registrar(instante, dias);
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public int contar(Integer legajo, long desde, long hasta) {
+        SerieRetrasos serie = porEmpleado.get(legajo);
+        return serie == null ? 0 : serie.contar(desde, hasta);
+    }
+
+    public double sumarDias(Integer legajo, long desde, long hasta) {
+        SerieRetrasos serie = porEmpleado.get(legajo);
+        return serie == null ? 0 : serie.sumarDias(desde, hasta);
+    }
+
+    public double percentil(Integer legajo, long desde, long hasta, double percentil) {
+        SerieRetrasos serie = porEmpleado.get(legajo);
+        return serie == null ? 0 : serie.percentil(desde, hasta, percentil);
+    }
+
+    public double percentilCategoria(String categoria, long desde, long hasta, double percentil) {
+        SerieRetrasos serie = porCategoria.get(categoria);
+        return serie == null ? 0 : serie.percentil(desde, hasta, percentil);
+    }
+
+    /**
+     * Los "cantidad" empleados con mas dias de retraso en la ventana, de mayor a menor.
+     * @return Lista de tuplas (legajo, dias de retraso).
+     */
+    public List<Tupla<Integer, Double>> masRetrasados(long desde, long hasta, int cantidad) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor a 0");
+        }
+        //se queda con los "cantidad" mayores; la cabeza es el menor de ellos
+        PriorityQueue<Tupla<Integer, Double>> mayores = new PriorityQueue<>(
+                (a, b) -> Double.compare(a.getValor2(), b.getValor2()));
+        for (Map.Entry<Integer, SerieRetrasos> e : porEmpleado.entrySet()) {
+            double dias = e.getValue().sumarDias(desde, hasta);
+            if (dias <= 0) {
+                continue;
+            }
+            if (mayores.size() < cantidad) {
+                mayores.add(new Tupla<>(e.getKey(), dias));
+            } else if (dias > mayores.peek().getValor2()) {
+                mayores.poll();
+                mayores.add(new Tupla<>(e.getKey(), dias));
+            }
+        }
+        List<Tupla<Integer, Double>> resultado = new ArrayList<>(mayores);
+        resultado.sort((a, b) -> Double.compare(b.getValor2(), a.getValor2()));
+        return resultado;
+    }
+}
@@ -1,8 +1,16 @@
 package entidades;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class HomeSolution implements IHomeSolution {
     
@@ -12,12 +20,82 @@ public class HomeSolution implements IHomeSolution {
     private int contadorLegajos;	//para que los legajos y proyectos sean unicos
     private int contadorProyectos;
     
+    //vista inmutable para reportes; se reemplaza entera al final de cada operacion que modifica datos
+    private volatile Instantanea instantanea;
+    //proyectos en los que trabajo cada empleado (clave = numLegajo), para refrescar sus vistas
+    private HashMap<Integer, Set<Integer>> proyectosPorEmpleado;
+    //eventos de dominio para sistemas externos (facturacion, avisos al cliente, etc.)
+    private final FlujoEventos eventos;
+    //cada retraso con su instante, para consultas por ventana de tiempo
+    private HistorialRetrasos historialRetrasos;
+    //riesgo de retraso de cada empleado, con los disponibles ordenados por riesgo
+    private RiesgoRetrasos riesgo;
+    //disponibles separados por categoria, para tareas con categoria minima
+    private PoolesCategoria pooles;
+    //disponibles ordenados por costo, para asignar al mas barato
+    private IndiceCosto indiceCosto;
+    //palabras de domicilio, cliente y tareas, para buscar proyectos por texto
+    private IndiceTexto indiceTexto;
+    //clientes sin repetir, con sus proyectos
+    private RegistroClientes clientes;
+    //rankings para los reportes de gerencia: empleados por retrasos, proyectos en curso por costo
+    //y proyectos por dias de desvio
+    private Ranking rankingRetrasos;
+    private Ranking rankingCostos;
+    private Ranking rankingDesvios;
+    //proyectos ordenados por fecha de inicio, de fin real y por dias de atraso
+    private IndiceFechas indiceFechas;
+    //proyectos sin finalizar que todavia no vencieron, por fecha de fin
+    private DetectorVencimientos vencimientos;
+    //ausencias programadas de los empleados (vacaciones, licencias, francos)
+    private CalendarioDisponibilidad calendario;
+    //tareas que no se pudieron asignar, esperando que se libere alguien (null = no se usa)
+    private ColaEspera colaEspera;
+    //avisos a clientes pendientes de envio (los manda un DespachadorNotificaciones)
+    private final BandejaSalida bandeja;
+    //numID -> tareas por las que ya se aviso SIN_PERSONAL y siguen sin responsable
+    private HashMap<Integer, HashSet<String>> avisadosSinPersonal;
+    private final Clock reloj;
+    
     //CONSTRUCTOR
     public HomeSolution() {
+        this(new FlujoEventos());
+    }
+    
+    public HomeSolution(FlujoEventos eventos) {
+        this(eventos, Clock.systemDefaultZone());
+    }
+    
+    public HomeSolution(FlujoEventos eventos, Clock reloj) {
+        if (eventos == null) {
+            throw new IllegalArgumentException("El flujo de eventos no puede ser nulo");
+        }
+        if (reloj == null) {
+            throw new IllegalArgumentException("El reloj no puede ser nulo");
+        }
         this.empleados = new HashMap<>();
         this.proyectos = new HashMap<>();
         this.contadorLegajos = 1000;
         this.contadorProyectos = 1;
+        this.instantanea = Instantanea.VACIA;
+        this.proyectosPorEmpleado = new HashMap<>();
+        this.eventos = eventos;
+        this.historialRetrasos = new HistorialRetrasos();
+        this.riesgo = new RiesgoRetrasos();
+        this.pooles = new PoolesCategoria();
+        this.indiceCosto = new IndiceCosto();
+        this.indiceTexto = new IndiceTexto();
+        this.clientes = new RegistroClientes();
+        this.rankingRetrasos = new Ranking();
+        this.rankingCostos = new Ranking();
+        this.rankingDesvios = new Ranking();
+        this.indiceFechas = new IndiceFechas();
+        this.vencimientos = new DetectorVencimientos();
+        this.calendario = new CalendarioDisponibilidad();
+        this.colaEspera = null;
+        this.bandeja = new BandejaSalida();
+        this.avisadosSinPersonal = new HashMap<>();
+        this.reloj = reloj;
     }
     
     
@@ -43,6 +121,12 @@ public class HomeSolution implements IHomeSolution {
         int nuevoLegajo = generarNuevoLegajo();
         EmpleadoContratado empleado = new EmpleadoContratado(nombre, nuevoLegajo, valor);	//crea empleadoContratado con legajo unico
         this.empleados.put(nuevoLegajo, empleado);	//lo agrega a empleados
+        this.riesgo.registrarEmpleado(empleado);
+        this.pooles.actualizar(empleado);
+        this.indiceCosto.actualizar(empleado);
+        publicar(null, empleado);
+        emitir(TipoEvento.EMPLEADO_REGISTRADO, null, null, empleado, 0);
+        despacharEspera(empleado);
     }
     
     private void validarCategoria(String categoria) {	//verifica que la categoria puesta sea INICIAL, TECNICO o EXPERTO o que no sea nula
@@ -62,8 +146,53 @@ public class HomeSolution implements IHomeSolution {
         int nuevoLegajo = generarNuevoLegajo();
         EmpleadoDePlanta empleado = new EmpleadoDePlanta(nombre, nuevoLegajo, valor, categoria);	//crea empleadoDePlanta con legajo unico
         this.empleados.put(nuevoLegajo, empleado);	//lo agrega a empleados
+        this.riesgo.registrarEmpleado(empleado);
+        this.pooles.actualizar(empleado);
+        this.indiceCosto.actualizar(empleado);
+        publicar(null, empleado);
+        emitir(TipoEvento.EMPLEADO_REGISTRADO, null, null, empleado, 0);
+        despacharEspera(empleado);
     }
 
+    @Override
+    public void cambiarCapacidadEmpleado(Integer legajo, double capacidad) throws IllegalArgumentException {
+        Empleado empleado = obtenerEmpleado(legajo);
+        empleado.cambiarCapacidad(capacidad);	//valida que alcance para lo que ya tiene asignado
+        reindexar(empleado);
+        publicar(null, empleado);
+        despacharEspera(empleado);	//si la subio, puede tomar algo de lo que espera
+    }
+    
+    @Override
+    public double capacidadLibreEmpleado(Integer legajo) {
+        return obtenerEmpleado(legajo).getCapacidadLibre() / (double) Empleado.JORNADA;
+    }
+    
+    @Override
+    public void registrarAusenciaEmpleado(Integer legajo, String desde, String hasta) throws IllegalArgumentException {
+        obtenerEmpleado(legajo);
+        this.calendario.registrarAusencia(legajo, parsearFecha(desde), parsearFecha(hasta));
+    }
+    
+    @Override
+    public void cancelarAusenciaEmpleado(Integer legajo, String desde, String hasta) throws IllegalArgumentException {
+        obtenerEmpleado(legajo);
+        this.calendario.cancelarAusencia(legajo, parsearFecha(desde), parsearFecha(hasta));
+    }
+    
+    @Override
+    public boolean empleadoLibreEntre(Integer legajo, String desde, String hasta) {
+        obtenerEmpleado(legajo);
+        return this.calendario.estaLibre(legajo, parsearFecha(desde), parsearFecha(hasta));
+    }
+    
+    private Empleado obtenerEmpleado(Integer legajo) {
+        Empleado empleado = this.empleados.get(legajo);
+        if (empleado == null) {
+            throw new IllegalArgumentException("El empleado con legajo " + legajo + " no existe");
+        }
+        return empleado;
+    }
     
     // ------------------------------ REGISTRO Y GESTION DE PROYECTOS ------------------------------
     
@@ -96,6 +225,14 @@ public class HomeSolution implements IHomeSolution {
 					throw new IllegalArgumentException("Los días deben ser mayores a 0");
 				}
 			}
+			
+			//el titulo identifica a la tarea (y a sus dependencias)
+			Set<String> vistos = new HashSet<>();
+			for (String titulo : titulos) {
+				if (!vistos.add(titulo)) {
+					throw new IllegalArgumentException("La tarea '" + titulo + "' está repetida");
+				}
+			}
 	}
     
     private int generarNuevoNumProyecto() {
@@ -110,8 +247,9 @@ public class HomeSolution implements IHomeSolution {
         validarDatosProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
         
         int nuevoNumID = generarNuevoNumProyecto();
-        Cliente nuevoCliente = new Cliente(cliente[0], cliente[1], cliente[2]);	//se pasa el nombre, email y telefono como se ve en Main.java
-        Proyecto proyecto = new Proyecto(nuevoNumID, domicilio, nuevoCliente, inicio, fin);	//crea el proyecto
+        //se pasa el nombre, email y telefono como se ve en Main.java; si el cliente ya existe se reusa
+        Cliente clienteProyecto = this.clientes.obtenerOCrear(cliente[0], cliente[1], cliente[2]);
+        Proyecto proyecto = new Proyecto(nuevoNumID, domicilio, clienteProyecto, inicio, fin);	//crea el proyecto
         
         // Agregar las tareas al proyecto
         for (int i = 0; i < titulos.length; i++) {
@@ -120,58 +258,230 @@ public class HomeSolution implements IHomeSolution {
         }
         
         this.proyectos.put(nuevoNumID, proyecto);	//suma el proyecto
+        this.clientes.agregarProyecto(proyecto);
+        this.indiceTexto.indexarProyecto(proyecto);
+        publicar(proyecto);
+        emitir(TipoEvento.PROYECTO_REGISTRADO, proyecto, null, null, 0);
     }
     
     // ------------------------------ ASIGNACION Y GESTION DE TAREAS ------------------------------ 
     
     @Override
     public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsableEnTarea(numero, titulo));
+    }
+    
+    @Override
+    public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsableMenosRetraso(numero, titulo));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsableEnTarea(Integer numero, String titulo)
+            throws IllegalArgumentException {
         Proyecto proyecto = obtenerProyecto(numero);
-        verificarProyectoNoFinalizado(proyecto);
-        
         Tarea tarea = proyecto.getTarea(titulo);
-        verificarTareaExiste(tarea, titulo);
-        verificarTareaNoAsignada(tarea);	//ve si tiene empleado
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
+        }
         
-        Empleado empleadoDisponible = buscarPrimerEmpleadoDisponible();
-        if (empleadoDisponible == null) {	//si no hay empleados disponibles
-            proyecto.setEstado(Estado.pendiente);
-            throw new Exception("No hay empleados disponibles");
+        //una tarea comun sigue yendo al primero que encuentra, como siempre; las de categoria minima
+        //o carga parcial van al que mejor encaja por capacidad libre, sin recorrer empleados
+        if (tarea.getCategoriaMinima() == null && tarea.getCargaEnCentesimos() == Empleado.JORNADA) {
+            return asignarEmpleado(proyecto, tarea, buscarPrimerEmpleadoDisponible(tarea));
+        }
+        return asignarEmpleado(proyecto, tarea, this.pooles.mejorAjuste(tarea));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsableMenosRetraso(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        Proyecto proyecto = obtenerProyecto(numero);
+        Tarea tarea = proyecto.getTarea(titulo);
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
         }
         
-        //si lo encontro, asigna empleado
-        empleadoDisponible.cambiarANoDisponible();
-        proyecto.asignarEmpleadoATarea(tarea, empleadoDisponible);	//lo termina de asignar
+        return asignarEmpleado(proyecto, tarea, buscarEmpleadoConMenosRetrasos(tarea));
+    }
+    
+    @Override
+    public void asignarResponsableMenorRiesgo(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsableMenorRiesgo(numero, titulo));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsableMenorRiesgo(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        Proyecto proyecto = obtenerProyecto(numero);
+        Tarea tarea = proyecto.getTarea(titulo);
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
+        }
         
-        //si todas las tareas estan asignadas, cambiar estado a ACTIVO
-        if (proyecto.getTareasNoAsignadas().length == 0) {
-            proyecto.setEstado(Estado.activo);
+        return asignarEmpleado(proyecto, tarea, this.riesgo.menorRiesgoDisponible(tarea));	//sin recorrer empleados
+    }
+    
+    @Override
+    public void asignarResponsablePorCategoria(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsablePorCategoria(numero, titulo));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsablePorCategoria(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        Proyecto proyecto = obtenerProyecto(numero);
+        Tarea tarea = proyecto.getTarea(titulo);
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
         }
+        
+        //empieza por la categoria minima de la tarea (o por los contratados) y sube
+        return asignarEmpleado(proyecto, tarea, this.pooles.mejorAjuste(tarea));
     }
     
     @Override
-    public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+    public void asignarResponsableSegunCalendario(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsableSegunCalendario(numero, titulo));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsableSegunCalendario(Integer numero, String titulo)
+            throws IllegalArgumentException {
         Proyecto proyecto = obtenerProyecto(numero);
-        verificarProyectoNoFinalizado(proyecto);
+        Tarea tarea = proyecto.getTarea(titulo);
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
+        }
         
+        //los ausentes salen del arbol de intervalos; el resto se elige por capacidad como siempre
+        LocalDate inicio = proyecto.getFechaInicio();
+        LocalDate fin = inicio.plusDays(Math.max((long) Math.ceil(tarea.getDiasEstimados()), 1) - 1);
+        Set<Integer> ausentes = this.calendario.ausentesEntre(inicio, fin);
+        //no va a la cola de espera: desde ahi se asignaria al que se libere, aunque este ausente en esas fechas
+        return asignarEmpleado(proyecto, tarea, this.pooles.mejorAjuste(tarea, ausentes), false);
+    }
+    
+    @Override
+    public void asignarResponsableMasBarato(Integer numero, String titulo) throws Exception {
+        lanzarSiNoSeAsigno(intentarAsignarResponsableMasBarato(numero, titulo));
+    }
+    
+    @Override
+    public ResultadoAsignacion intentarAsignarResponsableMasBarato(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        Proyecto proyecto = obtenerProyecto(numero);
         Tarea tarea = proyecto.getTarea(titulo);
-        verificarTareaExiste(tarea, titulo);
-        verificarTareaNoAsignada(tarea);	//ve si tiene empleado
+        ResultadoAsignacion rechazo = verificarAsignable(proyecto, tarea, titulo);
+        if (rechazo != null) {
+            return rechazo;
+        }
         
-        Empleado empleadoMenosRetrasos = buscarEmpleadoConMenosRetrasos();
-        if (empleadoMenosRetrasos == null) {	//si no hay empleados disponibles
+        return asignarEmpleado(proyecto, tarea, this.indiceCosto.masBarato(tarea));	//segun los dias estimados
+    }
+    
+    @Override
+    public void activarColaEspera(OrdenEspera orden) throws IllegalArgumentException {
+        if (this.colaEspera == null) {
+            this.colaEspera = new ColaEspera(orden);
+        } else {
+            this.colaEspera.cambiarOrden(orden);
+        }
+    }
+    
+    @Override
+    public List<Tupla<Integer, String>> tareasEnEspera() {
+        if (this.colaEspera == null) {
+            return new ArrayList<>();
+        }
+        return this.colaEspera.enOrden();
+    }
+    
+    private void olvidarAvisoSinPersonal(Proyecto proyecto, Tarea tarea) {	//si vuelve a faltar personal, se avisa de nuevo
+        HashSet<String> avisadas = this.avisadosSinPersonal.get(proyecto.getNumID());
+        if (avisadas != null && avisadas.remove(tarea.getTituloID()) && avisadas.isEmpty()) {
+            this.avisadosSinPersonal.remove(proyecto.getNumID());
+        }
+    }
+    
+    //le da al empleado tareas de la cola mientras haya alguna que pueda tomar;
+    //cada una se asigna como cualquier otra (indices, instantanea y eventos) y sale de la cola
+    private void despacharEspera(Empleado empleado) {
+        if (this.colaEspera == null || empleado == null) {
+            return;
+        }
+        Tupla<Proyecto, Tarea> siguiente = this.colaEspera.siguientePara(empleado);
+        while (siguiente != null) {
+            asignarEmpleado(siguiente.getValor1(), siguiente.getValor2(), empleado);
+            siguiente = this.colaEspera.siguientePara(empleado);
+        }
+    }
+    
+    //devuelve por que no se puede asignar la tarea, o null si se puede
+    private ResultadoAsignacion verificarAsignable(Proyecto proyecto, Tarea tarea, String titulo) {
+        if (proyecto.estaFinalizado()) {
+            return ResultadoAsignacion.PROYECTO_FINALIZADO;
+        }
+        verificarTareaExiste(tarea, titulo);
+        if (tarea.getResponsable() != null) {	//ve si tiene empleado
+            return ResultadoAsignacion.YA_ASIGNADA;
+        }
+        return null;
+    }
+    
+    private ResultadoAsignacion asignarEmpleado(Proyecto proyecto, Tarea tarea, Empleado empleado) {
+        return asignarEmpleado(proyecto, tarea, empleado, true);
+    }
+    
+    private ResultadoAsignacion asignarEmpleado(Proyecto proyecto, Tarea tarea, Empleado empleado, boolean encolar) {
+        if (empleado == null) {	//si no hay empleados disponibles
             proyecto.setEstado(Estado.pendiente);
-            throw new Exception("No hay empleados disponibles");
+            if (encolar && this.colaEspera != null) {
+                this.colaEspera.agregar(proyecto, tarea);	//se asigna sola cuando se libere alguien
+            }
+            publicar(proyecto);
+            //se busco a alguien y no habia: se le avisa al cliente una vez por tarea, no en cada reintento
+            if (this.bandeja.estaConectada()
+                    && this.avisadosSinPersonal.computeIfAbsent(proyecto.getNumID(), k -> new HashSet<>()).add(tarea.getTituloID())) {
+                this.bandeja.agregar(Notificacion.de(Notificacion.Motivo.SIN_PERSONAL, proyecto));
+            }
+            return ResultadoAsignacion.SIN_EMPLEADOS;
         }
+        if (this.colaEspera != null) {
+            this.colaEspera.quitar(proyecto, tarea);	//la pudo haber asignado otra politica mientras esperaba
+        }
+        olvidarAvisoSinPersonal(proyecto, tarea);
         
-        //si encontro, asigna empleado
-        empleadoMenosRetrasos.cambiarANoDisponible();
-        proyecto.asignarEmpleadoATarea(tarea, empleadoMenosRetrasos);
+        //si lo encontro, asigna empleado
+        ocupar(empleado, tarea);
+        asignarEnProyecto(proyecto, tarea, empleado);	//lo termina de asignar
         
         //si todas las tareas estan asignadas, cambiar estado a ACTIVO
         if (proyecto.getTareasNoAsignadas().length == 0) {
             proyecto.setEstado(Estado.activo);
         }
+        publicar(proyecto, empleado);
+        emitir(TipoEvento.TAREA_ASIGNADA, proyecto, tarea.getTituloID(), empleado, 0);
+        return ResultadoAsignacion.ASIGNADO;
+    }
+    
+    //mantiene las excepciones de la interfaz original para quien las espera
+    private void lanzarSiNoSeAsigno(ResultadoAsignacion resultado) throws Exception {
+        switch (resultado) {
+            case PROYECTO_FINALIZADO:
+                throw new IllegalArgumentException("No se pueden realizar operaciones en un proyecto finalizado");
+            case YA_ASIGNADA:
+                throw new Exception("La tarea ya tiene un empleado asignado");
+            case SIN_EMPLEADOS:
+                throw new Exception("No hay empleados disponibles");
+            default:
+                break;
+        }
     }
     
     @Override
@@ -186,24 +496,90 @@ public class HomeSolution implements IHomeSolution {
         Tarea tarea = proyecto.getTarea(titulo);
         verificarTareaExiste(tarea, titulo);	//verifica que exista
         
+        Empleado responsable = tarea.getResponsable();
+        boolean primerRetraso = responsable != null && !responsable.tieneRetrasos();
+        boolean estabaAtrasado = proyecto.getDiasDeAtraso() > 0;
+        boolean estabaExcedida = tarea.huboRetraso();
+        
         proyecto.registrarRetraso(tarea, cantidadDias);
+        if (responsable != null) {
+            this.historialRetrasos.registrar(responsable, this.reloj.millis(), cantidadDias);
+            this.riesgo.registrarRetraso(responsable, cantidadDias);
+        }
+        
+        //el primer retraso de un empleado de planta le quita el bonus en todos sus proyectos
+        if (primerRetraso && responsable instanceof EmpleadoDePlanta) {
+            publicarProyectosDe(responsable);
+        }
+        publicar(proyecto, responsable);
+        emitir(TipoEvento.RETRASO_REGISTRADO, proyecto, titulo, responsable, cantidadDias);
+        //se avisa apenas cruzan la linea, una sola vez
+        if (!estabaExcedida) {
+            emitir(TipoEvento.TAREA_EXCEDIDA, proyecto, titulo, responsable, tarea.getDiasTotales());
+        }
+        if (!estabaAtrasado && !proyecto.estaFinalizado() && proyecto.getDiasDeAtraso() > 0) {
+            emitir(TipoEvento.PROYECTO_ATRASADO, proyecto, null, null, proyecto.getDiasDeAtraso());
+        }
     }
     
     @Override
     public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
             throws IllegalArgumentException {
+        agregarTareaEnProyecto(numero, titulo, descripcion, dias, null);
+    }
+    
+    @Override
+    public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                       String categoriaMinima) throws IllegalArgumentException {
+        agregarTareaEnProyecto(numero, titulo, descripcion, dias, categoriaMinima, 1);
+    }
+    
+    @Override
+    public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                       String categoriaMinima, double carga) throws IllegalArgumentException {
         Proyecto proyecto = obtenerProyecto(numero);	//obtiene proyecto por numID
         verificarProyectoNoFinalizado(proyecto);	//verifica si no termino
         
         if (titulo == null || titulo.trim().isEmpty()) {
             throw new IllegalArgumentException("El título no puede ser nulo o vacío");
         }
+        if (proyecto.getTarea(titulo) != null) {
+            throw new IllegalArgumentException("La tarea '" + titulo + "' ya existe en el proyecto");
+        }
         if (dias <= 0) {
             throw new IllegalArgumentException("Los días deben ser mayores a 0");
         }
+        if (categoriaMinima != null) {
+            validarCategoria(categoriaMinima);	//solo categorias de planta
+        }
+        if (Empleado.aCentesimos(carga) <= 0 || carga > 1) {
+            throw new IllegalArgumentException("La carga debe ser mayor a 0 y como mucho 1 (un dia completo)");
+        }
         
-        Tarea nuevaTarea = new Tarea(titulo, descripcion, dias);
+        Tarea nuevaTarea = new Tarea(titulo, descripcion, dias, categoriaMinima, carga);
         proyecto.agregarTarea(nuevaTarea);	//la agrega al proyecto
+        this.indiceTexto.indexarTarea(numero, nuevaTarea);
+        
+        //la tarea nueva no tiene responsable, asi que el proyecto deja de estar completo
+        if (proyecto.getEstado().equals(Estado.activo)) {
+            proyecto.setEstado(Estado.pendiente);
+        }
+        publicar(proyecto);
+        emitir(TipoEvento.TAREA_AGREGADA, proyecto, titulo, null, dias);
+    }
+    
+    @Override
+    public void definirDependenciasTarea(Integer numero, String titulo, String[] dependeDe)
+            throws IllegalArgumentException {
+        Proyecto proyecto = obtenerProyecto(numero);
+        verificarProyectoNoFinalizado(proyecto);
+        verificarTareaExiste(proyecto.getTarea(titulo), titulo);
+        if (dependeDe == null) {
+            throw new IllegalArgumentException("Las dependencias no pueden ser nulas (vacias si no depende de ninguna)");
+        }
+        
+        proyecto.definirDependencias(titulo, Arrays.asList(dependeDe));	//valida que existan y que no haya ciclos
+        publicar(proyecto);	//las fechas de fin pueden haberse movido
     }
     
     @Override
@@ -213,17 +589,23 @@ public class HomeSolution implements IHomeSolution {
         Tarea tarea = proyecto.getTarea(titulo);
         verificarTareaExiste(tarea, titulo);	//verificar si la tarea existe
         
-        if (tarea.getEstado().equals(Estado.finalizado)) {	//verifica si la tarea ya fue finalizada
-            throw new Exception("La tarea ya está finalizada");
-        }
+        verificarTareaNoFinalizada(tarea);	//verifica si la tarea ya fue finalizada
         
         //libera al empleado
         Empleado responsable = tarea.getResponsable();
         if (responsable != null) {
-            responsable.cambiarADisponible();
+            liberar(responsable, tarea);
+            this.riesgo.registrarFinalizacion(responsable, tarea.getDiasEstimados());
         }
         
-        tarea.finalizarTarea();
+        proyecto.finalizarTarea(tarea);
+        if (this.colaEspera != null) {
+            this.colaEspera.quitar(proyecto, tarea);	//se finalizo sin que nadie la tomara
+        }
+        olvidarAvisoSinPersonal(proyecto, tarea);
+        publicar(proyecto, responsable);
+        emitir(TipoEvento.TAREA_FINALIZADA, proyecto, titulo, responsable, 0);
+        despacharEspera(responsable);
     }
     
     @Override
@@ -243,18 +625,30 @@ public class HomeSolution implements IHomeSolution {
             throw new IllegalArgumentException("No se puede finalizar un proyecto pendiente");
         }
         
-        //libera todos los empleados asignados a tareas del proyecto
+        //libera los empleados que siguen trabajando en tareas del proyecto
+        //(los de tareas ya finalizadas se liberaron en finalizarTarea y pueden estar en otro proyecto)
+        List<Empleado> liberados = new ArrayList<>();
         for (Object obj : proyecto.getTareas()) {
             Tarea t = (Tarea) obj;
-            if (t.getResponsable() != null) {
-                t.getResponsable().cambiarADisponible();
-                if (!t.getEstado().equals(Estado.finalizado)) {	//finaliza la tarea si no esta finalizada
-                    t.finalizarTarea();
-                }
+            if (t.getResponsable() != null && !t.getEstado().equals(Estado.finalizado)) {
+                liberar(t.getResponsable(), t);
+                this.riesgo.registrarFinalizacion(t.getResponsable(), t.getDiasEstimados());
+                liberados.add(t.getResponsable());
+                proyecto.finalizarTarea(t);	//finaliza la tarea si no esta finalizada
             }
         }
         
         proyecto.finalizarProyecto(fin);	//cambia a finalizado guarda la fecha, guarda la fechaRealFin y calcula el costoFinal
+        this.clientes.finalizarProyecto(proyecto);
+        if (this.colaEspera != null) {
+            this.colaEspera.quitarProyecto(proyecto);
+        }
+        this.avisadosSinPersonal.remove(proyecto.getNumID());
+        publicar(proyecto, liberados.toArray(new Empleado[0]));
+        emitir(TipoEvento.PROYECTO_FINALIZADO, proyecto, null, null, proyecto.getCostoFinal());
+        for (Empleado e : liberados) {
+            despacharEspera(e);
+        }
     }
     
     
@@ -263,6 +657,7 @@ public class HomeSolution implements IHomeSolution {
     @Override
     public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
         Proyecto proyecto = obtenerProyecto(numero);	//obtiene proyecto por numID
+        verificarProyectoNoFinalizado(proyecto);
         
         Tarea tarea = proyecto.getTarea(titulo);
         verificarTareaExiste(tarea, titulo);
@@ -270,27 +665,35 @@ public class HomeSolution implements IHomeSolution {
         if (tarea.getResponsable() == null) {
             throw new Exception("La tarea no tiene un empleado asignado previamente");
         }
+        verificarTareaNoFinalizada(tarea);	//su responsable ya fue liberado
         
         Empleado nuevoEmpleado = this.empleados.get(legajo);
         if (nuevoEmpleado == null) {
             throw new Exception("El empleado con legajo " + legajo + " no existe");
         }
-        if (!nuevoEmpleado.estaDisponible()) {
+        if (!nuevoEmpleado.puedeTomar(tarea)) {
             throw new Exception("El empleado no está disponible");
         }
+        if (!tarea.admite(nuevoEmpleado)) {
+            throw new Exception("El empleado no tiene la categoría mínima de la tarea");
+        }
         
         //libera empleado anterior
-        Empleado empleadoAnterior = tarea.quitarResponsable();
-        empleadoAnterior.cambiarADisponible();
+        Empleado empleadoAnterior = proyecto.quitarResponsable(tarea);
+        liberar(empleadoAnterior, tarea);
         
         //asigna nuevo empleado
-        nuevoEmpleado.cambiarANoDisponible();
-        proyecto.asignarEmpleadoATarea(tarea, nuevoEmpleado);
+        ocupar(nuevoEmpleado, tarea);
+        asignarEnProyecto(proyecto, tarea, nuevoEmpleado);
+        publicar(proyecto, empleadoAnterior, nuevoEmpleado);
+        emitir(TipoEvento.TAREA_REASIGNADA, proyecto, titulo, nuevoEmpleado, 0);
+        despacharEspera(empleadoAnterior);
     }
     
     @Override
     public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
         Proyecto proyecto = obtenerProyecto(numero);	//obtiene proyecto por numID
+        verificarProyectoNoFinalizado(proyecto);
         
         Tarea tarea = proyecto.getTarea(titulo);
         verificarTareaExiste(tarea, titulo);
@@ -298,29 +701,58 @@ public class HomeSolution implements IHomeSolution {
         if (tarea.getResponsable() == null) {
             throw new Exception("La tarea no tiene un empleado asignado previamente");
         }
+        verificarTareaNoFinalizada(tarea);	//su responsable ya fue liberado
         
-        Empleado empleadoMenosRetrasos = buscarEmpleadoConMenosRetrasos();
+        Empleado empleadoMenosRetrasos = buscarEmpleadoConMenosRetrasos(tarea);
         if (empleadoMenosRetrasos == null) {
             throw new Exception("No hay empleados disponibles");
         }
         
         //libera empleado anterior
-        Empleado empleadoAnterior = tarea.quitarResponsable();
-        empleadoAnterior.cambiarADisponible();
+        Empleado empleadoAnterior = proyecto.quitarResponsable(tarea);
+        liberar(empleadoAnterior, tarea);
         
         //asigna nuevo empleado
-        empleadoMenosRetrasos.cambiarANoDisponible();
-        proyecto.asignarEmpleadoATarea(tarea, empleadoMenosRetrasos);
+        ocupar(empleadoMenosRetrasos, tarea);
+        asignarEnProyecto(proyecto, tarea, empleadoMenosRetrasos);
+        publicar(proyecto, empleadoAnterior, empleadoMenosRetrasos);
+        emitir(TipoEvento.TAREA_REASIGNADA, proyecto, titulo, empleadoMenosRetrasos, 0);
+        despacharEspera(empleadoAnterior);
     }
     
     // ------------------------------ CONSULTAS Y REPORTES ------------------------------ 
     
+    @Override
+    public Instantanea instantanea() {	//lectura volatil: no necesita locks
+        return this.instantanea;
+    }
+    
+    @Override
+    public BandejaSalida bandejaSalida() {
+        return this.bandeja;
+    }
+    
+    @Override
+    public Tablero tablero() {	//O(1): viene armado en la instantanea
+        return this.instantanea.getTablero();
+    }
+    
+    @Override
+    public FlujoEventos eventos() {
+        return this.eventos;
+    }
+    
     @Override
     public double costoProyecto(Integer numero) {	//calcula el costo  del proyecto
         Proyecto proyecto = obtenerProyecto(numero);
         return proyecto.getCostoFinal();
     }
     
+    @Override
+    public long costoProyectoEnMilesimos(Integer numero) {	//el mismo costo sin pasar por double
+        return obtenerProyecto(numero).getCostoFinalEnMilesimos();
+    }
+    
     @Override
     public List<Tupla<Integer, String>> proyectosFinalizados() {
         List<Tupla<Integer, String>> finalizados = new ArrayList<>();	//crea lista de Tupla
@@ -388,6 +820,159 @@ public class HomeSolution implements IHomeSolution {
         return empleado.getCantRetrasos();
     }
     
+    @Override
+    public List<Tupla<Integer, Double>> empleadosConMasRetrasos(int ultimosDias, int cantidad) {
+        long ahora = this.reloj.millis();
+        return this.historialRetrasos.masRetrasados(desdeHaceDias(ahora, ultimosDias), ahora, cantidad);
+    }
+    
+    @Override
+    public double percentilRetrasos(String categoria, int ultimosDias, double percentil) {
+        long ahora = this.reloj.millis();
+        return this.historialRetrasos.percentilCategoria(categoria, desdeHaceDias(ahora, ultimosDias), ahora, percentil);
+    }
+    
+    @Override
+    public double riesgoRetraso(Integer legajo) {
+        return this.riesgo.puntaje(legajo);
+    }
+    
+    @Override
+    public List<Integer> buscarProyectos(String consulta, int cantidad) {
+        if (consulta == null) {
+            throw new IllegalArgumentException("La búsqueda no puede ser nula");
+        }
+        return this.indiceTexto.buscar(consulta, cantidad);
+    }
+    
+    @Override
+    public List<Integer> proyectosDeCliente(String emailOTelefono) {
+        return numeros(this.clientes.proyectosDe(obtenerCliente(emailOTelefono)));
+    }
+    
+    @Override
+    public List<Integer> proyectosAbiertosDeCliente(String emailOTelefono) {
+        return numeros(this.clientes.abiertosDe(obtenerCliente(emailOTelefono)));
+    }
+    
+    @Override
+    public double costoFinalizadoCliente(String emailOTelefono) {
+        return this.clientes.costoFinalizadosDe(obtenerCliente(emailOTelefono));
+    }
+    
+    private Cliente obtenerCliente(String emailOTelefono) {
+        Cliente cliente = this.clientes.buscar(emailOTelefono);
+        if (cliente == null) {
+            throw new IllegalArgumentException("No hay ningún cliente con email o teléfono " + emailOTelefono);
+        }
+        return cliente;
+    }
+    
+    private List<Integer> numeros(List<Proyecto> lista) {
+        List<Integer> numeros = new ArrayList<>(lista.size());
+        for (Proyecto p : lista) {
+            numeros.add(p.getNumID());
+        }
+        return numeros;
+    }
+    
+    @Override
+    public List<Tupla<Integer, Integer>> rankingEmpleadosConMasRetrasos(int cantidad) {
+        List<Tupla<Integer, Integer>> lista = new ArrayList<>();
+        for (Tupla<Integer, Double> t : this.rankingRetrasos.primeros(cantidad)) {
+            lista.add(new Tupla<>(t.getValor1(), t.getValor2().intValue()));
+        }
+        return lista;
+    }
+    
+    @Override
+    public List<Tupla<Integer, Double>> rankingProyectosMasCaros(int cantidad) {
+        return this.rankingCostos.primeros(cantidad);
+    }
+    
+    @Override
+    public List<Tupla<Integer, Integer>> rankingProyectosMasDesviados(int cantidad) {
+        List<Tupla<Integer, Integer>> lista = new ArrayList<>();
+        for (Tupla<Integer, Double> t : this.rankingDesvios.primeros(cantidad)) {
+            lista.add(new Tupla<>(t.getValor1(), t.getValor2().intValue()));
+        }
+        return lista;
+    }
+    
+    /**
+     * Manda el costo de cada proyecto (numero, costo, estado) al sumidero repartiendo el trabajo en el pool.
+     * Lee la instantanea publicada, asi que todas las filas son del mismo momento y no frena escrituras.
+     * Con otra fachada, lo mismo es new CalculoCostosMasivo(pool).calcular(fachada.instantanea(), sumidero).
+     * @return Cantidad de proyectos procesados.
+     */
+    public int calcularCostosEnParalelo(ForkJoinPool pool, SumideroCostos sumidero) {
+        return new CalculoCostosMasivo(pool).calcular(instantanea(), sumidero);
+    }
+    
+    @Override
+    public List<Integer> proyectosQueEmpiezanEntre(String desde, String hasta) {
+        return this.indiceFechas.empiezanEntre(parsearFecha(desde), parsearFecha(hasta));
+    }
+    
+    @Override
+    public List<Integer> proyectosQueVencenEntre(String desde, String hasta) {
+        return this.indiceFechas.vencenEntre(parsearFecha(desde), parsearFecha(hasta));
+    }
+    
+    @Override
+    public List<Integer> proyectosAtrasados(int minimoDias) {
+        return this.indiceFechas.atrasados(minimoDias);
+    }
+    
+    @Override
+    public List<String> rutaCritica(Integer numero) {
+        return obtenerProyecto(numero).getCronograma().rutaCritica();
+    }
+    
+    @Override
+    public Tupla<Long, Long> inicioYFinTarea(Integer numero, String titulo) {
+        Cronograma cronograma = obtenerProyecto(numero).getCronograma();
+        return new Tupla<>(cronograma.inicioMasTemprano(titulo), cronograma.finMasTemprano(titulo));
+    }
+    
+    @Override
+    public List<Integer> revisarVencimientos() {
+        long hoy = hoy();
+        List<Integer> numeros = new ArrayList<>();
+        for (Tupla<Integer, Long> vencido : this.vencimientos.vencidosAntesDe(hoy)) {
+            numeros.add(vencido.getValor1());
+            emitir(TipoEvento.PROYECTO_VENCIDO, this.proyectos.get(vencido.getValor1()), null, null,
+                    hoy - vencido.getValor2());
+        }
+        return numeros;
+    }
+    
+    private long hoy() {
+        return LocalDate.now(this.reloj).toEpochDay();
+    }
+    
+    private LocalDate parsearFecha(String fecha) {	//mismo formato que registrarProyecto (AAAA-MM-DD)
+        if (fecha == null) {
+            throw new IllegalArgumentException("Las fechas no pueden ser nulas");
+        }
+        try {
+            return LocalDate.parse(fecha);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida: " + fecha);
+        }
+    }
+    
+    public HistorialRetrasos getHistorialRetrasos() {	//para consultas por empleado; no es seguro entre hilos
+        return this.historialRetrasos;
+    }
+    
+    private long desdeHaceDias(long ahora, int dias) {
+        if (dias <= 0) {
+            throw new IllegalArgumentException("La ventana debe ser de al menos un día");
+        }
+        return ahora - Duration.ofDays(dias).toMillis();
+    }
+    
     @Override
     public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {	//devuelve la lista de los empleados asignados a un proyecto
         Proyecto proyecto = obtenerProyecto(numero);
@@ -475,35 +1060,147 @@ public class HomeSolution implements IHomeSolution {
         }
     }
     
-    private void verificarTareaNoAsignada(Tarea tarea) throws Exception {
-        if (tarea.getResponsable() != null) {
-            throw new Exception("La tarea ya tiene un empleado asignado");
+    private void verificarTareaNoFinalizada(Tarea tarea) throws Exception {
+        if (tarea.getEstado().equals(Estado.finalizado)) {
+            throw new Exception("La tarea ya está finalizada");
         }
     }
     
-    private Empleado buscarPrimerEmpleadoDisponible() {
+    //todo cambio de carga o de capacidad pasa por aca para mantener los indices de disponibles
+    private void ocupar(Empleado empleado, Tarea tarea) {
+        empleado.tomarCarga(tarea);
+        reindexar(empleado);
+    }
+    
+    private void liberar(Empleado empleado, Tarea tarea) {
+        empleado.devolverCarga(tarea);
+        reindexar(empleado);
+    }
+    
+    //los tres indices tienen a los que les queda algo de capacidad, agrupados por cuanta
+    private void reindexar(Empleado empleado) {
+        this.riesgo.actualizar(empleado);
+        this.indiceCosto.actualizar(empleado);
+        this.pooles.actualizar(empleado);
+    }
+    
+    private void asignarEnProyecto(Proyecto proyecto, Tarea tarea, Empleado empleado) {
+        proyecto.asignarEmpleadoATarea(tarea, empleado);
+        this.proyectosPorEmpleado.computeIfAbsent(empleado.getNumLegajo(), k -> new HashSet<>()).add(proyecto.getNumID());
+    }
+    
+    //arma la siguiente instantanea con lo que cambio en la operacion y la publica de una sola vez
+    private void publicar(Proyecto proyecto, Empleado... cambiados) {
+        Instantanea anterior = this.instantanea;
+        Instantanea nueva = anterior;
+        if (proyecto != null) {
+            nueva = nueva.conProyecto(proyecto);
+            actualizarRankings(proyecto, nueva);
+            this.indiceFechas.actualizar(proyecto);	//agregar tareas, retrasos y finalizar mueven fechas
+            this.vencimientos.actualizar(proyecto, hoy());
+            if (this.colaEspera != null) {
+                this.colaEspera.actualizar(proyecto);	//si espera por vencimiento, su fecha se pudo mover
+            }
+        }
+        for (Empleado e : cambiados) {
+            if (e != null) {
+                nueva = nueva.conEmpleado(e);
+                this.rankingRetrasos.actualizar(e.getNumLegajo(), e.getCantRetrasos());
+            }
+        }
+        this.instantanea = nueva.siguienteVersion();
+        if (proyecto != null) {
+            avisarCambioDeEstado(anterior, proyecto);
+            avisarCliente(anterior, proyecto);
+        }
+    }
+    
+    //el costo sale de la vista recien armada para no calcularlo dos veces
+    private void actualizarRankings(Proyecto proyecto, Instantanea nueva) {
+        int numero = proyecto.getNumID();
+        if (proyecto.estaFinalizado()) {
+            this.rankingCostos.quitar(numero);
+        } else {
+            this.rankingCostos.actualizar(numero, nueva.buscarProyecto(numero).getCosto());
+        }
+        this.rankingDesvios.actualizar(numero, proyecto.getDiasDeDesvio());
+    }
+    
+    //compara contra la instantanea anterior para no tener que seguir cada setEstado
+    private void avisarCambioDeEstado(Instantanea anterior, Proyecto proyecto) {
+        if (!this.eventos.tieneSuscriptores()) {
+            return;
+        }
+        VistaProyecto vista = anterior.buscarProyecto(proyecto.getNumID());
+        if (vista != null && !vista.getEstado().equals(proyecto.getEstado())) {
+            emitir(TipoEvento.ESTADO_CAMBIADO, proyecto, null, null, 0);
+        }
+    }
+    
+    //solo encola: el envio lo hace el hilo del despachador. La falta de personal no sale de aca
+    //sino de asignarEmpleado, cuando se intenta asignar y no hay nadie
+    private void avisarCliente(Instantanea anterior, Proyecto proyecto) {
+        if (!this.bandeja.estaConectada()) {
+            return;
+        }
+        VistaProyecto vista = anterior.buscarProyecto(proyecto.getNumID());
+        if (vista != null && !vista.estaFinalizado() && proyecto.estaFinalizado()) {
+            this.bandeja.agregar(Notificacion.de(Notificacion.Motivo.FINALIZADO, proyecto));
+        }
+    }
+    
+    //se llama despues de publicar, asi quien reciba el evento ya ve el cambio en instantanea()
+    private void emitir(TipoEvento tipo, Proyecto proyecto, String titulo, Empleado empleado, double valor) {
+        if (!this.eventos.tieneSuscriptores()) {
+            return;
+        }
+        this.eventos.emitir(tipo, this.instantanea.getVersion(),
+                proyecto == null ? null : proyecto.getNumID(), titulo,
+                empleado == null ? null : empleado.getNumLegajo(),
+                proyecto == null ? null : proyecto.getEstado(), valor);
+    }
+    
+    //el costo de un proyecto no finalizado depende de los retrasos de sus empleados de planta
+    private void publicarProyectosDe(Empleado empleado) {
+        Set<Integer> numeros = this.proyectosPorEmpleado.get(empleado.getNumLegajo());
+        if (numeros == null) {
+            return;
+        }
+        Instantanea nueva = this.instantanea;
+        for (Integer numero : numeros) {
+            Proyecto p = this.proyectos.get(numero);
+            p.actualizarBonus(empleado);
+            if (!p.estaFinalizado()) {	//los finalizados guardan su costoFinal
+                nueva = nueva.conProyecto(p);
+                actualizarRankings(p, nueva);
+            }
+        }
+        this.instantanea = nueva;	//la version la incrementa el publicar que sigue
+    }
+    
+    private Empleado buscarPrimerEmpleadoDisponible(Tarea tarea) {
         for (Empleado e : this.empleados.values()) {
-            if (e.estaDisponible()) {
+            if (e.puedeTomar(tarea)) {
                 return e;
             }
         }
         return null;
     }
     
-    private Empleado buscarEmpleadoConMenosRetrasos() {
+    private Empleado buscarEmpleadoConMenosRetrasos(Tarea tarea) {	//solo entre los que la tarea admite
         Empleado empleadoSeleccionado = null;
         int menorCantidadRetrasos = Integer.MAX_VALUE;
         
         //primero busca empleados sin retrasos
         for (Empleado e : this.empleados.values()) {
-            if (e.estaDisponible() && e.getCantRetrasos() == 0) {
+            if (e.puedeTomar(tarea) && e.getCantRetrasos() == 0 && tarea.admite(e)) {
                 return e;
             }
         }
         
         //si no hay sin retrasos, busca el que menos tenga
         for (Empleado e : this.empleados.values()) {
-            if (e.estaDisponible() && e.getCantRetrasos() < menorCantidadRetrasos) {
+            if (e.puedeTomar(tarea) && e.getCantRetrasos() < menorCantidadRetrasos && tarea.admite(e)) {
                 empleadoSeleccionado = e;
                 menorCantidadRetrasos = e.getCantRetrasos();
             }
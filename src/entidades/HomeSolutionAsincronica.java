@@ -0,0 +1,325 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Version asincronica de IHomeSolution: cada operacion se encola y devuelve un CompletableFuture
+ * sin bloquear al hilo que la pide.
+ *
+ * Reenvia todas las operaciones de IHomeSolution que modifican datos; las asignaciones se piden con
+ * la variante intentar* y el future trae el ResultadoAsignacion.
+ *
+ * Un unico hilo escritor es dueño del sistema envuelto (puede ser un HomeSolution sin sincronizar)
+ * y aplica las operaciones por lotes: toma todo lo que haya en la cola y, entre dos operaciones
+ * globales (las de empleados, altas de proyectos, la cola de espera y la revision de vencimientos),
+ * agrupa las que son sobre el mismo proyecto para aplicarlas juntas. El orden entre operaciones de
+ * un mismo proyecto se respeta siempre.
+ *
+ * Los futures se completan en el hilo escritor, asi que las continuaciones pesadas
+ * conviene encadenarlas con las variantes *Async. Los reportes se leen sin pasar por la cola
+ * con instantanea().
+ */
+public class HomeSolutionAsincronica implements AutoCloseable {
+    static final int LOTE_MAXIMO = 256;
+
+    //DATOS
+    private final IHomeSolution sistema;
+    private final LinkedBlockingQueue<Pedido> cola;
+    private final Thread escritor;
+    private volatile boolean cerrada;
+
+    //CONSTRUCTOR
+    public HomeSolutionAsincronica(IHomeSolution sistema) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser nulo");
+        }
+        this.sistema = sistema;
+        this.cola = new LinkedBlockingQueue<>();
+        this.cerrada = false;
+        this.escritor = new Thread(this::procesar, "home-solution-escritor");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    // ------------------------------ REGISTRO ------------------------------
+
+    public CompletableFuture<Void> registrarEmpleado(String nombre, double valor) {
+        return encolar(null, s -> {
+            s.registrarEmpleado(nombre, valor);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> registrarEmpleado(String nombre, double valor, String categoria) {
+        return encolar(null, s -> {
+            s.registrarEmpleado(nombre, valor, categoria);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> registrarProyecto(String[] titulos, String[] descripcion, double[] dias,
+                                                     String domicilio, String[] cliente, String inicio, String fin) {
+        return encolar(null, s -> {
+            s.registrarProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> cambiarCapacidadEmpleado(Integer legajo, double capacidad) {
+        return encolar(null, s -> {
+            s.cambiarCapacidadEmpleado(legajo, capacidad);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> registrarAusenciaEmpleado(Integer legajo, String desde, String hasta) {
+        return encolar(null, s -> {
+            s.registrarAusenciaEmpleado(legajo, desde, hasta);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> cancelarAusenciaEmpleado(Integer legajo, String desde, String hasta) {
+        return encolar(null, s -> {
+            s.cancelarAusenciaEmpleado(legajo, desde, hasta);
+            return null;
+        });
+    }
+
+    // ------------------------------ ASIGNACION Y GESTION DE TAREAS ------------------------------
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsableEnTarea(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsableEnTarea(numero, titulo));
+    }
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsableMenosRetraso(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsableMenosRetraso(numero, titulo));
+    }
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsableMenorRiesgo(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsableMenorRiesgo(numero, titulo));
+    }
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsablePorCategoria(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsablePorCategoria(numero, titulo));
+    }
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsableSegunCalendario(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsableSegunCalendario(numero, titulo));
+    }
+
+    public CompletableFuture<ResultadoAsignacion> asignarResponsableMasBarato(Integer numero, String titulo) {
+        return encolar(numero, s -> s.intentarAsignarResponsableMasBarato(numero, titulo));
+    }
+
+    public CompletableFuture<Void> activarColaEspera(OrdenEspera orden) {
+        return encolar(null, s -> {
+            s.activarColaEspera(orden);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias) {
+        return encolar(numero, s -> {
+            s.registrarRetrasoEnTarea(numero, titulo, cantidadDias);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias) {
+        return encolar(numero, s -> {
+            s.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                                          String categoriaMinima) {
+        return encolar(numero, s -> {
+            s.agregarTareaEnProyecto(numero, titulo, descripcion, dias, categoriaMinima);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                                          String categoriaMinima, double carga) {
+        return encolar(numero, s -> {
+            s.agregarTareaEnProyecto(numero, titulo, descripcion, dias, categoriaMinima, carga);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> definirDependenciasTarea(Integer numero, String titulo, String[] dependeDe) {
+        return encolar(numero, s -> {
+            s.definirDependenciasTarea(numero, titulo, dependeDe);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> finalizarTarea(Integer numero, String titulo) {
+        return encolar(numero, s -> {
+            s.finalizarTarea(numero, titulo);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> finalizarProyecto(Integer numero, String fin) {
+        return encolar(numero, s -> {
+            s.finalizarProyecto(numero, fin);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) {
+        return encolar(numero, s -> {
+            s.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) {
+        return encolar(numero, s -> {
+            s.reasignarEmpleadoConMenosRetraso(numero, titulo);
+            return null;
+        });
+    }
+
+    public CompletableFuture<List<Integer>> revisarVencimientos() {	//marca los informados: pasa por el escritor
+        return encolar(null, IHomeSolution::revisarVencimientos);
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    /**
+     * Encola una consulta sobre un proyecto, ordenada despues de las operaciones ya pedidas
+     * para ese proyecto (por ejemplo tareasProyectoNoAsignadas).
+     */
+    public <T> CompletableFuture<T> consultar(Integer numero, Function<IHomeSolution, T> consulta) {
+        return encolar(numero, consulta::apply);
+    }
+
+    public Instantanea instantanea() {
+        return sistema.instantanea();
+    }
+
+    public FlujoEventos eventos() {
+        return sistema.eventos();
+    }
+
+    public BandejaSalida bandejaSalida() {
+        return sistema.bandejaSalida();
+    }
+
+    public int pendientes() {
+        return cola.size();
+    }
+
+    /**
+     * Deja de aceptar operaciones, espera a que se apliquen las ya encoladas y termina el escritor.
+     * Si interrumpen al hilo que cierra, deja de esperar (el escritor igual aplica lo encolado y termina)
+     * y le devuelve la marca de interrupcion.
+     */
+    @Override
+    public void close() {
+        cerrada = true;
+        escritor.interrupt();
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Pedido sobrante;
+        while ((sobrante = cola.poll()) != null) {
+            sobrante.resultado.completeExceptionally(new IllegalStateException("El sistema asincronico esta cerrado"));
+        }
+    }
+
+    // ------------------------------ ESCRITOR ------------------------------
+
+    @FunctionalInterface
+    private interface Accion<T> {
+        T aplicar(IHomeSolution sistema) throws Exception;
+    }
+
+    private static final class Pedido {
+        private final Integer proyecto;	//null = operacion global
+        private final Accion<?> accion;
+        private final CompletableFuture<Object> resultado;
+
+        Pedido(Integer proyecto, Accion<?> accion) {
+            this.proyecto = proyecto;
+            this.accion = accion;
+            this.resultado = new CompletableFuture<>();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> encolar(Integer proyecto, Accion<T> accion) {
+        if (cerrada) {
+            throw new IllegalStateException("El sistema asincronico esta cerrado");
+        }
+        Pedido pedido = new Pedido(proyecto, accion);
+        cola.add(pedido);
+        if (cerrada && !escritor.isAlive() && cola.remove(pedido)) {	//se cerro mientras encolaba
+            pedido.resultado.completeExceptionally(new IllegalStateException("El sistema asincronico esta cerrado"));
+        }
+        return (CompletableFuture<T>) (CompletableFuture<?>) pedido.resultado;
+    }
+
+    private void procesar() {
+        List<Pedido> lote = new ArrayList<>(LOTE_MAXIMO);
+        while (true) {
+            Pedido primero;
+            try {
+                primero = cerrada ? cola.poll() : cola.take();
+            } catch (InterruptedException e) {
+                continue;	//lo interrumpe close(): vuelve a mirar "cerrada"
+            }
+            if (primero == null) {	//cerrada y sin nada pendiente
+                return;
+            }
+            lote.add(primero);
+            cola.drainTo(lote, LOTE_MAXIMO - 1);
+            aplicarLote(lote);
+            lote.clear();
+        }
+    }
+
+    //agrupa por proyecto entre operaciones globales, sin cambiar el orden dentro de cada proyecto
+    private void aplicarLote(List<Pedido> lote) {
+        Map<Integer, List<Pedido>> porProyecto = new LinkedHashMap<>();
+        for (Pedido pedido : lote) {
+            if (pedido.proyecto == null) {
+                aplicarGrupos(porProyecto);
+                aplicar(pedido);
+            } else {
+                porProyecto.computeIfAbsent(pedido.proyecto, k -> new ArrayList<>()).add(pedido);
+            }
+        }
+        aplicarGrupos(porProyecto);
+    }
+
+    private void aplicarGrupos(Map<Integer, List<Pedido>> porProyecto) {
+        for (List<Pedido> grupo : porProyecto.values()) {
+            for (Pedido pedido : grupo) {
+                aplicar(pedido);
+            }
+        }
+        porProyecto.clear();
+    }
+
+    private void aplicar(Pedido pedido) {
+        try {
+            pedido.resultado.complete(pedido.accion.aplicar(sistema));
+        } catch (Exception e) {
+            pedido.resultado.completeExceptionally(e);
+        }
+    }
+}
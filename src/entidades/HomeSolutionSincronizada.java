@@ -0,0 +1,377 @@
+package entidades;
+
+import java.util.List;
+
+/**
+ * Envoltorio que hace usable cualquier IHomeSolution desde varios hilos
+ * tomando un unico lock (el propio objeto) en cada operacion.
+ * HomeSolution no esta sincronizado, asi que para usarlo concurrentemente hay que pasar por aca.
+ *
+ * Los reportes que se pueden contestar con la instantanea publicada no toman el lock:
+ * la instantanea es inmutable y se publica con una escritura volatil al terminar cada operacion.
+ */
+public class HomeSolutionSincronizada implements IHomeSolution {
+    //DATOS
+    private final IHomeSolution sistema;
+
+    //CONSTRUCTOR
+    public HomeSolutionSincronizada(IHomeSolution sistema) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser nulo");
+        }
+        this.sistema = sistema;
+    }
+
+    // ------------------------------ REGISTRO ------------------------------
+
+    @Override
+    public synchronized void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+        sistema.registrarEmpleado(nombre, valor);
+    }
+
+    @Override
+    public synchronized void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+        sistema.registrarEmpleado(nombre, valor, categoria);
+    }
+
+    @Override
+    public synchronized void cambiarCapacidadEmpleado(Integer legajo, double capacidad) throws IllegalArgumentException {
+        sistema.cambiarCapacidadEmpleado(legajo, capacidad);
+    }
+
+    @Override
+    public synchronized double capacidadLibreEmpleado(Integer legajo) {
+        return sistema.capacidadLibreEmpleado(legajo);
+    }
+
+    @Override
+    public synchronized void registrarAusenciaEmpleado(Integer legajo, String desde, String hasta)
+            throws IllegalArgumentException {
+        sistema.registrarAusenciaEmpleado(legajo, desde, hasta);
+    }
+
+    @Override
+    public synchronized void cancelarAusenciaEmpleado(Integer legajo, String desde, String hasta)
+            throws IllegalArgumentException {
+        sistema.cancelarAusenciaEmpleado(legajo, desde, hasta);
+    }
+
+    @Override
+    public synchronized boolean empleadoLibreEntre(Integer legajo, String desde, String hasta) {
+        return sistema.empleadoLibreEntre(legajo, desde, hasta);
+    }
+
+    @Override
+    public synchronized void registrarProyecto(String[] titulos, String[] descripcion, double[] dias,
+                                               String domicilio, String[] cliente, String inicio, String fin)
+            throws IllegalArgumentException {
+        sistema.registrarProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+    }
+
+    // ------------------------------ ASIGNACION Y GESTION DE TAREAS ------------------------------
+
+    @Override
+    public synchronized void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsableEnTarea(numero, titulo);
+    }
+
+    @Override
+    public synchronized void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsableMenosRetraso(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsableEnTarea(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsableEnTarea(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsableMenosRetraso(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsableMenosRetraso(numero, titulo);
+    }
+
+    @Override
+    public synchronized void asignarResponsableMenorRiesgo(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsableMenorRiesgo(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsableMenorRiesgo(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsableMenorRiesgo(numero, titulo);
+    }
+
+    @Override
+    public synchronized void asignarResponsablePorCategoria(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsablePorCategoria(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsablePorCategoria(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsablePorCategoria(numero, titulo);
+    }
+
+    @Override
+    public synchronized void asignarResponsableSegunCalendario(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsableSegunCalendario(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsableSegunCalendario(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsableSegunCalendario(numero, titulo);
+    }
+
+    @Override
+    public synchronized void asignarResponsableMasBarato(Integer numero, String titulo) throws Exception {
+        sistema.asignarResponsableMasBarato(numero, titulo);
+    }
+
+    @Override
+    public synchronized ResultadoAsignacion intentarAsignarResponsableMasBarato(Integer numero, String titulo)
+            throws IllegalArgumentException {
+        return sistema.intentarAsignarResponsableMasBarato(numero, titulo);
+    }
+
+    @Override
+    public synchronized void activarColaEspera(OrdenEspera orden) throws IllegalArgumentException {
+        sistema.activarColaEspera(orden);
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, String>> tareasEnEspera() {
+        return sistema.tareasEnEspera();
+    }
+
+    @Override
+    public synchronized void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias)
+            throws IllegalArgumentException {
+        sistema.registrarRetrasoEnTarea(numero, titulo, cantidadDias);
+    }
+
+    @Override
+    public synchronized void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
+            throws IllegalArgumentException {
+        sistema.agregarTareaEnProyecto(numero, titulo, descripcion, dias);
+    }
+
+    @Override
+    public synchronized void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                                    String categoriaMinima) throws IllegalArgumentException {
+        sistema.agregarTareaEnProyecto(numero, titulo, descripcion, dias, categoriaMinima);
+    }
+
+    @Override
+    public synchronized void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                                    String categoriaMinima, double carga) throws IllegalArgumentException {
+        sistema.agregarTareaEnProyecto(numero, titulo, descripcion, dias, categoriaMinima, carga);
+    }
+
+    @Override
+    public synchronized void definirDependenciasTarea(Integer numero, String titulo, String[] dependeDe)
+            throws IllegalArgumentException {
+        sistema.definirDependenciasTarea(numero, titulo, dependeDe);
+    }
+
+    @Override
+    public synchronized void finalizarTarea(Integer numero, String titulo) throws Exception {
+        sistema.finalizarTarea(numero, titulo);
+    }
+
+    @Override
+    public synchronized void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+        sistema.finalizarProyecto(numero, fin);
+    }
+
+    // ------------------------------ REASIGNACION DE EMPLEADOS ------------------------------
+
+    @Override
+    public synchronized void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+        sistema.reasignarEmpleadoEnProyecto(numero, legajo, titulo);
+    }
+
+    @Override
+    public synchronized void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+        sistema.reasignarEmpleadoConMenosRetraso(numero, titulo);
+    }
+
+    // ------------------------------ CONSULTAS Y REPORTES ------------------------------
+
+    @Override
+    public Instantanea instantanea() {
+        return sistema.instantanea();
+    }
+
+    @Override
+    public FlujoEventos eventos() {
+        return sistema.eventos();
+    }
+
+    @Override
+    public BandejaSalida bandejaSalida() {	//la bandeja ya es segura entre hilos
+        return sistema.bandejaSalida();
+    }
+
+    @Override
+    public Tablero tablero() {	//viene en la instantanea: no necesita el lock
+        return sistema.tablero();
+    }
+
+    @Override
+    public double costoProyecto(Integer numero) {
+        return sistema.instantanea().costoProyecto(numero);
+    }
+
+    @Override
+    public long costoProyectoEnMilesimos(Integer numero) {
+        return sistema.instantanea().costoProyectoEnMilesimos(numero);
+    }
+
+    @Override
+    public List<Tupla<Integer, String>> proyectosFinalizados() {
+        return sistema.instantanea().proyectosFinalizados();
+    }
+
+    @Override
+    public List<Tupla<Integer, String>> proyectosPendientes() {
+        return sistema.instantanea().proyectosPendientes();
+    }
+
+    @Override
+    public List<Tupla<Integer, String>> proyectosActivos() {
+        return sistema.instantanea().proyectosActivos();
+    }
+
+    @Override
+    public Object[] empleadosNoAsignados() {
+        return sistema.instantanea().empleadosNoAsignados();
+    }
+
+    @Override
+    public boolean estaFinalizado(Integer numero) {
+        return sistema.instantanea().estaFinalizado(numero);
+    }
+
+    @Override
+    public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+        return sistema.instantanea().consultarCantidadRetrasosEmpleado(legajo);
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, Double>> empleadosConMasRetrasos(int ultimosDias, int cantidad) {
+        return sistema.empleadosConMasRetrasos(ultimosDias, cantidad);
+    }
+
+    @Override
+    public synchronized double percentilRetrasos(String categoria, int ultimosDias, double percentil) {
+        return sistema.percentilRetrasos(categoria, ultimosDias, percentil);
+    }
+
+    @Override
+    public synchronized double riesgoRetraso(Integer legajo) {
+        return sistema.riesgoRetraso(legajo);
+    }
+
+    @Override
+    public synchronized List<Integer> buscarProyectos(String consulta, int cantidad) {
+        return sistema.buscarProyectos(consulta, cantidad);
+    }
+
+    @Override
+    public synchronized List<Integer> proyectosDeCliente(String emailOTelefono) {
+        return sistema.proyectosDeCliente(emailOTelefono);
+    }
+
+    @Override
+    public synchronized List<Integer> proyectosAbiertosDeCliente(String emailOTelefono) {
+        return sistema.proyectosAbiertosDeCliente(emailOTelefono);
+    }
+
+    @Override
+    public synchronized double costoFinalizadoCliente(String emailOTelefono) {
+        return sistema.costoFinalizadoCliente(emailOTelefono);
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, Integer>> rankingEmpleadosConMasRetrasos(int cantidad) {
+        return sistema.rankingEmpleadosConMasRetrasos(cantidad);
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, Double>> rankingProyectosMasCaros(int cantidad) {
+        return sistema.rankingProyectosMasCaros(cantidad);
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, Integer>> rankingProyectosMasDesviados(int cantidad) {
+        return sistema.rankingProyectosMasDesviados(cantidad);
+    }
+
+    @Override
+    public synchronized List<Integer> proyectosQueEmpiezanEntre(String desde, String hasta) {
+        return sistema.proyectosQueEmpiezanEntre(desde, hasta);
+    }
+
+    @Override
+    public synchronized List<Integer> proyectosQueVencenEntre(String desde, String hasta) {
+        return sistema.proyectosQueVencenEntre(desde, hasta);
+    }
+
+    @Override
+    public synchronized List<Integer> proyectosAtrasados(int minimoDias) {
+        return sistema.proyectosAtrasados(minimoDias);
+    }
+
+    @Override
+    public synchronized List<String> rutaCritica(Integer numero) {
+        return sistema.rutaCritica(numero);
+    }
+
+    @Override
+    public synchronized Tupla<Long, Long> inicioYFinTarea(Integer numero, String titulo) {
+        return sistema.inicioYFinTarea(numero, titulo);
+    }
+
+    @Override
+    public synchronized List<Integer> revisarVencimientos() {
+        return sistema.revisarVencimientos();
+    }
+
+    @Override
+    public synchronized List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+        return sistema.empleadosAsignadosAProyecto(numero);
+    }
+
+    @Override
+    public synchronized Object[] tareasProyectoNoAsignadas(Integer numero) {
+        return sistema.tareasProyectoNoAsignadas(numero);
+    }
+
+    @Override
+    public synchronized Object[] tareasDeUnProyecto(Integer numero) {
+        return sistema.tareasDeUnProyecto(numero);
+    }
+
+    @Override
+    public String consultarDomicilioProyecto(Integer numero) {
+        return sistema.instantanea().consultarDomicilioProyecto(numero);
+    }
+
+    @Override
+    public boolean tieneRestrasos(Integer legajo) {
+        return sistema.instantanea().tieneRestrasos(legajo);
+    }
+
+    @Override
+    public List<Tupla<Integer, String>> empleados() {
+        return sistema.instantanea().empleados();
+    }
+
+    @Override
+    public String consultarProyecto(Integer numero) {
+        return sistema.instantanea().consultarProyecto(numero);
+    }
+}
@@ -50,6 +50,46 @@ public interface IHomeSolution {
      */
     public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException;
 
+    /**
+     * Cambia cuanto trabajo puede tomar un empleado a la vez. Por defecto es 1 (un dia completo):
+     * con 1 puede hacer una tarea de carga 1 o, por ejemplo, dos de carga 0.5 al mismo tiempo.
+     * @param legajo Legajo del empleado.
+     * @param capacidad Nueva capacidad, mayor a 0.
+     * @throws IllegalArgumentException Si el empleado no existe o la capacidad no alcanza para lo que ya tiene asignado.
+     */
+    public void cambiarCapacidadEmpleado(Integer legajo, double capacidad) throws IllegalArgumentException;
+
+    /**
+     * Devuelve cuanto trabajo mas puede tomar un empleado: su capacidad menos la carga de sus tareas sin finalizar.
+     * @param legajo Legajo del empleado.
+     * @return Capacidad libre (0 si esta completo).
+     * @throws IllegalArgumentException Si el empleado no existe.
+     */
+    public double capacidadLibreEmpleado(Integer legajo);
+
+    /**
+     * Registra dias en que el empleado no puede trabajar (vacaciones, licencias, francos).
+     * Se unen con las ausencias que ya tenia si se superponen o quedan pegadas.
+     * @param legajo Legajo del empleado.
+     * @param desde Primer dia de la ausencia (AAAA-MM-DD).
+     * @param hasta Ultimo dia de la ausencia (AAAA-MM-DD), igual o posterior a desde.
+     * @throws IllegalArgumentException Si el empleado no existe o las fechas no son validas.
+     */
+    public void registrarAusenciaEmpleado(Integer legajo, String desde, String hasta) throws IllegalArgumentException;
+
+    /**
+     * Vuelve a dejar disponible al empleado en esos dias; las ausencias fuera del rango siguen.
+     * @throws IllegalArgumentException Si el empleado no existe o las fechas no son validas.
+     */
+    public void cancelarAusenciaEmpleado(Integer legajo, String desde, String hasta) throws IllegalArgumentException;
+
+    /**
+     * Indica si el empleado no tiene ninguna ausencia entre las dos fechas (ambas incluidas).
+     * No tiene en cuenta las tareas que ya tiene asignadas.
+     * @throws IllegalArgumentException Si el empleado no existe o las fechas no son validas.
+     */
+    public boolean empleadoLibreEntre(Integer legajo, String desde, String hasta);
+
     // ============================================================
     // REGISTRO Y GESTIÓN DE PROYECTOS
     // ============================================================
@@ -91,6 +131,100 @@ public interface IHomeSolution {
      */
     public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception;
 
+    /**
+     * Igual que asignarResponsableEnTarea, pero informa con el resultado los casos normales
+     * en lugar de lanzar una excepción (no crea ni recorre stack traces en cada intento).
+     * @param numero Número o código del proyecto.
+     * @param titulo Título de la tarea a asignar.
+     * @return ASIGNADO, SIN_EMPLEADOS (el proyecto queda pendiente), YA_ASIGNADA o PROYECTO_FINALIZADO.
+     * @throws IllegalArgumentException Si el proyecto o la tarea no existen.
+     */
+    public ResultadoAsignacion intentarAsignarResponsableEnTarea(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Igual que asignarResponsableMenosRetraso, pero sin excepciones para los casos normales.
+     * @param numero Número o código del proyecto.
+     * @param titulo Título de la tarea.
+     * @return ASIGNADO, SIN_EMPLEADOS (el proyecto queda pendiente), YA_ASIGNADA o PROYECTO_FINALIZADO.
+     * @throws IllegalArgumentException Si el proyecto o la tarea no existen.
+     */
+    public ResultadoAsignacion intentarAsignarResponsableMenosRetraso(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Asigna la tarea al empleado disponible con menor riesgo de retraso (ver riesgoRetraso).
+     * @param numero Número o código del proyecto.
+     * @param titulo Título de la tarea.
+     * @throws Exception si no hay empleados disponibles o la tarea ya tiene responsable.
+     */
+    public void asignarResponsableMenorRiesgo(Integer numero, String titulo) throws Exception;
+
+    /**
+     * Igual que asignarResponsableMenorRiesgo, pero informa el resultado en vez de lanzar excepciones.
+     * @return ResultadoAsignacion con lo que paso.
+     */
+    public ResultadoAsignacion intentarAsignarResponsableMenorRiesgo(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Asigna la tarea a un empleado disponible de su categoria minima, o de la mas cercana por encima.
+     * Si la tarea no tiene categoria minima empieza por los contratados.
+     * @param numero Número o código del proyecto.
+     * @param titulo Título de la tarea.
+     * @throws Exception si no hay empleados disponibles con la categoria pedida o la tarea ya tiene responsable.
+     */
+    public void asignarResponsablePorCategoria(Integer numero, String titulo) throws Exception;
+
+    /**
+     * Igual que asignarResponsablePorCategoria, pero informa el resultado en vez de lanzar excepciones.
+     * @return ResultadoAsignacion con lo que paso.
+     */
+    public ResultadoAsignacion intentarAsignarResponsablePorCategoria(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Asigna al empleado que este libre segun su calendario durante la tarea: desde la fecha de inicio
+     * del proyecto, tantos dias como los estimados de la tarea. Entre los que no tienen ausencias en
+     * esos dias elige por capacidad libre, igual que asignarResponsableEnTarea con tareas de categoria.
+     * Si no hay nadie la tarea no entra en la cola de espera, que no mira el calendario.
+     * @throws Exception Si no hay ningun empleado libre en esas fechas, ademas de los casos de asignarResponsableEnTarea.
+     */
+    public void asignarResponsableSegunCalendario(Integer numero, String titulo) throws Exception;
+
+    /**
+     * Igual que asignarResponsableSegunCalendario, pero informa el resultado en vez de lanzar excepciones.
+     * @return ResultadoAsignacion con lo que paso.
+     */
+    public ResultadoAsignacion intentarAsignarResponsableSegunCalendario(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Asigna la tarea al empleado disponible que menos cobraria por sus dias estimados
+     * (contratados por hora, de planta por dia redondeado hacia arriba), respetando la categoria minima.
+     * @param numero Número o código del proyecto.
+     * @param titulo Título de la tarea.
+     * @throws Exception si no hay empleados disponibles o la tarea ya tiene responsable.
+     */
+    public void asignarResponsableMasBarato(Integer numero, String titulo) throws Exception;
+
+    /**
+     * Igual que asignarResponsableMasBarato, pero informa el resultado en vez de lanzar excepciones.
+     * @return ResultadoAsignacion con lo que paso.
+     */
+    public ResultadoAsignacion intentarAsignarResponsableMasBarato(Integer numero, String titulo) throws IllegalArgumentException;
+
+    /**
+     * Activa la cola de espera: las tareas que no se pueden asignar por falta de empleados quedan
+     * esperando y se asignan solas cuando se libera (o se registra) un empleado que puede tomarlas,
+     * en el orden indicado. Si ya estaba activa, las que esperan se reordenan.
+     * Sin activarla, una tarea sin empleados sigue como siempre: el proyecto queda pendiente y nada mas.
+     * @param orden FIFO, INICIO_MAS_TEMPRANO o VENCIMIENTO_MAS_TEMPRANO.
+     * @throws IllegalArgumentException Si el orden es nulo.
+     */
+    public void activarColaEspera(OrdenEspera orden) throws IllegalArgumentException;
+
+    /**
+     * Devuelve las tareas que esperan empleado, en el orden en que se asignarian.
+     * @return Lista de tuplas (numero de proyecto, titulo de la tarea); vacia si la cola no esta activa.
+     */
+    public List<Tupla<Integer, String>> tareasEnEspera();
+
     /**
      * Registra un retraso en una tarea de un proyecto.
      * Un retraso modifica la fecha real de finalización.     *
@@ -112,6 +246,37 @@ public interface IHomeSolution {
      */
     public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias) throws  IllegalArgumentException;
 
+    /**
+     * Agrega una tarea que solo pueden hacer empleados de planta de una categoria minima (o mayor).
+     * Todas las formas de asignar y reasignar respetan esa categoria.
+     * @param categoriaMinima INICIAL, TECNICO o EXPERTO; null si la puede hacer cualquiera.
+     * @throws IllegalArgumentException si la categoria no es valida, ademas de los casos de agregarTareaEnProyecto.
+     */
+    public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                       String categoriaMinima) throws IllegalArgumentException;
+
+    /**
+     * Agrega una tarea que ocupa solo una parte de la capacidad de su responsable, asi un empleado
+     * puede trabajar en varias tareas a la vez mientras la suma de sus cargas no pase su capacidad.
+     * Todas las formas de asignar y reasignar buscan un empleado con capacidad libre suficiente.
+     * @param carga Parte de un dia completo que ocupa la tarea, mayor a 0 y como mucho 1.
+     * @throws IllegalArgumentException si la carga no es valida, ademas de los casos anteriores.
+     */
+    public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias,
+                                       String categoriaMinima, double carga) throws IllegalArgumentException;
+
+    /**
+     * Define de que tareas depende una tarea: empieza cuando terminan todas ellas. Reemplaza las que
+     * tenia; por defecto cada tarea depende de la agregada antes (van en fila). Con un arreglo vacio
+     * la tarea corre en paralelo con las demas. Las fechas estimada y real de fin del proyecto pasan
+     * a ser las del camino critico.
+     * @param numero Numero del proyecto.
+     * @param titulo Titulo de la tarea.
+     * @param dependeDe Titulos de las tareas que tienen que terminar antes.
+     * @throws IllegalArgumentException Si alguna tarea no existe, el proyecto esta finalizado o se formaria un ciclo.
+     */
+    public void definirDependenciasTarea(Integer numero, String titulo, String[] dependeDe) throws IllegalArgumentException;
+
     /**
      * Marca una tarea como finalizada.     *
      * @param numero Número o código del proyecto.
@@ -157,6 +322,38 @@ public interface IHomeSolution {
     // CONSULTAS Y REPORTES
     // ============================================================
 
+    /**
+     * Devuelve la ultima vista inmutable publicada del sistema.
+     * No cambia aunque se sigan haciendo operaciones, asi que sirve para reportes largos
+     * o para leer desde otros hilos sin bloquear las escrituras.
+     * @return Instantanea con los proyectos y empleados al momento de la ultima operacion.
+     */
+    public Instantanea instantanea();
+
+    /**
+     * Devuelve el flujo de eventos de dominio (altas, asignaciones, retrasos, cambios de estado
+     * y finalizaciones). Cada suscriptor lee a su ritmo con su propio cursor.
+     * @return Flujo de eventos del sistema.
+     */
+    public FlujoEventos eventos();
+
+    /**
+     * Devuelve la bandeja de salida de avisos a clientes: se encola uno cuando se intenta asignar una
+     * tarea del proyecto y no hay personal disponible (una vez por tarea mientras siga sin responsable,
+     * no en cada reintento), y otro cuando se finaliza, con su costo final.
+     * Solo se encola mientras haya un DespachadorNotificaciones conectado, que es quien los envia.
+     * @return Bandeja de salida del sistema.
+     */
+    public BandejaSalida bandejaSalida();
+
+    /**
+     * Devuelve los totales del tablero de control: proyectos por estado, costo de los proyectos
+     * en curso y de los finalizados, empleados ocupados y libres, y tareas con retraso.
+     * Se mantienen al dia con cada operacion, asi que consultarlo no recorre nada.
+     * @return Totales al momento de la ultima operacion.
+     */
+    public Tablero tablero();
+
     /**
      *  Calcula el costo total del proyecto (activo, pendiente o finalizado).
      * @param numero Numero o código del proyecto
@@ -164,6 +361,14 @@ public interface IHomeSolution {
      */
     public double costoProyecto(Integer numero) ;
 
+    /**
+     * El mismo costo que costoProyecto, en milesimos de peso (ver Dinero). Sirve para sumar
+     * costos de muchos proyectos sin error de redondeo.
+     * @param numero Numero o código del proyecto
+     * @return Costo total en milesimos.
+     */
+    public long costoProyectoEnMilesimos(Integer numero);
+
     /**
      * Devuelve una lista de proyectos finalizados (número y domicilio).
      * @return Lista de tuplas (número, domicilio).
@@ -209,6 +414,137 @@ public interface IHomeSolution {
      */
     public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero);
 
+    /**
+     * Devuelve los empleados con mas dias de retraso registrados en los ultimos dias.
+     * @param ultimosDias Tamaño de la ventana, contando hacia atras desde ahora.
+     * @param cantidad Cuantos empleados devolver como maximo.
+     * @return Lista de tuplas (legajo, dias de retraso), de mayor a menor.
+     */
+    public List<Tupla<Integer, Double>> empleadosConMasRetrasos(int ultimosDias, int cantidad);
+
+    /**
+     * Percentil de los dias de retraso registrados en los ultimos dias por empleados de una categoria
+     * (INICIAL, TECNICO, EXPERTO, o CONTRATADO para los contratados).
+     * @param percentil Entre 0 (exclusivo) y 100, por ejemplo 90.
+     * @return Dias de retraso (a medio dia), o 0 si no hubo retrasos en la ventana.
+     */
+    public double percentilRetrasos(String categoria, int ultimosDias, double percentil);
+
+    /**
+     * Riesgo de retraso de un empleado: dias de retraso esperados por cada dia estimado de tarea,
+     * segun su historial. Un empleado sin historial tiene el riesgo previo por defecto.
+     * @param legajo Legajo del empleado.
+     * @return Dias de retraso esperados por dia de trabajo.
+     */
+    public double riesgoRetraso(Integer legajo);
+
+    /**
+     * Busca proyectos por texto en el domicilio, los datos del cliente y los titulos y descripciones
+     * de sus tareas. No distingue mayusculas ni acentos, y cada palabra puede estar completa, ser el
+     * comienzo de una palabra o una parte de ella. Tienen que aparecer todas las palabras.
+     * @param consulta Palabras a buscar, por ejemplo "gomez pint".
+     * @param cantidad Cuantos proyectos devolver como maximo.
+     * @return Numeros de proyecto, del mas relevante al menos relevante.
+     * @throws IllegalArgumentException si la consulta es nula o la cantidad no es positiva.
+     */
+    public List<Integer> buscarProyectos(String consulta, int cantidad) throws IllegalArgumentException;
+
+    /**
+     * Devuelve los proyectos de un cliente. Los proyectos con el mismo email (sin importar
+     * mayusculas) o el mismo telefono (solo digitos) son del mismo cliente.
+     * @param emailOTelefono Email o telefono del cliente.
+     * @return Numeros de proyecto, en orden de registro.
+     * @throws IllegalArgumentException si no hay ningun cliente con ese email o telefono.
+     */
+    public List<Integer> proyectosDeCliente(String emailOTelefono) throws IllegalArgumentException;
+
+    /**
+     * Devuelve los proyectos de un cliente que todavia no finalizaron.
+     * @param emailOTelefono Email o telefono del cliente.
+     * @return Numeros de proyecto, en orden de registro.
+     * @throws IllegalArgumentException si no hay ningun cliente con ese email o telefono.
+     */
+    public List<Integer> proyectosAbiertosDeCliente(String emailOTelefono) throws IllegalArgumentException;
+
+    /**
+     * Suma de los costos finales de los proyectos finalizados de un cliente.
+     * @param emailOTelefono Email o telefono del cliente.
+     * @return Costo total facturado al cliente.
+     * @throws IllegalArgumentException si no hay ningun cliente con ese email o telefono.
+     */
+    public double costoFinalizadoCliente(String emailOTelefono) throws IllegalArgumentException;
+
+    /**
+     * Empleados con mas retrasos registrados en total (lo mismo que consultarCantidadRetrasosEmpleado).
+     * @param cantidad Cuantos empleados devolver como maximo.
+     * @return Lista de tuplas (legajo, cantidad de retrasos), de mayor a menor; solo empleados con retrasos.
+     */
+    public List<Tupla<Integer, Integer>> rankingEmpleadosConMasRetrasos(int cantidad);
+
+    /**
+     * Proyectos no finalizados con mayor costo actual (lo mismo que costoProyecto).
+     * @param cantidad Cuantos proyectos devolver como maximo.
+     * @return Lista de tuplas (numero de proyecto, costo), de mayor a menor.
+     */
+    public List<Tupla<Integer, Double>> rankingProyectosMasCaros(int cantidad);
+
+    /**
+     * Proyectos cuya fecha real de fin mas se paso de la fecha estimada al registrarlos.
+     * @param cantidad Cuantos proyectos devolver como maximo.
+     * @return Lista de tuplas (numero de proyecto, dias de desvio), de mayor a menor; solo proyectos con desvio.
+     */
+    public List<Tupla<Integer, Integer>> rankingProyectosMasDesviados(int cantidad);
+
+    /**
+     * Proyectos cuya fecha de inicio esta en el rango (ambas fechas incluidas).
+     * @param desde Fecha en formato AAAA-MM-DD.
+     * @param hasta Fecha en formato AAAA-MM-DD.
+     * @return Numeros de proyecto, por fecha y despues por numero.
+     * @throws IllegalArgumentException si alguna fecha es invalida o el rango esta invertido.
+     */
+    public List<Integer> proyectosQueEmpiezanEntre(String desde, String hasta) throws IllegalArgumentException;
+
+    /**
+     * Proyectos no finalizados cuya fecha real de fin (con tareas agregadas y retrasos) esta en el rango.
+     * @param desde Fecha en formato AAAA-MM-DD.
+     * @param hasta Fecha en formato AAAA-MM-DD.
+     * @return Numeros de proyecto, por fecha y despues por numero.
+     * @throws IllegalArgumentException si alguna fecha es invalida o el rango esta invertido.
+     */
+    public List<Integer> proyectosQueVencenEntre(String desde, String hasta) throws IllegalArgumentException;
+
+    /**
+     * Proyectos no finalizados cuya fecha real de fin ya se paso de la estimada.
+     * @param minimoDias Atraso minimo en dias (1 para todos los atrasados).
+     * @return Numeros de proyecto, del mas atrasado al menos atrasado.
+     */
+    public List<Integer> proyectosAtrasados(int minimoDias);
+
+    /**
+     * Devuelve una cadena de tareas sin holgura, de la primera a la ultima: las que, si se retrasan,
+     * retrasan la fecha real de fin del proyecto.
+     * @param numero Numero del proyecto.
+     * @return Titulos de las tareas del camino critico (vacia si el proyecto no tiene tareas).
+     */
+    public List<String> rutaCritica(Integer numero);
+
+    /**
+     * Inicio y fin mas tempranos de una tarea segun sus dependencias y los retrasos registrados,
+     * en dias desde el comienzo del cronograma del proyecto.
+     * @return Tupla (inicio, fin).
+     * @throws IllegalArgumentException Si el proyecto o la tarea no existen.
+     */
+    public Tupla<Long, Long> inicioYFinTarea(Integer numero, String titulo);
+
+    /**
+     * Busca los proyectos sin finalizar cuya fecha real de fin ya paso (segun el reloj del sistema)
+     * desde la revision anterior, y emite un evento PROYECTO_VENCIDO por cada uno. Cada proyecto
+     * se informa una sola vez mientras siga vencido. Solo mira los que vencieron: no recorre todos.
+     * Se puede llamar periodicamente con RevisorVencimientos.
+     * @return Numeros de los proyectos que vencieron desde la revision anterior.
+     */
+    public List<Integer> revisarVencimientos();
+
     // ============================================================
     // NUEVOS REQUERIMIENTOS
     // ============================================================
@@ -0,0 +1,86 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Empleados con capacidad libre ordenados por lo que cuestan, separados por categoria
+ * (los mismos niveles que PoolesCategoria).
+ *
+ * Dentro de cada grupo el costo de una tarea crece con la misma tarifa para todos: los contratados
+ * cobran horas (dias * 8 * valorHora) y los de planta dias redondeados (ceil(dias) * valorDia).
+ * Entonces, para cualquier duracion, el mas barato de un grupo es el de menor costo por un dia,
+ * y alcanza con mirar el primero de cada grupo admitido y comparar esos pocos: O(log n).
+ *
+ * Como en PoolesCategoria, cada nivel separa a sus empleados por capacidad libre. Para una tarea solo
+ * se miran los grupos de capacidad que alcanzan para su carga, y de cada uno el primero: una tarea de
+ * dia completo no pasa por los que estan ocupados a medias. La cantidad de grupos depende de las
+ * capacidades distintas y no de cuantos empleados hay.
+ */
+public class IndiceCosto {
+    //ordena por costo de un dia (valorHora * 8 o valorDia) y despues por legajo
+    private static final Comparator<Empleado> POR_COSTO = Comparator
+            .comparingLong((Empleado e) -> e.calcularCostoEnMilesimos(1))
+            .thenComparingInt(Empleado::getNumLegajo);
+
+    //DATOS
+    private List<TreeMap<Integer, TreeSet<Empleado>>> porCapacidad;	//uno por nivel de PoolesCategoria: capacidad libre -> empleados por costo
+    private HashMap<Empleado, Integer> indexados;	//capacidad libre con la que esta guardado cada uno
+
+    //CONSTRUCTOR
+    public IndiceCosto() {
+        this.porCapacidad = new ArrayList<>(PoolesCategoria.NIVELES.length);
+        for (int i = 0; i < PoolesCategoria.NIVELES.length; i++) {
+            this.porCapacidad.add(new TreeMap<>());
+        }
+        this.indexados = new HashMap<>();
+    }
+
+    /**
+     * Vuelve a ubicar al empleado segun la capacidad que le queda; si no le queda nada sale del indice.
+     * Se llama despues de cada cambio de carga o de capacidad.
+     */
+    public void actualizar(Empleado empleado) {
+        TreeMap<Integer, TreeSet<Empleado>> nivel = porCapacidad.get(PoolesCategoria.nivel(empleado.getCategoria()));
+        Integer anterior = indexados.remove(empleado);
+        if (anterior != null) {
+            TreeSet<Empleado> grupo = nivel.get(anterior);
+            grupo.remove(empleado);
+            if (grupo.isEmpty()) {
+                nivel.remove(anterior);
+            }
+        }
+        int libre = empleado.getCapacidadLibre();
+        if (libre > 0) {
+            nivel.computeIfAbsent(libre, k -> new TreeSet<>(POR_COSTO)).add(empleado);
+            indexados.put(empleado, libre);
+        }
+    }
+
+    /**
+     * El empleado disponible que menos cobraria por la tarea, respetando su categoria minima
+     * y con capacidad libre para su carga. A igual costo gana el de menor legajo.
+     * @return El empleado, o null si no hay ninguno disponible que la tarea admita.
+     */
+    public Empleado masBarato(Tarea tarea) {
+        double dias = tarea.getDiasEstimados();
+        int desde = tarea.getCategoriaMinima() == null ? 0 : PoolesCategoria.nivel(tarea.getCategoriaMinima());
+        Empleado elegido = null;
+        long menorCosto = Long.MAX_VALUE;
+        for (int i = desde; i < porCapacidad.size(); i++) {
+            for (TreeSet<Empleado> grupo : porCapacidad.get(i).tailMap(tarea.getCargaEnCentesimos(), true).values()) {
+                Empleado candidato = grupo.first();
+                long costo = candidato.calcularCostoEnMilesimos(dias);
+                if (costo < menorCosto || (costo == menorCosto && candidato.getNumLegajo() < elegido.getNumLegajo())) {
+                    elegido = candidato;
+                    menorCosto = costo;
+                }
+            }
+        }
+        return elegido;
+    }
+}
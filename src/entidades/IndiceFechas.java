@@ -0,0 +1,125 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Proyectos ordenados por fecha, para consultas por rango sin recorrer todos.
+ *
+ * Cada indice es un TreeMap de dia (LocalDate.toEpochDay) a los proyectos de ese dia:
+ * - por fecha de inicio (todos los proyectos),
+ * - por fecha real de fin (solo los no finalizados, para "vencen entre"),
+ * - por dias de atraso: fecha real de fin menos fecha estimada (solo no finalizados y con atraso).
+ *
+ * HomeSolution llama a actualizar despues de cada operacion que puede mover fechas (agregar tareas,
+ * registrar retrasos, finalizar). Se guarda lo ultimo indexado de cada proyecto, asi mover un proyecto
+ * es O(log n) y un rango cuesta O(log n + k).
+ */
+public class IndiceFechas {
+    //lo que esta indexado de cada proyecto, para poder sacarlo despues
+    private static final class Claves {
+        private long finReal;
+        private long atraso;
+        private boolean abierto;
+    }
+
+    //DATOS
+    private TreeMap<Long, TreeSet<Integer>> porInicio;
+    private TreeMap<Long, TreeSet<Integer>> porFinReal;
+    private TreeMap<Long, TreeSet<Integer>> porAtraso;
+    private HashMap<Integer, Claves> indexados;	//clave = numID
+
+    //CONSTRUCTOR
+    public IndiceFechas() {
+        this.porInicio = new TreeMap<>();
+        this.porFinReal = new TreeMap<>();
+        this.porAtraso = new TreeMap<>();
+        this.indexados = new HashMap<>();
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    public void actualizar(Proyecto proyecto) {
+        int numero = proyecto.getNumID();
+        long finReal = proyecto.getFechaRealFin().toEpochDay();
+        long atraso = proyecto.getDiasDeAtraso();
+        boolean abierto = !proyecto.estaFinalizado();
+
+        Claves claves = indexados.get(numero);
+        if (claves == null) {	//proyecto nuevo: la fecha de inicio no cambia nunca
+            claves = new Claves();
+            indexados.put(numero, claves);
+            agregar(porInicio, proyecto.getFechaInicio().toEpochDay(), numero);
+        } else if (claves.finReal == finReal && claves.atraso == atraso && claves.abierto == abierto) {
+            return;
+        } else if (claves.abierto) {
+            quitar(porFinReal, claves.finReal, numero);
+            if (claves.atraso > 0) {
+                quitar(porAtraso, claves.atraso, numero);
+            }
+        }
+        claves.finReal = finReal;
+        claves.atraso = atraso;
+        claves.abierto = abierto;
+        if (abierto) {
+            agregar(porFinReal, finReal, numero);
+            if (atraso > 0) {
+                agregar(porAtraso, atraso, numero);
+            }
+        }
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public List<Integer> empiezanEntre(LocalDate desde, LocalDate hasta) {	//ambas incluidas
+        return enRango(porInicio, desde, hasta);
+    }
+
+    public List<Integer> vencenEntre(LocalDate desde, LocalDate hasta) {	//no finalizados, por fecha real de fin
+        return enRango(porFinReal, desde, hasta);
+    }
+
+    /**
+     * Proyectos no finalizados cuya fecha real de fin se paso de la estimada en al menos minimoDias,
+     * del mas atrasado al menos atrasado.
+     */
+    public List<Integer> atrasados(int minimoDias) {
+        List<Integer> lista = new ArrayList<>();
+        for (TreeSet<Integer> numeros : porAtraso.tailMap((long) Math.max(minimoDias, 1), true).descendingMap().values()) {
+            lista.addAll(numeros);
+        }
+        return lista;
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private List<Integer> enRango(TreeMap<Long, TreeSet<Integer>> indice, LocalDate desde, LocalDate hasta) {
+        if (desde == null || hasta == null || hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("El rango de fechas no es válido");
+        }
+        NavigableMap<Long, TreeSet<Integer>> rango = indice.subMap(desde.toEpochDay(), true, hasta.toEpochDay(), true);
+        List<Integer> lista = new ArrayList<>();
+        for (Map.Entry<Long, TreeSet<Integer>> dia : rango.entrySet()) {
+            lista.addAll(dia.getValue());
+        }
+        return lista;
+    }
+
+    static void agregar(TreeMap<Long, TreeSet<Integer>> indice, long clave, int numero) {
+        indice.computeIfAbsent(clave, k -> new TreeSet<>()).add(numero);
+    }
+
+    static void quitar(TreeMap<Long, TreeSet<Integer>> indice, long clave, int numero) {
+        TreeSet<Integer> numeros = indice.get(clave);
+        numeros.remove(numero);
+        if (numeros.isEmpty()) {	//no deja dias vacios que despues haya que saltear
+            indice.remove(clave);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package entidades;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Indice invertido para buscar proyectos por domicilio, datos del cliente y tareas.
+ *
+ * Cada palabra (en minusculas y sin acentos) apunta a los proyectos donde aparece, con el peso
+ * del campo (el domicilio pesa mas que el cliente, y este mas que las tareas). Una palabra de la
+ * busqueda encuentra terminos iguales, terminos que empiezan con ella (con el TreeMap ordenado)
+ * y terminos que la contienen (con un indice de trigramas sobre los terminos).
+ * Todas las palabras de la busqueda tienen que aparecer; el puntaje es la suma de los pesos.
+ *
+ * Se actualiza al registrar proyectos y al agregar tareas; no hace falta reconstruirlo.
+ */
+public class IndiceTexto {
+    static final double PESO_DOMICILIO = 3;
+    static final double PESO_CLIENTE = 2;
+    static final double PESO_TAREA = 1;
+    //cuanto vale cada forma de coincidir
+    private static final double EXACTA = 1;
+    private static final double PREFIJO = 0.6;
+    private static final double SUBCADENA = 0.3;
+    private static final int N = 3;	//largo de los n-gramas
+
+    //DATOS
+    private TreeMap<String, HashMap<Integer, Double>> terminos;	//termino -> (proyecto -> peso)
+    private HashMap<String, Set<String>> ngramas;	//trigrama -> terminos que lo contienen
+
+    //CONSTRUCTOR
+    public IndiceTexto() {
+        this.terminos = new TreeMap<>();
+        this.ngramas = new HashMap<>();
+    }
+
+    // ------------------------------ INDEXADO ------------------------------
+
+    public void indexarProyecto(Proyecto proyecto) {
+        int numero = proyecto.getNumID();
+        indexar(numero, proyecto.getDomicilio(), PESO_DOMICILIO);
+        Cliente cliente = proyecto.getCliente();
+        indexar(numero, cliente.getNombre(), PESO_CLIENTE);
+        indexar(numero, cliente.getEmail(), PESO_CLIENTE);
+        indexar(numero, cliente.getTelefono(), PESO_CLIENTE);
+        agregar(normalizar(cliente.getEmail()).trim(), numero, PESO_CLIENTE);	//el mail entero tambien
+        for (Object obj : proyecto.getTareas()) {
+            indexarTarea(numero, (Tarea) obj);
+        }
+    }
+
+    public void indexarTarea(int numero, Tarea tarea) {
+        indexar(numero, tarea.getTituloID(), PESO_TAREA);
+        indexar(numero, tarea.getDescripcion(), PESO_TAREA);
+    }
+
+    private void indexar(int numero, String texto, double peso) {
+        for (String palabra : palabras(texto)) {
+            agregar(palabra, numero, peso);
+        }
+    }
+
+    private void agregar(String termino, int numero, double peso) {
+        if (termino.isEmpty()) {
+            return;
+        }
+        HashMap<Integer, Double> proyectos = terminos.get(termino);
+        if (proyectos == null) {	//termino nuevo: se registran sus trigramas
+            proyectos = new HashMap<>();
+            terminos.put(termino, proyectos);
+            for (String ngrama : ngramas(termino)) {
+                ngramas.computeIfAbsent(ngrama, k -> new HashSet<>()).add(termino);
+            }
+        }
+        proyectos.merge(numero, peso, Math::max);	//si aparece en varios campos vale el mas pesado
+    }
+
+    // ------------------------------ BUSQUEDA ------------------------------
+
+    /**
+     * Busca proyectos que contengan todas las palabras de la consulta (enteras, como prefijo o
+     * como parte de una palabra).
+     * @return Numeros de proyecto, del mas relevante al menos relevante; a igual puntaje, el menor numero.
+     */
+    public List<Integer> buscar(String consulta, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("El limite debe ser mayor a 0");
+        }
+        List<String> palabras = palabras(consulta);
+        if (palabras.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Double> puntajes = null;
+        for (String palabra : palabras) {
+            Map<Integer, Double> deLaPalabra = coincidencias(palabra);
+            if (puntajes == null) {
+                puntajes = deLaPalabra;
+            } else {
+                puntajes = interseccion(puntajes, deLaPalabra);
+            }
+            if (puntajes.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+        return mejores(puntajes, limite);
+    }
+
+    //proyecto -> mejor puntaje de la palabra entre todas sus formas de coincidir
+    private Map<Integer, Double> coincidencias(String palabra) {
+        HashMap<Integer, Double> puntajes = new HashMap<>();
+        SortedMap<String, HashMap<Integer, Double>> conPrefijo = terminos.subMap(palabra, palabra + Character.MAX_VALUE);
+        for (Map.Entry<String, HashMap<Integer, Double>> e : conPrefijo.entrySet()) {
+            sumar(puntajes, e.getValue(), e.getKey().equals(palabra) ? EXACTA : PREFIJO);
+        }
+        if (palabra.length() >= N) {
+            for (String termino : terminosQueContienen(palabra)) {
+                if (!termino.startsWith(palabra)) {	//los que empiezan igual ya se contaron
+                    sumar(puntajes, terminos.get(termino), SUBCADENA);
+                }
+            }
+        }
+        return puntajes;
+    }
+
+    private void sumar(HashMap<Integer, Double> puntajes, HashMap<Integer, Double> proyectos, double factor) {
+        for (Map.Entry<Integer, Double> p : proyectos.entrySet()) {
+            puntajes.merge(p.getKey(), p.getValue() * factor, Math::max);
+        }
+    }
+
+    //cruza los trigramas de la palabra empezando por el menos comun
+    private Set<String> terminosQueContienen(String palabra) {
+        List<String> trigramas = ngramas(palabra);
+        Set<String> menor = null;
+        for (String t : trigramas) {
+            Set<String> conTrigrama = ngramas.get(t);
+            if (conTrigrama == null) {
+                return new HashSet<>();
+            }
+            if (menor == null || conTrigrama.size() < menor.size()) {
+                menor = conTrigrama;
+            }
+        }
+        Set<String> resultado = new HashSet<>();
+        for (String termino : menor) {
+            if (termino.contains(palabra)) {
+                resultado.add(termino);
+            }
+        }
+        return resultado;
+    }
+
+    private Map<Integer, Double> interseccion(Map<Integer, Double> a, Map<Integer, Double> b) {
+        if (a.size() > b.size()) {	//recorre el mas chico
+            Map<Integer, Double> aux = a;
+            a = b;
+            b = aux;
+        }
+        HashMap<Integer, Double> resultado = new HashMap<>();
+        for (Map.Entry<Integer, Double> e : a.entrySet()) {
+            Double otro = b.get(e.getKey());
+            if (otro != null) {
+                resultado.put(e.getKey(), e.getValue() + otro);
+            }
+        }
+        return resultado;
+    }
+
+    private List<Integer> mejores(Map<Integer, Double> puntajes, int limite) {
+        //la cabeza es el peor de los que quedan
+        PriorityQueue<Map.Entry<Integer, Double>> mejores = new PriorityQueue<>((x, y) -> comparar(y, x));
+        for (Map.Entry<Integer, Double> e : puntajes.entrySet()) {
+            mejores.add(e);
+            if (mejores.size() > limite) {
+                mejores.poll();
+            }
+        }
+        List<Map.Entry<Integer, Double>> ordenados = new ArrayList<>(mejores);
+        ordenados.sort(this::comparar);
+        List<Integer> numeros = new ArrayList<>(ordenados.size());
+        for (Map.Entry<Integer, Double> e : ordenados) {
+            numeros.add(e.getKey());
+        }
+        return numeros;
+    }
+
+    //mayor puntaje primero, y a igual puntaje el menor numero
+    private int comparar(Map.Entry<Integer, Double> x, Map.Entry<Integer, Double> y) {
+        int porPuntaje = Double.compare(y.getValue(), x.getValue());
+        return porPuntaje != 0 ? porPuntaje : Integer.compare(x.getKey(), y.getKey());
+    }
+
+    // ------------------------------ TEXTO ------------------------------
+
+    static String normalizar(String texto) {	//minusculas y sin acentos
+        if (texto == null) {
+            return "";
+        }
+        String sinAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return sinAcentos.toLowerCase();
+    }
+
+    static List<String> palabras(String texto) {
+        List<String> palabras = new ArrayList<>();
+        for (String p : normalizar(texto).split("[^\\p{Alnum}]+")) {
+            if (!p.isEmpty()) {
+                palabras.add(p);
+            }
+        }
+        return palabras;
+    }
+
+    private static List<String> ngramas(String termino) {
+        List<String> lista = new ArrayList<>();
+        for (int i = 0; i + N <= termino.length(); i++) {
+            lista.add(termino.substring(i, i + N));
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,160 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vista inmutable del estado de HomeSolution en un momento dado.
+ *
+ * HomeSolution publica una instantanea nueva al final de cada operacion que modifica datos,
+ * copiando solo el proyecto y los empleados que cambiaron (los mapas son persistentes y
+ * comparten el resto). Un reporte largo puede leer siempre la misma instantanea, sin locks
+ * y sin ConcurrentModificationException, mientras las escrituras siguen.
+ * Cada instantanea trae ademas su Tablero con los totales ya calculados.
+ */
+public final class Instantanea {
+    static final Instantanea VACIA = new Instantanea(0, MapaPersistente.vacio(), MapaPersistente.vacio(), Tablero.VACIO);
+
+    //DATOS
+    private final long version;	//cuenta las operaciones publicadas
+    private final MapaPersistente<VistaProyecto> proyectos;	//clave = numID
+    private final MapaPersistente<VistaEmpleado> empleados;	//clave = numLegajo
+    private final Tablero tablero;
+
+    //CONSTRUCTOR
+    private Instantanea(long version, MapaPersistente<VistaProyecto> proyectos, MapaPersistente<VistaEmpleado> empleados,
+                        Tablero tablero) {
+        this.version = version;
+        this.proyectos = proyectos;
+        this.empleados = empleados;
+        this.tablero = tablero;
+    }
+
+    // ------------------------------ NUEVAS VERSIONES ------------------------------
+
+    Instantanea conProyecto(Proyecto proyecto) {
+        VistaProyecto nueva = new VistaProyecto(proyecto);
+        VistaProyecto anterior = proyectos.obtener(proyecto.getNumID());
+        return new Instantanea(version, proyectos.con(proyecto.getNumID(), nueva), empleados,
+                tablero.conProyecto(anterior, nueva));
+    }
+
+    Instantanea conEmpleado(Empleado empleado) {
+        VistaEmpleado nueva = new VistaEmpleado(empleado);
+        VistaEmpleado anterior = empleados.obtener(empleado.getNumLegajo());
+        return new Instantanea(version, proyectos, empleados.con(empleado.getNumLegajo(), nueva),
+                tablero.conEmpleado(anterior, nueva));
+    }
+
+    Instantanea siguienteVersion() {
+        return new Instantanea(version + 1, proyectos, empleados, tablero);
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Tablero getTablero() {
+        return tablero;
+    }
+
+    public int cantidadProyectos() {
+        return proyectos.tamanio();
+    }
+
+    public int cantidadEmpleados() {
+        return empleados.tamanio();
+    }
+
+    public VistaProyecto proyecto(Integer numero) {
+        VistaProyecto proyecto = buscarProyecto(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("El proyecto con número " + numero + " no existe");
+        }
+        return proyecto;
+    }
+
+    VistaProyecto buscarProyecto(int numero) {	//null si no existe
+        return proyectos.obtener(numero);
+    }
+
+    public double costoProyecto(Integer numero) {
+        return proyecto(numero).getCosto();
+    }
+
+    public long costoProyectoEnMilesimos(Integer numero) {
+        return proyecto(numero).getCostoEnMilesimos();
+    }
+
+    public String consultarProyecto(Integer numero) {
+        return proyecto(numero).toString();
+    }
+
+    public String consultarDomicilioProyecto(Integer numero) {
+        return proyecto(numero).getDomicilio();
+    }
+
+    public boolean estaFinalizado(Integer numero) {
+        return proyecto(numero).estaFinalizado();
+    }
+
+    public List<Tupla<Integer, String>> proyectosFinalizados() {
+        return proyectosEnEstado(Estado.finalizado);
+    }
+
+    public List<Tupla<Integer, String>> proyectosPendientes() {
+        return proyectosEnEstado(Estado.pendiente);
+    }
+
+    public List<Tupla<Integer, String>> proyectosActivos() {
+        return proyectosEnEstado(Estado.activo);
+    }
+
+    public List<Tupla<Integer, String>> empleados() {
+        List<Tupla<Integer, String>> lista = new ArrayList<>(empleados.tamanio());
+        empleados.recorrer(e -> lista.add(new Tupla<>(e.getNumLegajo(), e.getNombre())));
+        return lista;
+    }
+
+    public Object[] empleadosNoAsignados() {
+        List<Integer> noAsignados = new ArrayList<>();
+        empleados.recorrer(e -> {
+            if (e.estaDisponible()) {
+                noAsignados.add(e.getNumLegajo());
+            }
+        });
+        return noAsignados.toArray();
+    }
+
+    public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+        VistaEmpleado empleado = empleados.obtener(legajo);
+        if (empleado == null) {
+            throw new IllegalArgumentException("Empleado no puede ser null");
+        }
+        return empleado.getCantRetrasos();
+    }
+
+    public boolean tieneRestrasos(Integer legajo) {
+        VistaEmpleado empleado = empleados.obtener(legajo);
+        return empleado != null && empleado.getCantRetrasos() > 0;
+    }
+
+    VistaProyecto[] vistasProyectos() {	//para CalculoCostosMasivo
+        VistaProyecto[] vistas = new VistaProyecto[proyectos.tamanio()];
+        int[] cantidad = {0};
+        proyectos.recorrer(p -> vistas[cantidad[0]++] = p);
+        return vistas;
+    }
+
+    private List<Tupla<Integer, String>> proyectosEnEstado(String estado) {
+        List<Tupla<Integer, String>> lista = new ArrayList<>();
+        proyectos.recorrer(p -> {
+            if (p.getEstado().equals(estado)) {
+                lista.add(new Tupla<>(p.getNumID(), p.getDomicilio()));
+            }
+        });
+        return lista;
+    }
+}
@@ -0,0 +1,148 @@
+package entidades;
+
+import java.util.function.Consumer;
+
+/**
+ * Mapa inmutable de clave entera con copia de camino (hash trie de 32 ramas).
+ * Agregar o reemplazar devuelve un mapa nuevo en O(log32 n) copiando solo los nodos
+ * del camino a la clave; el resto se comparte con la version anterior, que sigue valida.
+ * Lo usan las instantaneas de HomeSolution, que se leen sin locks mientras se escribe.
+ */
+public final class MapaPersistente<V> {
+    private static final int BITS = 5;
+    private static final int MASCARA = (1 << BITS) - 1;
+    private static final MapaPersistente<?> VACIO = new MapaPersistente<>(null, 0);
+
+    //DATOS
+    private final Nodo raiz;
+    private final int tamanio;
+
+    //CONSTRUCTOR
+    private MapaPersistente(Nodo raiz, int tamanio) {
+        this.raiz = raiz;
+        this.tamanio = tamanio;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> MapaPersistente<V> vacio() {
+        return (MapaPersistente<V>) VACIO;
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V obtener(int clave) {
+        Nodo nodo = raiz;
+        int desplazamiento = 0;
+        while (nodo != null) {
+            int bit = 1 << ((clave >>> desplazamiento) & MASCARA);
+            if ((nodo.mapa & bit) == 0) {
+                return null;
+            }
+            Object hijo = nodo.hijos[Integer.bitCount(nodo.mapa & (bit - 1))];
+            if (hijo instanceof Entrada) {
+                Entrada e = (Entrada) hijo;
+                return e.clave == clave ? (V) e.valor : null;
+            }
+            nodo = (Nodo) hijo;
+            desplazamiento += BITS;
+        }
+        return null;
+    }
+
+    /**
+     * @return Un mapa nuevo con la clave asociada al valor (este no cambia).
+     */
+    public MapaPersistente<V> con(int clave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser nulo");
+        }
+        boolean esNueva = obtener(clave) == null;
+        Nodo nuevaRaiz = con(raiz, 0, new Entrada(clave, valor));
+        return new MapaPersistente<>(nuevaRaiz, esNueva ? tamanio + 1 : tamanio);
+    }
+
+    /**
+     * Recorre todos los valores (sin orden definido).
+     */
+    public void recorrer(Consumer<? super V> accion) {
+        if (raiz != null) {
+            recorrer(raiz, accion);
+        }
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private static Nodo con(Nodo nodo, int desplazamiento, Entrada nueva) {
+        int bit = 1 << ((nueva.clave >>> desplazamiento) & MASCARA);
+        if (nodo == null) {
+            return new Nodo(bit, new Object[]{nueva});
+        }
+        int posicion = Integer.bitCount(nodo.mapa & (bit - 1));
+
+        if ((nodo.mapa & bit) == 0) {	//no hay nada en esa rama: se inserta la entrada
+            Object[] hijos = new Object[nodo.hijos.length + 1];
+            System.arraycopy(nodo.hijos, 0, hijos, 0, posicion);
+            hijos[posicion] = nueva;
+            System.arraycopy(nodo.hijos, posicion, hijos, posicion + 1, nodo.hijos.length - posicion);
+            return new Nodo(nodo.mapa | bit, hijos);
+        }
+
+        Object hijo = nodo.hijos[posicion];
+        Object nuevoHijo;
+        if (hijo instanceof Nodo) {
+            nuevoHijo = con((Nodo) hijo, desplazamiento + BITS, nueva);
+        } else if (((Entrada) hijo).clave == nueva.clave) {
+            nuevoHijo = nueva;	//reemplaza el valor
+        } else {
+            nuevoHijo = dividir((Entrada) hijo, nueva, desplazamiento + BITS);
+        }
+        Object[] hijos = nodo.hijos.clone();
+        hijos[posicion] = nuevoHijo;
+        return new Nodo(nodo.mapa, hijos);
+    }
+
+    //dos claves distintas que caen en la misma rama bajan un nivel hasta separarse
+    private static Nodo dividir(Entrada a, Entrada b, int desplazamiento) {
+        int indiceA = (a.clave >>> desplazamiento) & MASCARA;
+        int indiceB = (b.clave >>> desplazamiento) & MASCARA;
+        if (indiceA == indiceB) {
+            return new Nodo(1 << indiceA, new Object[]{dividir(a, b, desplazamiento + BITS)});
+        }
+        Object[] hijos = indiceA < indiceB ? new Object[]{a, b} : new Object[]{b, a};
+        return new Nodo((1 << indiceA) | (1 << indiceB), hijos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void recorrer(Nodo nodo, Consumer<? super V> accion) {
+        for (Object hijo : nodo.hijos) {
+            if (hijo instanceof Entrada) {
+                accion.accept((V) ((Entrada) hijo).valor);
+            } else {
+                recorrer((Nodo) hijo, accion);
+            }
+        }
+    }
+
+    private static final class Nodo {
+        private final int mapa;			//bit i encendido = hay algo en la rama i
+        private final Object[] hijos;	//Entrada o Nodo, en el orden de los bits encendidos
+
+        Nodo(int mapa, Object[] hijos) {
+            this.mapa = mapa;
+            this.hijos = hijos;
+        }
+    }
+
+    private static final class Entrada {
+        private final int clave;
+        private final Object valor;
+
+        Entrada(int clave, Object valor) {
+            this.clave = clave;
+            this.valor = valor;
+        }
+    }
+}
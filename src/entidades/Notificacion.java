@@ -0,0 +1,83 @@
+package entidades;
+
+/**
+ * Aviso inmutable para el cliente de un proyecto, encolado en la BandejaSalida.
+ *
+ * El destino es el email del cliente, o su telefono si no tiene email. Dos notificaciones con la
+ * misma clave (motivo, proyecto y destino) dicen lo mismo: el despachador manda una sola.
+ */
+public final class Notificacion {
+    public enum Motivo {
+        SIN_PERSONAL,	//se intento asignar una tarea y no habia nadie
+        FINALIZADO
+    }
+
+    //DATOS
+    private final Motivo motivo;
+    private final int numeroProyecto;
+    private final String nombreCliente;
+    private final String destino;
+    private final String domicilio;
+    private final long costo;	//costo final en milesimos, 0 si no esta finalizado
+
+    //CONSTRUCTOR
+    Notificacion(Motivo motivo, int numeroProyecto, String nombreCliente, String destino, String domicilio, long costo) {
+        this.motivo = motivo;
+        this.numeroProyecto = numeroProyecto;
+        this.nombreCliente = nombreCliente;
+        this.destino = destino;
+        this.domicilio = domicilio;
+        this.costo = costo;
+    }
+
+    static Notificacion de(Motivo motivo, Proyecto proyecto) {
+        Cliente cliente = proyecto.getCliente();
+        String email = cliente.getEmail();
+        String destino = email == null || email.trim().isEmpty() ? cliente.getTelefono() : email.trim();
+        long costo = motivo == Motivo.FINALIZADO ? proyecto.getCostoFinalEnMilesimos() : 0;
+        return new Notificacion(motivo, proyecto.getNumID(), cliente.getNombre(), destino, proyecto.getDomicilio(), costo);
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public Motivo getMotivo() {
+        return motivo;
+    }
+
+    public int getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public String getNombreCliente() {
+        return nombreCliente;
+    }
+
+    public String getDestino() {
+        return destino;
+    }
+
+    public double getCosto() {
+        return Dinero.aDouble(costo);
+    }
+
+    public long getCostoEnMilesimos() {
+        return costo;
+    }
+
+    public String getClave() {	//para descartar repetidas
+        return motivo + ":" + numeroProyecto + ":" + destino;
+    }
+
+    public String getMensaje() {
+        if (motivo == Motivo.FINALIZADO) {
+            return String.format("Hola %s, el proyecto %d en %s fue finalizado. Costo final: %.2f",
+                    nombreCliente, numeroProyecto, domicilio, getCosto());
+        }
+        return String.format("Hola %s, el proyecto %d en %s quedo pendiente: por ahora no hay personal disponible",
+                nombreCliente, numeroProyecto, domicilio);
+    }
+
+    @Override
+    public String toString() {
+        return destino + " | " + motivo + " | " + numeroProyecto + " | " + getMensaje();
+    }
+}
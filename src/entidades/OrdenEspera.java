@@ -0,0 +1,25 @@
+package entidades;
+
+/**
+ * Criterio con el que la ColaEspera elige la proxima tarea sin responsable. A igual clave
+ * gana la que entro primero.
+ */
+public enum OrdenEspera {
+    FIFO {	//por orden de llegada
+        long clave(Proyecto proyecto) {
+            return 0;
+        }
+    },
+    INICIO_MAS_TEMPRANO {	//primero los proyectos que empiezan antes
+        long clave(Proyecto proyecto) {
+            return proyecto.getFechaInicio().toEpochDay();
+        }
+    },
+    VENCIMIENTO_MAS_TEMPRANO {	//primero los que tienen la fecha estimada de fin mas cerca
+        long clave(Proyecto proyecto) {
+            return proyecto.getFechaEstimadaFin().toEpochDay();
+        }
+    };
+
+    abstract long clave(Proyecto proyecto);
+}
@@ -0,0 +1,103 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Empleados con capacidad libre separados por categoria: un grupo para los contratados y uno por cada
+ * categoria de planta, de menor a mayor (CONTRATADO, INICIAL, TECNICO, EXPERTO).
+ *
+ * Para una tarea con categoria minima se mira el grupo de esa categoria y, si en ese no hay quien
+ * pueda tomarla, los de arriba; nunca se recorren los de abajo. Cada grupo ordena a sus empleados
+ * por capacidad libre, y dentro de un grupo se elige al que le queda la menor capacidad que alcanza
+ * para la carga de la tarea (un ceilingEntry, O(log n)). Asi las tareas chicas completan a los que ya
+ * estan trabajando en algo y los que estan libres del todo quedan para las tareas de dia completo.
+ */
+public class PoolesCategoria {
+    static final String[] NIVELES = {EmpleadoContratado.CATEGORIA, "INICIAL", "TECNICO", "EXPERTO"};
+
+    //DATOS
+    private List<TreeMap<Integer, LinkedHashSet<Empleado>>> porCapacidad;	//uno por nivel: capacidad libre -> empleados, en orden de llegada
+    private HashMap<Empleado, Integer> indexados;	//capacidad libre con la que esta guardado cada uno
+    private int[] cantidades;	//empleados con capacidad libre en cada nivel
+
+    //CONSTRUCTOR
+    public PoolesCategoria() {
+        this.porCapacidad = new ArrayList<>(NIVELES.length);
+        for (int i = 0; i < NIVELES.length; i++) {
+            this.porCapacidad.add(new TreeMap<>());
+        }
+        this.indexados = new HashMap<>();
+        this.cantidades = new int[NIVELES.length];
+    }
+
+    static int nivel(String categoria) {
+        for (int i = 0; i < NIVELES.length; i++) {
+            if (NIVELES[i].equals(categoria)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Categoría inválida: " + categoria);
+    }
+
+    /**
+     * Vuelve a ubicar al empleado segun la capacidad que le queda; si no le queda nada sale del pool.
+     * Se llama despues de cada cambio de carga o de capacidad.
+     */
+    public void actualizar(Empleado empleado) {
+        int nivel = nivel(empleado.getCategoria());
+        Integer anterior = indexados.remove(empleado);
+        if (anterior != null) {
+            LinkedHashSet<Empleado> grupo = porCapacidad.get(nivel).get(anterior);
+            grupo.remove(empleado);
+            if (grupo.isEmpty()) {
+                porCapacidad.get(nivel).remove(anterior);
+            }
+            cantidades[nivel]--;
+        }
+        int libre = empleado.getCapacidadLibre();
+        if (libre > 0) {
+            porCapacidad.get(nivel).computeIfAbsent(libre, k -> new LinkedHashSet<>()).add(empleado);
+            indexados.put(empleado, libre);
+            cantidades[nivel]++;
+        }
+    }
+
+    public int disponibles(String categoria) {	//con algo de capacidad libre
+        return cantidades[nivel(categoria)];
+    }
+
+    /**
+     * Empleado de la categoria minima de la tarea (o de una mayor) que puede tomar su carga,
+     * el que menos capacidad libre tenga entre los de la categoria mas baja que alcance.
+     * Sin categoria minima empieza por los contratados.
+     * @return El empleado, o null si no hay ninguno que cumpla.
+     */
+    public Empleado mejorAjuste(Tarea tarea) {
+        return mejorAjuste(tarea, Collections.emptySet());
+    }
+
+    /**
+     * Igual que mejorAjuste, pero salteando a los excluidos (por ejemplo los que estan ausentes en las
+     * fechas de la tarea). Cada excluido cuesta a lo sumo un paso mas, sin recorrer al resto: el primer
+     * grupo del tailMap es el mismo que daria un ceilingEntry.
+     */
+    public Empleado mejorAjuste(Tarea tarea, Set<Integer> excluidos) {	//legajos
+        int desde = tarea.getCategoriaMinima() == null ? 0 : nivel(tarea.getCategoriaMinima());
+        for (int i = desde; i < NIVELES.length; i++) {
+            for (LinkedHashSet<Empleado> grupo : porCapacidad.get(i).tailMap(tarea.getCargaEnCentesimos(), true).values()) {
+                for (Empleado e : grupo) {
+                    if (!excluidos.contains(e.getNumLegajo())) {
+                        return e;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
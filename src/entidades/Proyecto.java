@@ -2,6 +2,7 @@ package entidades;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,7 +28,20 @@ public class Proyecto {
 	//para guardar el historial de empleados en 0(1)
 	private Set<Empleado> historialEmpleados;
 	
-	private double costoFinal;
+	private long costoFinal;	//en milesimos (ver Dinero)
+	
+	//el costo se mantiene al dia con cada cambio de una tarea, para no recorrerlas todas en cada consulta
+	private long costoTareas;	//suma del costo de las tareas, en milesimos
+	private HashMap<Empleado, long[]> costoPorResponsable;	//empleado -> {costo de sus tareas, su bonus de planta}
+	private long bonusPlanta;	//suma de los bonus de planta
+	private int tareasConRetraso;
+	
+	//una linea por tarea para el toString, en orden de alta; las vistas de las instantaneas la comparten
+	private HashMap<String, Integer> altas;	//titulo -> orden de alta
+	private MapaPersistente<String> lineasTareas;
+	
+	//dependencias entre tareas: de aca salen las fechas estimada y real de fin
+	private Cronograma cronograma;
 	
 	//CONSTRUCTOR
 	public Proyecto(int numID, String domicilio, Cliente cliente, String inicio, String fin) {
@@ -45,6 +59,14 @@ public class Proyecto {
 		
 		this.tareas = new HashMap<>();
 		this.historialEmpleados = new HashSet<Empleado>();
+		this.cronograma = new Cronograma();
+		
+		this.costoTareas = 0;
+		this.costoPorResponsable = new HashMap<>();
+		this.bonusPlanta = 0;
+		this.tareasConRetraso = 0;
+		this.altas = new HashMap<>();
+		this.lineasTareas = MapaPersistente.vacio();
 	}
 	
     // ------------------------------ SET Y SET  ------------------------------ 
@@ -60,9 +82,24 @@ public class Proyecto {
     public Cliente getCliente() {
         return cliente;
     }
+    public long getDiasDeDesvio() {	//cuanto se paso la fecha real de la estimada al registrarlo
+        return ChronoUnit.DAYS.between(this.fechaEstimadaFinInicial, this.fechaRealFin);
+    }
+    public long getDiasDeAtraso() {	//lo mismo contra la estimada con las tareas agregadas: solo cuentan los retrasos
+        return ChronoUnit.DAYS.between(this.fechaEstimadaFin, this.fechaRealFin);
+    }
     public LocalDate getFechaInicio() {
         return fechaInicio;
     }
+    public LocalDate getFechaEstimadaFin() {
+        return fechaEstimadaFin;
+    }
+    public LocalDate getFechaEstimadaFinInicial() {
+        return fechaEstimadaFinInicial;
+    }
+    public LocalDate getFechaRealFin() {
+        return fechaRealFin;
+    }
     
     public Tarea getTarea(String tituloID) { //trae tarea por titulo
     	return this.tareas.get(tituloID);
@@ -80,6 +117,14 @@ public class Proyecto {
     	return this.historialEmpleados;
     }
     
+    public int getTareasConRetraso() {
+    	return this.tareasConRetraso;
+    }
+    
+    MapaPersistente<String> getLineasTareas() {	//inmutable: la vista la guarda tal cual
+    	return this.lineasTareas;
+    }
+    
     public Object[] getTareasNoAsignadas() {
     	List<Tarea> noAsignadas = new ArrayList<>();	//crea una lista temporal
     	
@@ -102,7 +147,7 @@ public class Proyecto {
     	this.fechaRealFin = LocalDate.parse(fechaFin, DateTimeFormatter.ISO_LOCAL_DATE); //toma la fecha
     	
     	//recalcula costoFinal y lo guarda
-    	this.costoFinal = this.calcularCostoTotal();
+    	this.costoFinal = this.calcularCostoTotalEnMilesimos();
     }
     
     public boolean todasLasTareasFinalizadas() {
@@ -119,109 +164,177 @@ public class Proyecto {
     }
     
     public void agregarTarea(Tarea nuevaTarea) {
+    	if (this.tareas.containsKey(nuevaTarea.getTituloID())) {
+    		throw new IllegalArgumentException("Ya existe una tarea con el título " + nuevaTarea.getTituloID());
+    	}
     	this.tareas.put(nuevaTarea.getTituloID(), nuevaTarea); //agrega tarea al HashMap
+    	this.altas.put(nuevaTarea.getTituloID(), this.altas.size());
+    	sumarCosto(nuevaTarea);
+    	actualizarLinea(nuevaTarea);
     	
-    	double dias = Math.ceil(nuevaTarea.getDiasEstimados()); //redondea 0.5 a 1 para calcular los dias
-    	
-    	this.fechaEstimadaFin = this.fechaEstimadaFin.plusDays((long) dias); //suma los dias de la tarea a la fecha estimada
-    	this.fechaRealFin = this.fechaRealFin.plusDays((long) dias); // al principio la estimada y real son iguales
+    	this.cronograma.agregar(nuevaTarea);	//por defecto va despues de la anterior
+    	actualizarFechas();
     }
     
+    public void definirDependencias(String titulo, List<String> dependeDe) {	//reemplaza las que tenia la tarea
+    	this.cronograma.definirDependencias(titulo, dependeDe);
+    	actualizarFechas();
+    }
+    
+    public Cronograma getCronograma() {
+    	return this.cronograma;
+    }
+    
+    //los dias se cuentan desde la fecha de fin con la que se registro el proyecto, como siempre;
+    //lo que cambia es que las tareas en paralelo no se suman, manda el camino critico
+    private void actualizarFechas() {
+    	if (this.estaFinalizado()) {	//la fecha real ya es la de finalizacion
+    		return;
+    	}
+    	this.fechaEstimadaFin = this.fechaEstimadaFinInicial.plusDays(this.cronograma.getDuracionEstimada());
+    	this.fechaRealFin = this.fechaEstimadaFinInicial.plusDays(this.cronograma.getDuracionReal());
+    }
+    
+    //los cambios de una tarea pasan por el proyecto para mantener al dia el costo y las lineas del toString
     public void asignarEmpleadoATarea(Tarea t, Empleado e) {
+    	restarCosto(t);
     	t.asignarResponsable(e);	//guarda al responsable en la tarea
     	this.historialEmpleados.add(e);	//agrega empleado al historial
+    	sumarCosto(t);
+    	actualizarLinea(t);
+    }
+    
+    public Empleado quitarResponsable(Tarea t) {
+    	restarCosto(t);
+    	Empleado anterior = t.quitarResponsable();
+    	sumarCosto(t);
+    	actualizarLinea(t);
+    	return anterior;
+    }
+    
+    public void finalizarTarea(Tarea t) {
+    	t.finalizarTarea();
+    	actualizarLinea(t);
     }
     
     public void registrarRetraso(Tarea t, double dias) {
+    	if (!t.huboRetraso()) {
+    		this.tareasConRetraso++;
+    	}
+    	restarCosto(t);
     	t.registrarRetraso(dias);	//agrega x dias a la tarea
+    	sumarCosto(t);	//si era su primer retraso, el responsable ya no cobra el bonus
     	
-    	long redondearDias = (long) Math.ceil(dias); //redondea por si llega a ser 0.5
-    	this.fechaRealFin = this.fechaRealFin.plusDays(redondearDias); //agrega los dias a la fechaRealFin
+    	this.cronograma.registrarRetraso(t, dias);	//solo mueve las tareas que dependen de esta
+    	actualizarFechas();
     }
     
-    public double getCostoFinal() {
+    public long getCostoFinalEnMilesimos() {
     	//si el proyecto no esta finalizado, calcula el costo del momento sin incrementos
     	if(!this.estaFinalizado()) {
-    		return this.calcularCostoTotal();
+    		return this.calcularCostoTotalEnMilesimos();
     	}
     	
     	return this.costoFinal;
     }
     
+    public double getCostoFinal() {
+    	return Dinero.aDouble(this.getCostoFinalEnMilesimos());
+    }
+    
     public double calcularCostoTotal() {
-        double costoBase = 0;
+        return Dinero.aDouble(this.calcularCostoTotalEnMilesimos());
+    }
+    
+    //todo en milesimos: las sumas son exactas y solo redondean los porcentajes
+    public long calcularCostoTotalEnMilesimos() {
         boolean huboRetraso = false;
-                  
-        //suma todas los costos de las tareas
-        for(Tarea t : this.tareas.values()) {
-            costoBase += t.calcularCosto();
-        }
         
         if (this.estaFinalizado() && this.fechaRealFin.isAfter(this.fechaEstimadaFinInicial)) { //si no esta finalizado tira error
             huboRetraso = true;	//vuelve a comprobar si hay diferencia entre fechaEstimadaFinInicial y fechaRealFin
         }
         
-        double bonusPlanta = 0;
-        for(Empleado e : this.historialEmpleados) {
-            //verifica si es de planta y si no tuvo retrasos
-            if(e instanceof EmpleadoDePlanta && e.getCantRetrasos() == 0) {
-                double costoTareas = 0;
-                for(Tarea t : this.tareas.values()) {	//suma todas las tareas realizadas por ese mismo responsable
-                    if(e.equals(t.getResponsable())) {
-                        costoTareas += t.calcularCosto();
-                    }
-                }
-                bonusPlanta += costoTareas * 0.02;	//suma el costo del empleado y si obtuvo su 2%
-            }
-        }
-        
-        double costoIntermedio = costoBase + bonusPlanta;	//ver cual bonus le corresponde al proyecto (retraso o no)
+        //el 2% de cada empleado de planta sin retrasos sobre sus tareas ya esta sumado en bonusPlanta
+        long costoIntermedio = this.costoTareas + this.bonusPlanta;	//ver cual bonus le corresponde al proyecto (retraso o no)
         
-        double bonusGeneral;
+        int bonusGeneral;
         if(huboRetraso) {
-            bonusGeneral = 0.25; //25%
+            bonusGeneral = 2500; //25%
         } else {
-            bonusGeneral = 0.35; //35%
+            bonusGeneral = 3500; //35%
         }
         
-        return costoIntermedio + (costoIntermedio * bonusGeneral);
+        return costoIntermedio + Dinero.porcentaje(costoIntermedio, bonusGeneral);
+    }
+    
+    /**
+     * Vuelve a ver si el empleado cobra el bonus de planta en este proyecto. HomeSolution la llama
+     * cuando un empleado tiene su primer retraso en otro proyecto.
+     */
+    public void actualizarBonus(Empleado e) {
+    	long[] acumulado = this.costoPorResponsable.get(e);
+    	if (acumulado != null) {
+    		this.bonusPlanta -= acumulado[1];
+    		acumulado[1] = bonus(e, acumulado[0]);
+    		this.bonusPlanta += acumulado[1];
+    	}
+    }
+    
+    private void restarCosto(Tarea t) {	//antes de cambiar al responsable o los dias de la tarea
+    	moverCosto(t, -t.calcularCostoEnMilesimos());
+    }
+    
+    private void sumarCosto(Tarea t) {
+    	moverCosto(t, t.calcularCostoEnMilesimos());
+    }
+    
+    private void moverCosto(Tarea t, long diferencia) {
+    	this.costoTareas += diferencia;
+    	Empleado e = t.getResponsable();
+    	if (e != null) {
+    		long[] acumulado = this.costoPorResponsable.computeIfAbsent(e, k -> new long[2]);
+    		acumulado[0] += diferencia;
+    		this.bonusPlanta -= acumulado[1];
+    		acumulado[1] = bonus(e, acumulado[0]);
+    		this.bonusPlanta += acumulado[1];
+    	}
+    }
+    
+    private static long bonus(Empleado e, long costoTareas) {	//2% si es de planta y no tuvo retrasos
+    	if (e instanceof EmpleadoDePlanta && e.getCantRetrasos() == 0) {
+    		return Dinero.porcentaje(costoTareas, 200);
+    	}
+    	return 0;
+    }
+    
+    private void actualizarLinea(Tarea t) {
+    	StringBuilder sb = new StringBuilder();
+    	sb.append("- ").append(t.getTituloID()).append(" (");
+    	sb.append(t.getEstado()).append(")\n");
+    	sb.append("  Responsable: ");
+    	if (t.getResponsable() != null) {
+    		sb.append(t.getResponsable().getNombre());
+    		sb.append(" (Leg: ").append(t.getResponsable().getNumLegajo()).append(")\n");
+    	} else {
+    		sb.append("--- SIN ASIGNAR ---\n");
+    	}
+    	this.lineasTareas = this.lineasTareas.con(enOrden(this.altas.get(t.getTituloID())), sb.toString());
+    }
+    
+    //el trie recorre primero los 5 bits mas bajos de la clave: dando vuelta los grupos de 5 bits
+    //del orden de alta, recorrerlo lista las tareas en el orden en que se agregaron
+    private static int enOrden(int alta) {
+    	int clave = 0;
+    	for (int i = 0; i < 6; i++) {
+    		clave = (clave << 5) | (alta & 31);
+    		alta >>>= 5;
+    	}
+    	return clave;
     }
     
 
     @Override
-    public String toString() {
-    	StringBuilder sb = new StringBuilder();	//pide usar StringBuilder (para utilizar el append)
-    	
-    	sb.append("PROYECTO N°: ").append(this.numID).append("\n");
-        sb.append("DOMICILIO: ").append(this.domicilio).append("\n");
-        sb.append("ESTADO: ").append(this.estado).append("\n");
-        sb.append("CLIENTE: ").append(this.cliente.toString()).append("\n\n");
-        
-        sb.append("--- FECHAS ---\n");
-        sb.append("Inicio: ").append(this.fechaInicio.toString()).append("\n");
-        sb.append("Fin Previsto: ").append(this.fechaEstimadaFin.toString()).append("\n");
-        sb.append("Fin Real: ").append(this.fechaRealFin.toString()).append("\n\n");
-        
-        sb.append("--- TAREAS ---\n");
-        if (this.tareas.isEmpty()) {
-            sb.append(" (Sin tareas asignadas)\n");
-        }
-        for (Tarea t : this.tareas.values()) {
-            sb.append("- ").append(t.getTituloID()).append(" (");
-            sb.append(t.getEstado()).append(")\n");
-            sb.append("  Responsable: ");
-            if (t.getResponsable() != null) {
-                sb.append(t.getResponsable().getNombre());
-                sb.append(" (Leg: ").append(t.getResponsable().getNumLegajo()).append(")\n");
-            } else {
-                sb.append("--- SIN ASIGNAR ---\n");
-            }
-        }
-        
-        sb.append("\n--- COSTO TOTAL (al momento) ---\n");
-        //formatea el costo a 2 decimales
-        sb.append("$ ").append(String.format("%.2f", this.getCostoFinal()));
-
-        return sb.toString();
+    public String toString() {	//el mismo texto que la vista de la instantanea
+    	return new VistaProyecto(this).toString();
     }
 }
@@ -0,0 +1,68 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Ranking de claves (legajos o numeros de proyecto) por un valor que cambia con las operaciones.
+ *
+ * Cada cambio saca la clave del arbol, actualiza el valor y la vuelve a poner: O(log n).
+ * Leer los primeros K es recorrer el comienzo del arbol: O(K + log n), sin calcular ni ordenar
+ * los valores de todos. Solo entran valores mayores a cero.
+ */
+public class Ranking {
+    //DATOS
+    private HashMap<Integer, Double> valores;
+    private TreeSet<Integer> orden;	//mayor valor primero y despues menor clave
+
+    //CONSTRUCTOR
+    public Ranking() {
+        this.valores = new HashMap<>();
+        this.orden = new TreeSet<>((a, b) -> {
+            int porValor = Double.compare(valores.get(b), valores.get(a));
+            return porValor != 0 ? porValor : Integer.compare(a, b);
+        });
+    }
+
+    public void actualizar(int clave, double valor) {
+        Double actual = valores.get(clave);
+        if (actual != null && actual == valor) {
+            return;
+        }
+        quitar(clave);
+        if (valor > 0) {
+            valores.put(clave, valor);
+            orden.add(clave);
+        }
+    }
+
+    public void quitar(int clave) {
+        if (valores.containsKey(clave)) {	//el valor es parte del orden: se saca del arbol antes de borrarlo
+            orden.remove(clave);
+            valores.remove(clave);
+        }
+    }
+
+    /**
+     * @return Hasta "cantidad" tuplas (clave, valor), de mayor a menor valor.
+     */
+    public List<Tupla<Integer, Double>> primeros(int cantidad) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor a 0");
+        }
+        List<Tupla<Integer, Double>> lista = new ArrayList<>(Math.min(cantidad, orden.size()));
+        Iterator<Integer> it = orden.iterator();
+        while (it.hasNext() && lista.size() < cantidad) {
+            Integer clave = it.next();
+            lista.add(new Tupla<>(clave, valores.get(clave)));
+        }
+        return lista;
+    }
+
+    public int tamanio() {
+        return valores.size();
+    }
+}
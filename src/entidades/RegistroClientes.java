@@ -0,0 +1,141 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Clientes sin repetir, cada uno con sus proyectos.
+ *
+ * Dos proyectos son del mismo cliente si coinciden el email (sin importar mayusculas ni espacios)
+ * o el telefono (solo los digitos). Todos comparten la misma instancia de Cliente, con el nombre
+ * con el que se registro la primera vez.
+ *
+ * Cada cliente guarda sus proyectos, los que siguen abiertos y lo que suman los finalizados,
+ * asi que las consultas por cliente cuestan lo que el resultado y no recorren todos los proyectos.
+ */
+public class RegistroClientes {
+    //lo que se sabe de cada cliente
+    private static final class Ficha {
+        private final Cliente cliente;
+        private final List<Proyecto> proyectos;	//en orden de registro
+        private final LinkedHashMap<Integer, Proyecto> abiertos;	//clave = numID
+        private long costoFinalizados;	//en milesimos (ver Dinero)
+
+        Ficha(Cliente cliente) {
+            this.cliente = cliente;
+            this.proyectos = new ArrayList<>();
+            this.abiertos = new LinkedHashMap<>();
+            this.costoFinalizados = 0;
+        }
+    }
+
+    //DATOS
+    private HashMap<String, Ficha> porEmail;	//clave = email normalizado
+    private HashMap<String, Ficha> porTelefono;	//clave = solo digitos
+    private HashMap<Cliente, Ficha> fichas;	//Cliente no redefine equals: se compara por instancia
+
+    //CONSTRUCTOR
+    public RegistroClientes() {
+        this.porEmail = new HashMap<>();
+        this.porTelefono = new HashMap<>();
+        this.fichas = new HashMap<>();
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    /**
+     * Devuelve el cliente ya registrado con ese email o telefono (primero se busca por email),
+     * o registra uno nuevo. Si el cliente existia y trae un dato nuevo, el dato queda asociado a el.
+     */
+    public Cliente obtenerOCrear(String nombre, String email, String telefono) {
+        String claveEmail = normalizarEmail(email);
+        String claveTelefono = normalizarTelefono(telefono);
+        Ficha ficha = porEmail.get(claveEmail);
+        if (ficha == null) {
+            ficha = porTelefono.get(claveTelefono);
+        }
+        if (ficha == null) {
+            ficha = new Ficha(new Cliente(nombre, email, telefono));
+            fichas.put(ficha.cliente, ficha);
+        }
+        if (!claveEmail.isEmpty()) {
+            porEmail.putIfAbsent(claveEmail, ficha);
+        }
+        if (!claveTelefono.isEmpty()) {
+            porTelefono.putIfAbsent(claveTelefono, ficha);
+        }
+        return ficha.cliente;
+    }
+
+    public void agregarProyecto(Proyecto proyecto) {
+        Ficha ficha = ficha(proyecto.getCliente());
+        ficha.proyectos.add(proyecto);
+        if (!proyecto.estaFinalizado()) {
+            ficha.abiertos.put(proyecto.getNumID(), proyecto);
+        }
+    }
+
+    public void finalizarProyecto(Proyecto proyecto) {	//despues de que el proyecto calculo su costo final
+        Ficha ficha = ficha(proyecto.getCliente());
+        if (ficha.abiertos.remove(proyecto.getNumID()) != null) {
+            ficha.costoFinalizados = Dinero.sumar(ficha.costoFinalizados, proyecto.getCostoFinalEnMilesimos());
+        }
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public Cliente buscar(String emailOTelefono) {	//null si no hay ningun cliente con ese dato
+        Ficha ficha = buscarFicha(emailOTelefono);
+        return ficha == null ? null : ficha.cliente;
+    }
+
+    public List<Proyecto> proyectosDe(Cliente cliente) {
+        return new ArrayList<>(ficha(cliente).proyectos);
+    }
+
+    public List<Proyecto> abiertosDe(Cliente cliente) {
+        return new ArrayList<>(ficha(cliente).abiertos.values());
+    }
+
+    public double costoFinalizadosDe(Cliente cliente) {
+        return Dinero.aDouble(ficha(cliente).costoFinalizados);
+    }
+
+    public int cantidadClientes() {
+        return fichas.size();
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private Ficha buscarFicha(String emailOTelefono) {
+        if (emailOTelefono == null) {
+            return null;
+        }
+        Ficha ficha = porEmail.get(normalizarEmail(emailOTelefono));
+        if (ficha == null) {
+            String telefono = normalizarTelefono(emailOTelefono);
+            if (!telefono.isEmpty()) {
+                ficha = porTelefono.get(telefono);
+            }
+        }
+        return ficha;
+    }
+
+    private Ficha ficha(Cliente cliente) {
+        Ficha ficha = fichas.get(cliente);
+        if (ficha == null) {
+            throw new IllegalArgumentException("El cliente " + cliente.getNombre() + " no esta registrado");
+        }
+        return ficha;
+    }
+
+    static String normalizarEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    static String normalizarTelefono(String telefono) {
+        return telefono == null ? "" : telefono.replaceAll("[^0-9]", "");
+    }
+}
@@ -0,0 +1,16 @@
+package entidades;
+
+/**
+ * Resultado de intentar asignar un responsable a una tarea sin usar excepciones
+ * para los casos normales (por ejemplo, que no haya empleados libres).
+ */
+public enum ResultadoAsignacion {
+    ASIGNADO,				//la tarea quedo con responsable
+    SIN_EMPLEADOS,			//no hay empleados disponibles, el proyecto queda pendiente
+    YA_ASIGNADA,			//la tarea ya tenia responsable
+    PROYECTO_FINALIZADO;	//no se puede operar sobre un proyecto finalizado
+
+    public boolean fueAsignado() {
+        return this == ASIGNADO;
+    }
+}
@@ -0,0 +1,55 @@
+package entidades;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Llama a revisarVencimientos cada cierto tiempo desde un hilo propio y avisa al callback
+ * cuando vencio algun proyecto (los eventos PROYECTO_VENCIDO salen igual por eventos()).
+ *
+ * Corre en otro hilo, asi que el sistema tiene que ser seguro entre hilos: un HomeSolution
+ * se envuelve en HomeSolutionSincronizada.
+ */
+public class RevisorVencimientos implements AutoCloseable {
+    //DATOS
+    private final IHomeSolution sistema;
+    private final Consumer<List<Integer>> alVencer;
+    private final ScheduledExecutorService timer;
+
+    //CONSTRUCTOR
+    public RevisorVencimientos(IHomeSolution sistema, long periodo, TimeUnit unidad, Consumer<List<Integer>> alVencer) {
+        if (sistema == null || unidad == null || alVencer == null) {
+            throw new IllegalArgumentException("El sistema, la unidad y el callback no pueden ser nulos");
+        }
+        if (periodo <= 0) {
+            throw new IllegalArgumentException("El periodo debe ser mayor a 0");
+        }
+        this.sistema = sistema;
+        this.alVencer = alVencer;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "revisor-vencimientos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.timer.scheduleWithFixedDelay(this::revisar, 0, periodo, unidad);
+    }
+
+    private void revisar() {
+        try {
+            List<Integer> vencidos = sistema.revisarVencimientos();
+            if (!vencidos.isEmpty()) {
+                alVencer.accept(vencidos);
+            }
+        } catch (RuntimeException e) {
+            //una excepcion cancelaria las revisiones siguientes: se descarta y se sigue
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
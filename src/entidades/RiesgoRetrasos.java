@@ -0,0 +1,166 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Puntaje de riesgo de retraso de cada empleado: dias de retraso esperados por dia estimado de tarea.
+ *
+ * Se calcula con lo que el empleado ya trabajo (dias de retraso registrados sobre los dias estimados
+ * de sus tareas finalizadas), mezclado con una tasa previa que pesa como PESO_PREVIO dias de trabajo.
+ * Asi un empleado nuevo arranca con la tasa previa y no con riesgo cero, y uno con mucha historia
+ * sin retrasos queda por debajo de el.
+ *
+ * El puntaje se actualiza en cada retraso o finalizacion y queda guardado, asi que leerlo es O(1).
+ * Los empleados disponibles estan ordenados por puntaje en un grupo por nivel de PoolesCategoria:
+ * para una tarea con categoria minima se comparan los primeros de los niveles que admite, sin pasar
+ * por los de abajo, y el de menor riesgo sale en O(log n). Dentro de cada nivel hay un grupo por
+ * capacidad libre, como en PoolesCategoria, y se miran solo los grupos en los que entra la carga
+ * de la tarea.
+ */
+public class RiesgoRetrasos {
+    static final double TASA_PREVIA = 0.1;	//un dia de retraso cada 10 estimados
+    static final double PESO_PREVIO = 5;
+
+    //lo que se sabe de cada empleado
+    private static final class Perfil {
+        private final Empleado empleado;
+        private double diasRetraso;
+        private double diasTrabajados;	//dias estimados de sus tareas finalizadas
+        private double puntaje;
+        private int libre;	//capacidad libre con la que esta guardado; 0 = no esta entre los disponibles
+
+        Perfil(Empleado empleado) {
+            this.empleado = empleado;
+            this.diasRetraso = 0;
+            this.diasTrabajados = 0;
+            this.puntaje = TASA_PREVIA;
+            this.libre = 0;
+        }
+    }
+
+    //por puntaje y despues por legajo
+    private static final Comparator<Perfil> POR_RIESGO = Comparator
+            .comparingDouble((Perfil p) -> p.puntaje)
+            .thenComparingInt(p -> p.empleado.getNumLegajo());
+
+    //DATOS
+    private HashMap<Integer, Perfil> perfiles;	//clave = numLegajo
+    private List<TreeMap<Integer, TreeSet<Perfil>>> disponibles;	//uno por nivel de PoolesCategoria: capacidad libre -> perfiles por riesgo
+
+    //CONSTRUCTOR
+    public RiesgoRetrasos() {
+        this.perfiles = new HashMap<>();
+        this.disponibles = new ArrayList<>(PoolesCategoria.NIVELES.length);
+        for (int i = 0; i < PoolesCategoria.NIVELES.length; i++) {
+            this.disponibles.add(new TreeMap<>());
+        }
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    public void registrarEmpleado(Empleado empleado) {
+        Perfil perfil = new Perfil(empleado);
+        perfiles.put(empleado.getNumLegajo(), perfil);
+        perfil.libre = empleado.getCapacidadLibre();
+        poner(perfil);
+    }
+
+    public void registrarRetraso(Empleado empleado, double dias) {
+        Perfil perfil = perfil(empleado);
+        sacar(perfil);
+        perfil.diasRetraso += dias;
+        recalcular(perfil);
+    }
+
+    public void registrarFinalizacion(Empleado empleado, double diasEstimados) {
+        Perfil perfil = perfil(empleado);
+        sacar(perfil);
+        perfil.diasTrabajados += diasEstimados;
+        recalcular(perfil);
+    }
+
+    public void actualizar(Empleado empleado) {	//despues de cada cambio de carga o de capacidad
+        Perfil perfil = perfil(empleado);
+        sacar(perfil);
+        perfil.libre = empleado.getCapacidadLibre();
+        poner(perfil);
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public double puntaje(Integer legajo) {
+        Perfil perfil = perfiles.get(legajo);
+        if (perfil == null) {
+            throw new IllegalArgumentException("El empleado con legajo " + legajo + " no existe");
+        }
+        return perfil.puntaje;
+    }
+
+    public Empleado menorRiesgoDisponible() {	//null si no hay disponibles
+        return menorRiesgoDesde(0, 1);
+    }
+
+    /**
+     * El de menor riesgo entre los disponibles que la tarea admite (su categoria minima o una mayor)
+     * y que pueden tomar su carga: el mejor de los primeros de cada grupo de capacidad que alcanza.
+     * @return El empleado, o null si no hay ninguno.
+     */
+    public Empleado menorRiesgoDisponible(Tarea tarea) {
+        int desde = tarea.getCategoriaMinima() == null ? 0 : PoolesCategoria.nivel(tarea.getCategoriaMinima());
+        return menorRiesgoDesde(desde, tarea.getCargaEnCentesimos());
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private Perfil perfil(Empleado empleado) {
+        Perfil perfil = perfiles.get(empleado.getNumLegajo());
+        if (perfil == null) {
+            throw new IllegalArgumentException("El empleado con legajo " + empleado.getNumLegajo() + " no existe");
+        }
+        return perfil;
+    }
+
+    private Empleado menorRiesgoDesde(int nivel, int carga) {	//carga en centesimos
+        Perfil elegido = null;
+        for (int i = nivel; i < disponibles.size(); i++) {
+            for (TreeSet<Perfil> grupo : disponibles.get(i).tailMap(carga, true).values()) {
+                Perfil candidato = grupo.first();
+                if (elegido == null || POR_RIESGO.compare(candidato, elegido) < 0) {
+                    elegido = candidato;
+                }
+            }
+        }
+        return elegido == null ? null : elegido.empleado;
+    }
+
+    private TreeMap<Integer, TreeSet<Perfil>> nivel(Perfil perfil) {
+        return disponibles.get(PoolesCategoria.nivel(perfil.empleado.getCategoria()));
+    }
+
+    private void poner(Perfil perfil) {
+        if (perfil.libre > 0) {
+            nivel(perfil).computeIfAbsent(perfil.libre, k -> new TreeSet<>(POR_RIESGO)).add(perfil);
+        }
+    }
+
+    //el puntaje y la capacidad son parte del orden: hay que sacarlo del arbol antes de cambiarlos
+    private void sacar(Perfil perfil) {
+        if (perfil.libre > 0) {
+            TreeSet<Perfil> grupo = nivel(perfil).get(perfil.libre);
+            grupo.remove(perfil);
+            if (grupo.isEmpty()) {
+                nivel(perfil).remove(perfil.libre);
+            }
+        }
+    }
+
+    private void recalcular(Perfil perfil) {
+        perfil.puntaje = (perfil.diasRetraso + TASA_PREVIA * PESO_PREVIO) / (perfil.diasTrabajados + PESO_PREVIO);
+        poner(perfil);
+    }
+}
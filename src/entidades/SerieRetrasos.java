@@ -0,0 +1,191 @@
+package entidades;
+
+import java.util.Arrays;
+
+/**
+ * Serie de tiempo de retrasos (instante y dias) guardada en arreglos primitivos.
+ *
+ * Los retrasos llegan en orden de tiempo, asi que una ventana [desde, hasta] es un rango
+ * de posiciones que se encuentra con busqueda binaria. Con sumas acumuladas, contar y sumar
+ * son O(log n). Para los percentiles hay un arbol de segmentos persistente sobre los dias
+ * (una version por retraso): restando la version del final de la ventana menos la del principio
+ * queda el histograma de la ventana y el k-esimo se baja en O(log CUBETAS).
+ *
+ * Los dias se agrupan de a medio dia (como se redondean las fechas en Proyecto), asi que los
+ * percentiles son exactos a medio dia; los retrasos de mas de 512 dias cuentan como 512.
+ */
+public class SerieRetrasos {
+    static final int CUBETAS = 1024;	//medio dia cada una: 0.5 .. 512 dias
+    private static final int CAPACIDAD_INICIAL = 8;
+    private static final int NODOS_POR_RETRASO = 11;	//log2(CUBETAS) + 1
+
+    //DATOS
+    private long[] instantes;	//en milisegundos, no decrecientes
+    private double[] acumulado;	//acumulado[i] = suma de los dias de los primeros i retrasos
+    private int[] raices;	//raices[i] = arbol con los primeros i retrasos
+    private int cantidad;
+
+    //arbol persistente en arreglos; el nodo 0 es el arbol vacio
+    private int[] izquierdo;
+    private int[] derecho;
+    private int[] cuenta;
+    private int nodos;
+
+    //CONSTRUCTOR
+    public SerieRetrasos() {
+        this.instantes = new long[CAPACIDAD_INICIAL];
+        this.acumulado = new double[CAPACIDAD_INICIAL + 1];
+        this.raices = new int[CAPACIDAD_INICIAL + 1];
+        this.cantidad = 0;
+        this.izquierdo = new int[CAPACIDAD_INICIAL * NODOS_POR_RETRASO + 1];
+        this.derecho = new int[this.izquierdo.length];
+        this.cuenta = new int[this.izquierdo.length];
+        this.nodos = 1;
+    }
+
+    // ------------------------------ REGISTRO ------------------------------
+
+    /**
+     * Agrega un retraso. Si el instante es anterior al ultimo registrado se toma el ultimo,
+     * para que la serie siga ordenada.
+     */
+    public void registrar(long instante, double dias) {
+        if (dias <= 0) {
+            throw new IllegalArgumentException("La cantidad de días debe ser mayor a 0");
+        }
+        asegurarLugar();
+        if (cantidad > 0 && instante < instantes[cantidad - 1]) {
+            instante = instantes[cantidad - 1];
+        }
+        instantes[cantidad] = instante;
+        acumulado[cantidad + 1] = acumulado[cantidad] + dias;
+        raices[cantidad + 1] = insertar(raices[cantidad], 0, CUBETAS - 1, cubeta(dias));
+        cantidad++;
+    }
+
+    // ------------------------------ CONSULTAS ------------------------------
+
+    public int tamanio() {
+        return cantidad;
+    }
+
+    public int contar(long desde, long hasta) {
+        return hasta(hasta) - desde(desde);
+    }
+
+    public double sumarDias(long desde, long hasta) {
+        int i = desde(desde);
+        int j = hasta(hasta);
+        return j > i ? acumulado[j] - acumulado[i] : 0;
+    }
+
+    /**
+     * Percentil por rango mas cercano de los dias de retraso en la ventana.
+     * @param percentil Entre 0 (exclusivo) y 100.
+     * @return Dias (redondeados a medio dia hacia arriba), o 0 si no hay retrasos en la ventana.
+     */
+    public double percentil(long desde, long hasta, double percentil) {
+        if (percentil <= 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        int i = desde(desde);
+        int j = hasta(hasta);
+        if (j <= i) {
+            return 0;
+        }
+        int k = (int) Math.ceil(percentil / 100 * (j - i));
+        return diasDeCubeta(kesimo(raices[i], raices[j], Math.max(k, 1)));
+    }
+
+    // ------------------------------ AUXILIARES ------------------------------
+
+    private int desde(long instante) {	//primera posicion con instante >= "instante"
+        int bajo = 0;
+        int alto = cantidad;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (instantes[medio] < instante) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    private int hasta(long instante) {	//primera posicion con instante > "instante"
+        int bajo = 0;
+        int alto = cantidad;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (instantes[medio] <= instante) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    static int cubeta(double dias) {
+        int c = (int) Math.ceil(dias * 2) - 1;
+        return Math.max(0, Math.min(CUBETAS - 1, c));
+    }
+
+    static double diasDeCubeta(int cubeta) {
+        return (cubeta + 1) / 2.0;
+    }
+
+    //copia el camino hasta la hoja y comparte el resto con la version anterior
+    private int insertar(int anterior, int bajo, int alto, int posicion) {
+        int nuevo = nodos++;
+        cuenta[nuevo] = cuenta[anterior] + 1;
+        if (bajo == alto) {
+            return nuevo;
+        }
+        int medio = (bajo + alto) >>> 1;
+        if (posicion <= medio) {
+            izquierdo[nuevo] = insertar(izquierdo[anterior], bajo, medio, posicion);
+            derecho[nuevo] = derecho[anterior];
+        } else {
+            izquierdo[nuevo] = izquierdo[anterior];
+            derecho[nuevo] = insertar(derecho[anterior], medio + 1, alto, posicion);
+        }
+        return nuevo;
+    }
+
+    private int kesimo(int antes, int despues, int k) {
+        int bajo = 0;
+        int alto = CUBETAS - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            int aLaIzquierda = cuenta[izquierdo[despues]] - cuenta[izquierdo[antes]];
+            if (k <= aLaIzquierda) {
+                antes = izquierdo[antes];
+                despues = izquierdo[despues];
+                alto = medio;
+            } else {
+                k -= aLaIzquierda;
+                antes = derecho[antes];
+                despues = derecho[despues];
+                bajo = medio + 1;
+            }
+        }
+        return bajo;
+    }
+
+    private void asegurarLugar() {
+        if (cantidad == instantes.length) {
+            int nueva = instantes.length * 2;
+            instantes = Arrays.copyOf(instantes, nueva);
+            acumulado = Arrays.copyOf(acumulado, nueva + 1);
+            raices = Arrays.copyOf(raices, nueva + 1);
+        }
+        if (nodos + NODOS_POR_RETRASO > cuenta.length) {
+            int nueva = cuenta.length * 2;
+            izquierdo = Arrays.copyOf(izquierdo, nueva);
+            derecho = Arrays.copyOf(derecho, nueva);
+            cuenta = Arrays.copyOf(cuenta, nueva);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package entidades;
+
+/**
+ * Recibe las filas de CalculoCostosMasivo: una por proyecto.
+ * Se llama desde varios hilos del pool a la vez y sin orden, asi que tiene que ser seguro entre hilos
+ * (por ejemplo un ConcurrentHashMap, un LongAdder o un writer sincronizado).
+ */
+@FunctionalInterface
+public interface SumideroCostos {
+    void aceptar(int numero, long costoEnMilesimos, String estado);	//ver Dinero
+}
@@ -0,0 +1,92 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cursor de un suscriptor sobre un FlujoEventos. Cada suscripcion la lee un solo hilo
+ * y avanza a su ritmo, sin afectar a las demas (salvo la contrapresion de ESPERAR).
+ */
+public final class Suscripcion {
+    //DATOS
+    private final FlujoEventos flujo;
+    private volatile long leido;	//ultima secuencia entregada; la mira el escritor para no pisarla
+    private long perdidos;	//eventos salteados por atraso (solo con DESCARTAR)
+    private volatile boolean cancelada;
+
+    //CONSTRUCTOR
+    Suscripcion(FlujoEventos flujo, long desde) {
+        this.flujo = flujo;
+        this.leido = desde;
+        this.perdidos = 0;
+        this.cancelada = false;
+    }
+
+    /**
+     * Devuelve hasta "maximo" eventos pendientes, en orden, sin bloquear.
+     * @return Lote de eventos (vacio si no hay nada nuevo).
+     */
+    public List<EventoDominio> siguienteLote(int maximo) {
+        if (maximo <= 0) {
+            throw new IllegalArgumentException("El maximo debe ser mayor a 0");
+        }
+        List<EventoDominio> lote = new ArrayList<>();
+        if (cancelada) {
+            return lote;
+        }
+        long siguiente = leido + 1;
+        long disponible = flujo.getCursor();
+        while (siguiente <= disponible && lote.size() < maximo) {
+            EventoDominio evento = flujo.leer(siguiente);
+            if (evento == null) {	//el escritor dio la vuelta: saltea lo que ya no esta
+                disponible = flujo.getCursor();
+                long primeroVigente = disponible - flujo.getCapacidad() + 1;
+                perdidos += primeroVigente - siguiente;
+                siguiente = primeroVigente;
+                continue;
+            }
+            lote.add(evento);
+            siguiente++;
+        }
+        leido = siguiente - 1;
+        return lote;
+    }
+
+    /**
+     * Como siguienteLote, pero espera hasta "espera" milisegundos a que haya al menos un evento.
+     */
+    public List<EventoDominio> esperarLote(int maximo, long espera) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(espera);
+        List<EventoDominio> lote = siguienteLote(maximo);
+        while (lote.isEmpty() && !cancelada && System.nanoTime() < limite) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(50_000);
+            lote = siguienteLote(maximo);
+        }
+        return lote;
+    }
+
+    /**
+     * Deja de recibir eventos y libera al escritor si estaba esperando a este suscriptor.
+     */
+    public void cancelar() {
+        cancelada = true;
+        flujo.cancelar(this);
+    }
+
+    public long getLeido() {
+        return leido;
+    }
+
+    public long getPerdidos() {
+        return perdidos;
+    }
+
+    public boolean estaCancelada() {
+        return cancelada;
+    }
+}
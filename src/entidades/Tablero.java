@@ -0,0 +1,136 @@
+package entidades;
+
+/**
+ * Totales para el tablero de control, siempre al dia.
+ *
+ * Es inmutable y viaja dentro de cada Instantanea: cuando se publica un proyecto o un empleado,
+ * se resta lo que aportaba su vista anterior y se suma lo de la nueva. Asi cada operacion cuesta
+ * lo mismo que ya cuesta publicar, y leer el tablero es O(1) sin recorrer proyectos ni empleados.
+ * Los costos se acumulan en milesimos (ver Dinero), asi sumar y restar no deja error.
+ */
+public final class Tablero {
+    static final Tablero VACIO = new Tablero(0, 0, 0, 0, 0, 0, 0, 0);
+
+    //DATOS
+    private final int pendientes;
+    private final int activos;
+    private final int finalizados;
+    private final long costoEnCurso;	//costo actual de los proyectos no finalizados
+    private final long costoFinalizados;	//suma de los costos finales
+    private final int empleadosOcupados;
+    private final int empleadosLibres;
+    private final int tareasConRetraso;
+
+    //CONSTRUCTOR
+    private Tablero(int pendientes, int activos, int finalizados, long costoEnCurso, long costoFinalizados,
+                    int empleadosOcupados, int empleadosLibres, int tareasConRetraso) {
+        this.pendientes = pendientes;
+        this.activos = activos;
+        this.finalizados = finalizados;
+        this.costoEnCurso = costoEnCurso;
+        this.costoFinalizados = costoFinalizados;
+        this.empleadosOcupados = empleadosOcupados;
+        this.empleadosLibres = empleadosLibres;
+        this.tareasConRetraso = tareasConRetraso;
+    }
+
+    // ------------------------------ ACTUALIZACION ------------------------------
+
+    Tablero conProyecto(VistaProyecto anterior, VistaProyecto nueva) {	//anterior es null si el proyecto es nuevo
+        int[] porEstado = {pendientes, activos, finalizados};
+        long[] costos = {costoEnCurso, costoFinalizados};
+        int conRetraso = tareasConRetraso;
+        if (anterior != null) {
+            porEstado[indice(anterior.getEstado())]--;
+            int sale = anterior.estaFinalizado() ? 1 : 0;
+            costos[sale] = Dinero.restar(costos[sale], anterior.getCostoEnMilesimos());
+            conRetraso -= anterior.getTareasConRetraso();
+        }
+        porEstado[indice(nueva.getEstado())]++;
+        int entra = nueva.estaFinalizado() ? 1 : 0;
+        costos[entra] = Dinero.sumar(costos[entra], nueva.getCostoEnMilesimos());
+        conRetraso += nueva.getTareasConRetraso();
+        return new Tablero(porEstado[0], porEstado[1], porEstado[2], costos[0], costos[1],
+                empleadosOcupados, empleadosLibres, conRetraso);
+    }
+
+    Tablero conEmpleado(VistaEmpleado anterior, VistaEmpleado nueva) {	//anterior es null si el empleado es nuevo
+        int ocupados = empleadosOcupados;
+        int libres = empleadosLibres;
+        if (anterior != null) {
+            if (anterior.estaDisponible()) {
+                libres--;
+            } else {
+                ocupados--;
+            }
+        }
+        if (nueva.estaDisponible()) {
+            libres++;
+        } else {
+            ocupados++;
+        }
+        return new Tablero(pendientes, activos, finalizados, costoEnCurso, costoFinalizados,
+                ocupados, libres, tareasConRetraso);
+    }
+
+    private static int indice(String estado) {
+        if (estado.equals(Estado.pendiente)) {
+            return 0;
+        }
+        return estado.equals(Estado.activo) ? 1 : 2;
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public int getPendientes() {
+        return pendientes;
+    }
+
+    public int getActivos() {
+        return activos;
+    }
+
+    public int getFinalizados() {
+        return finalizados;
+    }
+
+    public double getCostoEnCurso() {
+        return Dinero.aDouble(costoEnCurso);
+    }
+
+    public long getCostoEnCursoEnMilesimos() {
+        return costoEnCurso;
+    }
+
+    public double getCostoFinalizados() {
+        return Dinero.aDouble(costoFinalizados);
+    }
+
+    public long getCostoFinalizadosEnMilesimos() {
+        return costoFinalizados;
+    }
+
+    public int getEmpleadosOcupados() {
+        return empleadosOcupados;
+    }
+
+    public int getEmpleadosLibres() {
+        return empleadosLibres;
+    }
+
+    public double getOcupacion() {	//fraccion de empleados ocupados, 0 si no hay empleados
+        int total = empleadosOcupados + empleadosLibres;
+        return total == 0 ? 0 : (double) empleadosOcupados / total;
+    }
+
+    public int getTareasConRetraso() {
+        return tareasConRetraso;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Proyectos: %d pendientes, %d activos, %d finalizados | Costo en curso: %.2f | "
+                + "Costo finalizados: %.2f | Empleados: %d ocupados, %d libres | Tareas con retraso: %d",
+                pendientes, activos, finalizados, getCostoEnCurso(), getCostoFinalizados(),
+                empleadosOcupados, empleadosLibres, tareasConRetraso);
+    }
+}
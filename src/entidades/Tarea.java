@@ -14,8 +14,20 @@ public class Tarea {
 	
 	private String estado;
 	
+	private String categoriaMinima;	//null = la puede hacer cualquier empleado
+	
+	private int carga;	//centesimos de la capacidad del responsable que ocupa (100 = todo el dia)
+	
 	//CONSTRUCTOR
 	public Tarea(String tituloID, String descripcion, double cantDias) {
+		this(tituloID, descripcion, cantDias, null);
+	}
+	
+	public Tarea(String tituloID, String descripcion, double cantDias, String categoriaMinima) {
+		this(tituloID, descripcion, cantDias, categoriaMinima, 1);
+	}
+	
+	public Tarea(String tituloID, String descripcion, double cantDias, String categoriaMinima, double carga) {
 		this.tituloID = tituloID;
 		this.descripcion = descripcion;
 		this.cantDias = cantDias;
@@ -23,6 +35,8 @@ public class Tarea {
 		this.cantRetrasos = 0;
 		this.responsable = null;
 		this.estado = Estado.pendiente;
+		this.categoriaMinima = categoriaMinima;
+		this.carga = Empleado.aCentesimos(carga);
 	}
 	
 	
@@ -31,6 +45,10 @@ public class Tarea {
 		return tituloID;
 	}
 	
+	public String getDescripcion() {
+		return descripcion;
+	}
+	
 	public Empleado getResponsable() {
 		return responsable;
 	}
@@ -47,6 +65,18 @@ public class Tarea {
 		return this.cantDias;
 	}
 	
+	public String getCategoriaMinima() {
+		return categoriaMinima;
+	}
+	
+	public double getCarga() {
+		return carga / (double) Empleado.JORNADA;
+	}
+	
+	public int getCargaEnCentesimos() {
+		return carga;
+	}
+	
 	
     // ------------------------------ OTROS  ------------------------------ 
 	public void asignarResponsable(Empleado e) {
@@ -74,15 +104,26 @@ public class Tarea {
 		}
 	}
 	
+	public boolean admite(Empleado e) {	//si el empleado tiene la categoria minima (o una mayor)
+		if(this.categoriaMinima == null) {
+			return true;
+		}
+		return PoolesCategoria.nivel(e.getCategoria()) >= PoolesCategoria.nivel(this.categoriaMinima);
+	}
+	
 	public boolean huboRetraso() {
 		return this.cantRetrasos > 0;
 	}
 	
-	public double calcularCosto() {	//costo total
+	public long calcularCostoEnMilesimos() {	//costo total
 		if(this.responsable == null) {
 			return 0;
 		}
-		return this.responsable.calcularCosto(this.getDiasTotales());
+		return this.responsable.calcularCostoEnMilesimos(this.getDiasTotales());
+	}
+	
+	public double calcularCosto() {
+		return Dinero.aDouble(this.calcularCostoEnMilesimos());
 	}
 	
 	@Override
@@ -0,0 +1,19 @@
+package entidades;
+
+/**
+ * Tipos de eventos de dominio que emite HomeSolution al modificar datos.
+ */
+public enum TipoEvento {
+    EMPLEADO_REGISTRADO,
+    PROYECTO_REGISTRADO,
+    TAREA_AGREGADA,
+    TAREA_ASIGNADA,
+    TAREA_REASIGNADA,
+    RETRASO_REGISTRADO,
+    TAREA_FINALIZADA,
+    PROYECTO_FINALIZADO,	//el valor es el costoFinal
+    ESTADO_CAMBIADO,		//el proyecto paso a otro estado (activo, pendiente o finalizado)
+    PROYECTO_ATRASADO,		//la fecha real de fin se paso de la estimada; el valor son los dias de atraso
+    TAREA_EXCEDIDA,			//la tarea supero sus dias estimados; el valor son los dias totales
+    PROYECTO_VENCIDO		//paso la fecha real de fin sin finalizar; el valor son los dias vencidos
+}
@@ -0,0 +1,48 @@
+package entidades;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transporte local para pruebas: cada lote queda en un archivo lote-NNNNNN.txt del directorio,
+ * una notificacion por linea (destino | motivo | proyecto | mensaje).
+ *
+ * El archivo se escribe con otro nombre y despues se renombra, asi quien mire el directorio
+ * nunca ve un lote a medio escribir.
+ */
+public class TransporteDirectorio implements TransporteNotificaciones {
+    //DATOS
+    private final Path directorio;
+    private int lotes;	//solo lo usa el hilo del despachador
+
+    //CONSTRUCTOR
+    public TransporteDirectorio(Path directorio) throws IOException {
+        if (directorio == null) {
+            throw new IllegalArgumentException("El directorio no puede ser nulo");
+        }
+        this.directorio = Files.createDirectories(directorio);
+        this.lotes = 0;
+    }
+
+    @Override
+    public void enviar(List<Notificacion> lote) throws IOException {
+        List<String> lineas = new ArrayList<>(lote.size());
+        for (Notificacion notificacion : lote) {
+            lineas.add(notificacion.toString());
+        }
+        String nombre = String.format("lote-%06d.txt", lotes + 1);
+        Path temporal = directorio.resolve(nombre + ".tmp");
+        Files.write(temporal, lineas, StandardCharsets.UTF_8);
+        Files.move(temporal, directorio.resolve(nombre), StandardCopyOption.ATOMIC_MOVE);
+        lotes++;	//si algo fallo, el reintento vuelve a usar el mismo nombre
+    }
+
+    public Path getDirectorio() {
+        return directorio;
+    }
+}
@@ -0,0 +1,13 @@
+package entidades;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Manda un lote de notificaciones (email, SMS, archivo...). Lo llama un solo hilo, el del
+ * DespachadorNotificaciones. Si lanza IOException el lote entero se reintenta en la vuelta siguiente.
+ */
+@FunctionalInterface
+public interface TransporteNotificaciones {
+    void enviar(List<Notificacion> lote) throws IOException;
+}
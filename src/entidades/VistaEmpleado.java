@@ -0,0 +1,42 @@
+package entidades;
+
+/**
+ * Copia inmutable de lo que informan los reportes sobre un empleado.
+ */
+public final class VistaEmpleado {
+    //DATOS
+    private final int numLegajo;
+    private final String nombre;
+    private final boolean disponible;
+    private final int cantRetrasos;
+
+    //CONSTRUCTOR
+    VistaEmpleado(Empleado empleado) {
+        this.numLegajo = empleado.getNumLegajo();
+        this.nombre = empleado.getNombre();
+        this.disponible = empleado.estaDisponible();
+        this.cantRetrasos = empleado.getCantRetrasos();
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public int getNumLegajo() {
+        return numLegajo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public boolean estaDisponible() {
+        return disponible;
+    }
+
+    public int getCantRetrasos() {
+        return cantRetrasos;
+    }
+
+    @Override
+    public String toString() {	//igual que Empleado: solo el legajo
+        return String.valueOf(numLegajo);
+    }
+}
@@ -0,0 +1,104 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Copia inmutable de lo que informan los reportes sobre un proyecto.
+ *
+ * Armarla es O(1): el costo y las tareas con retraso vienen al dia del proyecto, y las lineas de
+ * las tareas son un mapa persistente que se comparte. El texto de consultarProyecto se arma
+ * recien cuando alguien lo pide, con los datos guardados aca y no con el proyecto, que sigue cambiando.
+ */
+public final class VistaProyecto {
+    //DATOS
+    private final int numID;
+    private final String domicilio;
+    private final String estado;
+    private final long costo;	//en milesimos (ver Dinero)
+    private final int tareasConRetraso;
+    private final String cliente;
+    private final LocalDate inicio;
+    private final LocalDate finPrevisto;
+    private final LocalDate finReal;
+    private final MapaPersistente<String> lineasTareas;
+    private String detalle;	//lo mismo que Proyecto.toString() en ese momento; se arma al primer toString
+
+    //CONSTRUCTOR
+    VistaProyecto(Proyecto proyecto) {
+        this.numID = proyecto.getNumID();
+        this.domicilio = proyecto.getDomicilio();
+        this.estado = proyecto.getEstado();
+        this.costo = proyecto.getCostoFinalEnMilesimos();
+        this.tareasConRetraso = proyecto.getTareasConRetraso();
+        this.cliente = proyecto.getCliente().toString();
+        this.inicio = proyecto.getFechaInicio();
+        this.finPrevisto = proyecto.getFechaEstimadaFin();
+        this.finReal = proyecto.getFechaRealFin();
+        this.lineasTareas = proyecto.getLineasTareas();
+    }
+
+    // ------------------------------ GET  ------------------------------
+    public int getNumID() {
+        return numID;
+    }
+
+    public String getDomicilio() {
+        return domicilio;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public double getCosto() {
+        return Dinero.aDouble(costo);
+    }
+
+    public long getCostoEnMilesimos() {
+        return costo;
+    }
+
+    public int getTareasConRetraso() {
+        return tareasConRetraso;
+    }
+
+    public boolean estaFinalizado() {
+        return estado.equals(Estado.finalizado);
+    }
+
+    @Override
+    public String toString() {	//si dos hilos lo arman a la vez dan el mismo String: no hace falta sincronizar
+        String texto = detalle;
+        if (texto == null) {
+            texto = formatear();
+            detalle = texto;
+        }
+        return texto;
+    }
+
+    private String formatear() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("PROYECTO N°: ").append(numID).append("\n");
+        sb.append("DOMICILIO: ").append(domicilio).append("\n");
+        sb.append("ESTADO: ").append(estado).append("\n");
+        sb.append("CLIENTE: ").append(cliente).append("\n\n");
+
+        sb.append("--- FECHAS ---\n");
+        sb.append("Inicio: ").append(inicio.toString()).append("\n");
+        sb.append("Fin Previsto: ").append(finPrevisto.toString()).append("\n");
+        sb.append("Fin Real: ").append(finReal.toString()).append("\n\n");
+
+        sb.append("--- TAREAS ---\n");
+        if (lineasTareas.tamanio() == 0) {
+            sb.append(" (Sin tareas asignadas)\n");
+        }
+        lineasTareas.recorrer(sb::append);	//en orden de alta
+
+        sb.append("\n--- COSTO TOTAL (al momento) ---\n");
+        //formatea el costo a 2 decimales
+        sb.append("$ ").append(String.format("%.2f", getCosto()));
+
+        return sb.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package gui;
 
 import entidades.HomeSolution;
+import entidades.ResultadoAsignacion;
 import entidades.Tupla;
 
 import javax.swing.*;
@@ -58,11 +59,8 @@ public class GestionProyectos extends  JPanel{
             public void actionPerformed(ActionEvent e) {
                 if (seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-                        panelManager.sistema().asignarResponsableEnTarea(panelManager.consultarSeleccionado(), titulo);
-                    } catch (Exception exception) {
-                        JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
-                    }
+                    ResultadoAsignacion resultado = panelManager.sistema().intentarAsignarResponsableEnTarea(panelManager.consultarSeleccionado(), titulo);
+                    mostrarResultadoAsignacion(resultado);
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -75,11 +73,8 @@ public class GestionProyectos extends  JPanel{
             public void actionPerformed(ActionEvent e) {
                 if (seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-                        panelManager.sistema().asignarResponsableMenosRetraso(panelManager.consultarSeleccionado(), titulo);
-                    } catch (Exception exception) {
-                        JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
-                    }
+                    ResultadoAsignacion resultado = panelManager.sistema().intentarAsignarResponsableMenosRetraso(panelManager.consultarSeleccionado(), titulo);
+                    mostrarResultadoAsignacion(resultado);
                 }
                 else{
                         JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -339,6 +334,21 @@ public class GestionProyectos extends  JPanel{
         gestionProyecto.add(volverPrincipal, gbc);
         deshabilitarBotones();
     }
+    private void mostrarResultadoAsignacion(ResultadoAsignacion resultado) {
+        switch (resultado) {
+            case SIN_EMPLEADOS:
+                JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
+                break;
+            case YA_ASIGNADA:
+                JOptionPane.showMessageDialog(null, "La tarea ya tiene un empleado asignado");
+                break;
+            case PROYECTO_FINALIZADO:
+                JOptionPane.showMessageDialog(null, "El proyecto esta finalizado");
+                break;
+            default:
+                break;
+        }
+    }
     private boolean seleccionValida(){
         return tareas.getSelectedIndex()!=-1;
     }
@@ -0,0 +1,91 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import entidades.CalculoCostosMasivo;
+import entidades.Estado;
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+import entidades.IHomeSolution;
+import entidades.Instantanea;
+
+public class CalculoCostosMasivoTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testCoincideConCostoProyecto() throws Exception {
+        IHomeSolution homeSolution = new HomeSolutionSincronizada(new HomeSolution());
+        for (int i = 0; i < 20; i++) {
+            if (i % 2 == 0) {
+                homeSolution.registrarEmpleado("C" + i, 1000 + i);
+            } else {
+                homeSolution.registrarEmpleado("P" + i, 20000 + i, "EXPERTO");
+            }
+        }
+        int cantidad = 2000;	//varios tramos
+        for (int i = 1; i <= cantidad; i++) {
+            homeSolution.registrarProyecto(new String[] {"A", "B"}, new String[] {"", ""}, new double[] {1, 2.5},
+                    "Calle " + i, CLIENTE, "2025-12-01", "2025-12-05");
+            if (i % 100 == 0) {	//algunos con responsables y algunos finalizados
+                homeSolution.asignarResponsableEnTarea(i, "A");
+                homeSolution.asignarResponsableEnTarea(i, "B");
+                homeSolution.registrarRetrasoEnTarea(i, "B", 1);
+                if (i % 200 == 0) {
+                    homeSolution.finalizarProyecto(i, "2025-12-20");
+                } else {
+                    homeSolution.finalizarTarea(i, "A");
+                    homeSolution.finalizarTarea(i, "B");
+                }
+            }
+        }
+
+        ConcurrentHashMap<Integer, Long> costos = new ConcurrentHashMap<>();
+        ConcurrentHashMap<Integer, String> estados = new ConcurrentHashMap<>();
+        int filas = new CalculoCostosMasivo(pool).calcular(homeSolution.instantanea(), (numero, costo, estado) -> {
+            costos.put(numero, costo);
+            estados.put(numero, estado);
+        });
+
+        assertEquals(cantidad, filas);
+        assertEquals(cantidad, costos.size());
+        for (int i = 1; i <= cantidad; i++) {
+            assertEquals(homeSolution.costoProyectoEnMilesimos(i), (long) costos.get(i));
+        }
+        assertEquals(Estado.finalizado, estados.get(200));
+        assertEquals(Estado.pendiente, estados.get(1));
+    }
+
+    @Test
+    public void testLeeLaInstantaneaSinVerEscriturasPosteriores() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarProyecto(new String[] {"A"}, new String[] {""}, new double[] {1},
+                "Calle 1", CLIENTE, "2025-12-01", "2025-12-05");
+        Instantanea antes = homeSolution.instantanea();
+        homeSolution.asignarResponsableEnTarea(1, "A");	//cambia el costo despues de tomar la instantanea
+
+        ConcurrentHashMap<Integer, Long> costos = new ConcurrentHashMap<>();
+        new CalculoCostosMasivo(pool).calcular(antes, (numero, costo, estado) -> costos.put(numero, costo));
+        assertEquals(0, (long) costos.get(1));
+        homeSolution.calcularCostosEnParalelo(pool, (numero, costo, estado) -> costos.put(numero, costo));
+        assertEquals(homeSolution.costoProyectoEnMilesimos(1), (long) costos.get(1));
+    }
+
+    @Test
+    public void testSinProyectos() {
+        assertEquals(0, new HomeSolution().calcularCostosEnParalelo(pool, (numero, costo, estado) -> { }));
+    }
+}
@@ -0,0 +1,114 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import entidades.CalendarioDisponibilidad;
+import entidades.HomeSolution;
+import entidades.ResultadoAsignacion;
+import entidades.Tarea;
+
+public class CalendarioDisponibilidadTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    @Test
+    public void testCoincideConRecorrerLosDias() {
+        Random azar = new Random(11);
+        int empleados = 15;
+        int dias = 120;
+        boolean[][] ausente = new boolean[empleados][dias];
+        CalendarioDisponibilidad calendario = new CalendarioDisponibilidad();
+        for (int paso = 0; paso < 400; paso++) {
+            int legajo = azar.nextInt(empleados);
+            int desde = azar.nextInt(dias);
+            int hasta = Math.min(dias - 1, desde + azar.nextInt(10));
+            boolean registrar = azar.nextInt(3) > 0;
+            if (registrar) {
+                calendario.registrarAusencia(legajo, dia(desde), dia(hasta));
+            } else {
+                calendario.cancelarAusencia(legajo, dia(desde), dia(hasta));
+            }
+            for (int d = desde; d <= hasta; d++) {
+                ausente[legajo][d] = registrar;
+            }
+
+            int consultaDesde = azar.nextInt(dias);
+            int consultaHasta = Math.min(dias - 1, consultaDesde + azar.nextInt(15));
+            Set<Integer> esperados = new HashSet<>();
+            for (int e = 0; e < empleados; e++) {
+                boolean libre = true;
+                for (int d = consultaDesde; d <= consultaHasta; d++) {
+                    libre &= !ausente[e][d];
+                }
+                if (!libre) {
+                    esperados.add(e);
+                }
+                assertEquals(libre, calendario.estaLibre(e, dia(consultaDesde), dia(consultaHasta)));
+            }
+            assertEquals(esperados, calendario.ausentesEntre(dia(consultaDesde), dia(consultaHasta)));
+        }
+    }
+
+    @Test
+    public void testAsignaAlQueNoEstaDeVacaciones() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");	//1000
+        homeSolution.registrarEmpleado("Marta", 80000, "EXPERTO");	//1001
+        homeSolution.registrarProyecto(new String[] {"Pintar", "Revocar"}, new String[] {"", ""}, new double[] {3, 2},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        homeSolution.registrarAusenciaEmpleado(1000, "2025-12-03", "2025-12-10");	//toca los dias de Pintar
+
+        assertFalse(homeSolution.empleadoLibreEntre(1000, "2025-12-01", "2025-12-03"));
+        assertTrue(homeSolution.empleadoLibreEntre(1000, "2025-12-01", "2025-12-02"));	//Revocar entra antes de irse
+
+        homeSolution.asignarResponsableSegunCalendario(1, "Pintar");
+        assertEquals(1001, responsable(homeSolution, "Pintar"));
+        homeSolution.asignarResponsableSegunCalendario(1, "Revocar");
+        assertEquals(1000, responsable(homeSolution, "Revocar"));
+    }
+
+    @Test
+    public void testTodosAusentesHastaQueSeCancela() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);	//1000
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        homeSolution.registrarAusenciaEmpleado(1000, "2025-11-25", "2025-12-01");
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableSegunCalendario(1, "Pintar"));
+
+        homeSolution.cancelarAusenciaEmpleado(1000, "2025-12-01", "2025-12-01");	//vuelve un dia antes
+        assertTrue(homeSolution.empleadoLibreEntre(1000, "2025-12-01", "2025-12-01"));
+        assertFalse(homeSolution.empleadoLibreEntre(1000, "2025-11-30", "2025-11-30"));
+        assertEquals(ResultadoAsignacion.ASIGNADO, homeSolution.intentarAsignarResponsableSegunCalendario(1, "Pintar"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRangoInvalido() {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarAusenciaEmpleado(1000, "2025-12-10", "2025-12-01");
+    }
+
+    private static LocalDate dia(int d) {
+        return BASE.plusDays(d);
+    }
+
+    private int responsable(HomeSolution homeSolution, String titulo) {
+        for (Object obj : homeSolution.tareasDeUnProyecto(1)) {
+            Tarea tarea = (Tarea) obj;
+            if (tarea.getTituloID().equals(titulo)) {
+                return tarea.getResponsable().getNumLegajo();
+            }
+        }
+        return -1;
+    }
+}
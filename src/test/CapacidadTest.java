@@ -0,0 +1,119 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
+import entidades.Tarea;
+
+public class CapacidadTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");	//1000
+        homeSolution.registrarEmpleado("Marta", 80000, "EXPERTO");	//1001
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+    }
+
+    @Test
+    public void testDosTareasChicasALaVez() throws Exception {
+        homeSolution.agregarTareaEnProyecto(1, "Enchufe", "", 0.5, "EXPERTO", 0.5);
+        homeSolution.agregarTareaEnProyecto(1, "Llave", "", 0.5, "EXPERTO", 0.5);
+        homeSolution.asignarResponsableEnTarea(1, "Enchufe");
+        homeSolution.asignarResponsableEnTarea(1, "Llave");	//completa al que ya tiene media jornada
+
+        assertEquals(responsable(1, "Enchufe"), responsable(1, "Llave"));
+        int ocupado = responsable(1, "Enchufe");
+        assertEquals(0, homeSolution.capacidadLibreEmpleado(ocupado), 0.001);
+        assertEquals(1, homeSolution.empleadosNoAsignados().length);
+
+        homeSolution.finalizarTarea(1, "Enchufe");
+        assertEquals(0.5, homeSolution.capacidadLibreEmpleado(ocupado), 0.001);
+        assertFalse(Arrays.asList(homeSolution.empleadosNoAsignados()).contains(ocupado));	//sigue con una tarea
+    }
+
+    @Test
+    public void testSinCapacidadSuficienteNoAsigna() throws Exception {
+        homeSolution.agregarTareaEnProyecto(1, "A", "", 1, "EXPERTO", 0.7);
+        homeSolution.agregarTareaEnProyecto(1, "B", "", 1, "EXPERTO", 0.7);
+        homeSolution.agregarTareaEnProyecto(1, "C", "", 1, "EXPERTO", 0.7);
+        homeSolution.asignarResponsableEnTarea(1, "A");
+        homeSolution.asignarResponsablePorCategoria(1, "B");
+        assertTrue(responsable(1, "A") != responsable(1, "B"));	//0.7 + 0.7 no entra en uno solo
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMenorRiesgo(1, "C"));
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMasBarato(1, "C"));
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMenosRetraso(1, "C"));
+    }
+
+    @Test
+    public void testFinalizarProyectoDevuelveLaCapacidad() throws Exception {
+        homeSolution.agregarTareaEnProyecto(1, "Enchufe", "", 0.5, "EXPERTO", 0.5);
+        homeSolution.agregarTareaEnProyecto(1, "Llave", "", 0.5, "EXPERTO", 0.5);
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.asignarResponsableEnTarea(1, "Enchufe");
+        homeSolution.asignarResponsableEnTarea(1, "Llave");
+        assertEquals(0, homeSolution.empleadosNoAsignados().length);
+
+        homeSolution.finalizarProyecto(1, "2025-12-10");
+        assertEquals(2, homeSolution.empleadosNoAsignados().length);
+        assertEquals(1, homeSolution.capacidadLibreEmpleado(1000), 0.001);
+        assertEquals(1, homeSolution.capacidadLibreEmpleado(1001), 0.001);
+    }
+
+    @Test
+    public void testMasCapacidadTomaVariasTareasCompletas() throws Exception {
+        homeSolution.cambiarCapacidadEmpleado(1001, 2);
+        homeSolution.agregarTareaEnProyecto(1, "A", "", 1, "EXPERTO");
+        homeSolution.agregarTareaEnProyecto(1, "B", "", 1, "EXPERTO");
+        homeSolution.asignarResponsableEnTarea(1, "A");	//el que tiene mas lugar libre queda para el final
+        homeSolution.asignarResponsableEnTarea(1, "B");
+        assertEquals(1000, responsable(1, "A"));
+        assertEquals(1001, responsable(1, "B"));
+        assertEquals(1, homeSolution.capacidadLibreEmpleado(1001), 0.001);
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        assertEquals(1001, responsable(1, "Pintar"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacidadMenorQueLaCarga() throws Exception {
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.cambiarCapacidadEmpleado(responsable(1, "Pintar"), 0.5);
+    }
+
+    @Test(expected = Exception.class)
+    public void testReasignarAUnEmpleadoCompleto() throws Exception {
+        homeSolution.agregarTareaEnProyecto(1, "A", "", 1, "EXPERTO", 0.6);
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.asignarResponsableEnTarea(1, "A");
+        int otro = responsable(1, "Pintar") == 1000 ? 1001 : 1000;
+        homeSolution.reasignarEmpleadoEnProyecto(1, otro, "Pintar");	//le queda 0.4
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCargaInvalida() {
+        homeSolution.agregarTareaEnProyecto(1, "A", "", 1, null, 1.5);
+    }
+
+    private int responsable(Integer numero, String titulo) {
+        for (Object obj : homeSolution.tareasDeUnProyecto(numero)) {
+            Tarea tarea = (Tarea) obj;
+            if (tarea.getTituloID().equals(titulo)) {
+                return tarea.getResponsable().getNumLegajo();
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,106 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import entidades.ColaComandos;
+import entidades.EstrategiaEspera;
+import entidades.HomeSolution;
+import entidades.ResultadoAsignacion;
+
+public class ColaComandosTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    @Test
+    public void testVariosProductoresConBufferChico() throws Exception {
+        for (EstrategiaEspera estrategia : EstrategiaEspera.values()) {
+            HomeSolution homeSolution = new HomeSolution();
+            ColaComandos cola = new ColaComandos(homeSolution, 4, estrategia);	//se llena seguido
+            AtomicInteger respuestas = new AtomicInteger();
+            List<Thread> productores = new ArrayList<>();
+            for (int h = 0; h < 4; h++) {
+                Thread productor = new Thread(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        cola.registrarEmpleado("Empleado" + i, 15000, (r, e) -> respuestas.incrementAndGet());
+                    }
+                });
+                productores.add(productor);
+                productor.start();
+            }
+            for (Thread productor : productores) {
+                productor.join();
+            }
+            cola.close();
+
+            assertEquals(1000, respuestas.get());
+            assertEquals(1000, cola.getAplicados());
+            assertEquals(1000, homeSolution.instantanea().cantidadEmpleados());
+        }
+    }
+
+    @Test
+    public void testRespuestasConResultadoYError() throws Exception {
+        ColaComandos cola = new ColaComandos(new HomeSolution());
+        ConcurrentLinkedQueue<Object> resultados = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Exception> errores = new ConcurrentLinkedQueue<>();
+
+        cola.registrarEmpleado("Juan", 15000, null);
+        cola.registrarProyecto(new String[] {"Pintar", "Podar"}, new String[] {"", ""}, new double[] {1, 1},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05", null);
+        cola.asignarResponsableEnTarea(1, "Pintar", (r, e) -> resultados.add(r));
+        cola.asignarResponsableEnTarea(1, "Podar", (r, e) -> resultados.add(r));
+        cola.finalizarProyecto(99, "2025-12-10", (r, e) -> errores.add(e));
+        cola.close();
+
+        assertEquals(ResultadoAsignacion.ASIGNADO, resultados.poll());
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, resultados.poll());
+        assertNull(resultados.poll());
+        assertTrue(errores.poll() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testCerrarConProductoresNoDejaComandosSinRespuesta() throws Exception {
+        for (int vuelta = 0; vuelta < 20; vuelta++) {
+            ColaComandos cola = new ColaComandos(new HomeSolution(), 8, EstrategiaEspera.CEDER);
+            AtomicInteger aceptados = new AtomicInteger();
+            AtomicInteger respuestas = new AtomicInteger();
+            List<Thread> productores = new ArrayList<>();
+            for (int h = 0; h < 4; h++) {
+                Thread productor = new Thread(() -> {
+                    try {
+                        while (true) {	//hasta que el cierre lo rechace
+                            cola.registrarEmpleado("Juan", 15000, (r, e) -> respuestas.incrementAndGet());
+                            aceptados.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        //cerrada
+                    }
+                });
+                productores.add(productor);
+                productor.start();
+            }
+            Thread.sleep(2);
+            cola.close();
+            for (Thread productor : productores) {
+                productor.join();
+            }
+            assertEquals(aceptados.get(), respuestas.get());	//todo lo aceptado se aplico
+            assertEquals(aceptados.get(), cola.getAplicados());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCerradaNoAceptaComandos() throws Exception {
+        ColaComandos cola = new ColaComandos(new HomeSolution());
+        cola.close();
+        cola.registrarEmpleado("Juan", 15000, null);
+    }
+}
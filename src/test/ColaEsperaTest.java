@@ -0,0 +1,160 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.OrdenEspera;
+import entidades.ResultadoAsignacion;
+import entidades.Tarea;
+import entidades.Tupla;
+
+public class ColaEsperaTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private HomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);	//1000, el unico
+        registrar("Electricidad", 2, "2025-12-01", "2025-12-20");	//1
+        homeSolution.intentarAsignarResponsableEnTarea(1, "Electricidad");
+    }
+
+    @Test
+    public void testSinColaNoSeAsignaNada() throws Exception {
+        registrar("Pintar", 1, "2025-12-01", "2025-12-20");	//2
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar"));
+        homeSolution.finalizarTarea(1, "Electricidad");
+        assertNull(tarea(2, "Pintar").getResponsable());
+        assertEquals(Collections.emptyList(), enEspera());
+    }
+
+    @Test
+    public void testFifoAsignaAlLiberarse() throws Exception {
+        homeSolution.activarColaEspera(OrdenEspera.FIFO);
+        registrar("Pintar", 1, "2025-12-10", "2025-12-20");	//2
+        registrar("Jardin", 1, "2025-12-01", "2025-12-20");	//3
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+        homeSolution.intentarAsignarResponsableEnTarea(3, "Jardin");
+        assertEquals(Arrays.asList("2:Pintar", "3:Jardin"), enEspera());
+
+        homeSolution.finalizarTarea(1, "Electricidad");
+        assertEquals(1000, tarea(2, "Pintar").getResponsable().getNumLegajo());
+        assertEquals(0, homeSolution.tareasProyectoNoAsignadas(2).length);
+        assertEquals(Arrays.asList("3:Jardin"), enEspera());
+    }
+
+    @Test
+    public void testInicioMasTemprano() throws Exception {
+        homeSolution.activarColaEspera(OrdenEspera.INICIO_MAS_TEMPRANO);
+        registrar("Pintar", 1, "2025-12-10", "2025-12-20");	//2
+        registrar("Jardin", 1, "2025-12-01", "2025-12-20");	//3
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+        homeSolution.intentarAsignarResponsableEnTarea(3, "Jardin");
+
+        homeSolution.finalizarTarea(1, "Electricidad");
+        assertEquals(1000, tarea(3, "Jardin").getResponsable().getNumLegajo());
+        assertNull(tarea(2, "Pintar").getResponsable());
+    }
+
+    @Test
+    public void testVencimientoSeReordenaSiLaFechaSeMueve() throws Exception {
+        homeSolution.activarColaEspera(OrdenEspera.VENCIMIENTO_MAS_TEMPRANO);
+        registrar("Pintar", 1, "2025-12-01", "2025-12-10");	//2, vence antes
+        registrar("Jardin", 1, "2025-12-01", "2025-12-12");	//3
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+        homeSolution.intentarAsignarResponsableEnTarea(3, "Jardin");
+        assertEquals("2:Pintar", enEspera().get(0));
+
+        homeSolution.agregarTareaEnProyecto(2, "Techo", "", 5);	//su fin se corre al 15
+        assertEquals(Arrays.asList("3:Jardin", "2:Pintar"), enEspera());
+
+        homeSolution.finalizarTarea(1, "Electricidad");
+        assertEquals(1000, tarea(3, "Jardin").getResponsable().getNumLegajo());
+    }
+
+    @Test
+    public void testRespetaCategoriaYCarga() throws Exception {
+        homeSolution.activarColaEspera(OrdenEspera.FIFO);
+        registrar("Pintar", 1, "2025-12-01", "2025-12-20");	//2
+        homeSolution.agregarTareaEnProyecto(2, "Tablero", "", 1, "EXPERTO");
+        homeSolution.agregarTareaEnProyecto(2, "Cables", "", 1, null, 0.5);
+        homeSolution.agregarTareaEnProyecto(2, "Enchufes", "", 1, null, 0.5);
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Tablero");
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Cables");
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Enchufes");
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+
+        homeSolution.finalizarTarea(1, "Electricidad");	//un contratado: no puede el tablero, si las dos de medio dia
+        assertNull(tarea(2, "Tablero").getResponsable());
+        assertEquals(1000, tarea(2, "Cables").getResponsable().getNumLegajo());
+        assertEquals(1000, tarea(2, "Enchufes").getResponsable().getNumLegajo());
+        assertEquals(0, homeSolution.capacidadLibreEmpleado(1000), 0);
+
+        homeSolution.registrarEmpleado("Marta", 80000, "EXPERTO");	//1001: toma el tablero, que llego primero
+        assertEquals(1001, tarea(2, "Tablero").getResponsable().getNumLegajo());
+        assertEquals(Arrays.asList("2:Pintar"), enEspera());
+    }
+
+    @Test
+    public void testSaleDeLaColaSiSeAsignaPorOtroLado() throws Exception {
+        homeSolution.activarColaEspera(OrdenEspera.FIFO);
+        registrar("Pintar", 1, "2025-12-01", "2025-12-20");	//2
+        homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+        homeSolution.registrarEmpleado("Luis", 1000);	//1001: la toma enseguida
+        assertEquals(1001, tarea(2, "Pintar").getResponsable().getNumLegajo());
+        assertEquals(Collections.emptyList(), enEspera());
+
+        registrar("Jardin", 1, "2025-12-01", "2025-12-20");	//3
+        homeSolution.intentarAsignarResponsableEnTarea(3, "Jardin");
+        homeSolution.finalizarTarea(3, "Jardin");	//se hizo sin responsable
+        homeSolution.finalizarTarea(1, "Electricidad");
+        assertEquals(Collections.emptyList(), enEspera());
+        assertEquals(1, homeSolution.capacidadLibreEmpleado(1000), 0);
+    }
+
+    @Test
+    public void testSegunCalendarioNoEspera() throws Exception {	//la cola no mira ausencias
+        homeSolution.activarColaEspera(OrdenEspera.FIFO);
+        registrar("Pintar", 2, "2025-12-01", "2025-12-20");	//2
+        homeSolution.registrarAusenciaEmpleado(1000, "2025-12-01", "2025-12-05");
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableSegunCalendario(2, "Pintar"));
+        assertEquals(Collections.emptyList(), enEspera());
+
+        homeSolution.finalizarTarea(1, "Electricidad");	//Juan se libera, pero esta ausente esos dias
+        assertNull(tarea(2, "Pintar").getResponsable());
+    }
+
+    private void registrar(String titulo, double dias, String inicio, String fin) {
+        homeSolution.registrarProyecto(new String[] {titulo}, new String[] {""}, new double[] {dias},
+                "San Martin 1000", CLIENTE, inicio, fin);
+    }
+
+    private List<String> enEspera() {	//numero:titulo, en el orden de la cola
+        List<String> lista = new ArrayList<>();
+        for (Tupla<Integer, String> t : homeSolution.tareasEnEspera()) {
+            lista.add(t.getValor1() + ":" + t.getValor2());
+        }
+        return lista;
+    }
+
+    private Tarea tarea(int numero, String titulo) {
+        for (Object obj : homeSolution.tareasDeUnProyecto(numero)) {
+            Tarea tarea = (Tarea) obj;
+            if (tarea.getTituloID().equals(titulo)) {
+                return tarea;
+            }
+        }
+        return null;
+    }
+}
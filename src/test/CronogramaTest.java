@@ -0,0 +1,154 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Cronograma;
+import entidades.HomeSolution;
+import entidades.Tarea;
+import entidades.Tupla;
+
+public class CronogramaTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+    private static final LocalDate FIN = LocalDate.of(2025, 12, 5);
+
+    private HomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarProyecto(new String[] {"Electricidad", "Pintar", "Jardin"}, new String[] {"", "", ""},
+                new double[] {3, 2, 4}, "San Martin 1000", CLIENTE, "2025-12-01", FIN.toString());
+    }
+
+    @Test
+    public void testSinDependenciasVanEnFila() {
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-14", "2025-12-14"));	//3 + 2 + 4
+        assertEquals(Arrays.asList("Electricidad", "Pintar", "Jardin"), homeSolution.rutaCritica(1));
+    }
+
+    @Test
+    public void testTareasEnParaleloSiguenElCaminoCritico() {
+        homeSolution.definirDependenciasTarea(1, "Pintar", new String[] {"Electricidad"});
+        homeSolution.definirDependenciasTarea(1, "Jardin", new String[0]);	//no espera a nadie
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-10", "2025-12-10"));	//max(3 + 2, 4)
+        assertEquals(Arrays.asList("Electricidad", "Pintar"), homeSolution.rutaCritica(1));
+        Tupla<Long, Long> pintar = homeSolution.inicioYFinTarea(1, "Pintar");
+        assertEquals(3, (long) pintar.getValor1());
+        assertEquals(5, (long) pintar.getValor2());
+
+        homeSolution.registrarRetrasoEnTarea(1, "Jardin", 1);	//usa su holgura de un dia
+        assertEquals(Collections.emptyList(), homeSolution.proyectosAtrasados(1));
+
+        homeSolution.registrarRetrasoEnTarea(1, "Jardin", 1);	//ahora el jardin manda
+        assertEquals(Arrays.asList(1), homeSolution.proyectosAtrasados(1));
+        assertEquals(Arrays.asList("Jardin"), homeSolution.rutaCritica(1));
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-11", "2025-12-11"));
+    }
+
+    @Test
+    public void testCadaRetrasoSeRedondeaPorSeparado() {	//como siempre: 3 + 1 + 1, no 3 + ceil(0.5 + 0.5)
+        homeSolution.registrarRetrasoEnTarea(1, "Electricidad", 0.5);
+        homeSolution.registrarRetrasoEnTarea(1, "Electricidad", 0.5);
+        assertEquals(5, (long) homeSolution.inicioYFinTarea(1, "Electricidad").getValor2());
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-16", "2025-12-16"));	//14 + 2
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCiclo() {
+        homeSolution.definirDependenciasTarea(1, "Electricidad", new String[] {"Jardin"});	//Jardin ya espera a Electricidad
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDependenciaInexistente() {
+        homeSolution.definirDependenciasTarea(1, "Pintar", new String[] {"Techo"});
+    }
+
+    @Test
+    public void testRetrasosIncrementalesCoincidenConRecalcular() {
+        Random azar = new Random(17);
+        Cronograma cronograma = new Cronograma();
+        List<Tarea> tareas = new ArrayList<>();
+        Map<String, Long> retrasos = new HashMap<>();
+        for (int i = 0; i < 60; i++) {
+            Tarea tarea = new Tarea("T" + i, "", 0.5 + azar.nextInt(8));
+            tareas.add(tarea);
+            cronograma.agregar(tarea);
+            if (i > 0) {	//dependencias al azar hacia tareas anteriores: nunca hay ciclos
+                List<String> anteriores = new ArrayList<>();
+                for (int j = 0; j < 3; j++) {
+                    if (azar.nextBoolean()) {
+                        anteriores.add("T" + azar.nextInt(i));
+                    }
+                }
+                cronograma.definirDependencias("T" + i, anteriores);
+            }
+        }
+        for (int paso = 0; paso < 200; paso++) {
+            retrasar(cronograma, tareas.get(azar.nextInt(tareas.size())), 0.5 * (1 + azar.nextInt(4)), retrasos);
+            verificar(cronograma, tareas, retrasos);
+        }
+    }
+
+    @Test
+    public void testAgregarDespuesDeRetrasosCoincideConRecalcular() {	//la tarea nueva no recalcula todo
+        Random azar = new Random(29);
+        Cronograma cronograma = new Cronograma();
+        List<Tarea> tareas = new ArrayList<>();
+        Map<String, Long> retrasos = new HashMap<>();
+        for (int i = 0; i < 80; i++) {
+            Tarea tarea = new Tarea("T" + i, "", 0.5 + azar.nextInt(8));
+            tareas.add(tarea);
+            cronograma.agregar(tarea);
+            if (i > 0 && azar.nextInt(4) == 0) {
+                cronograma.definirDependencias("T" + i, Arrays.asList("T" + azar.nextInt(i)));
+            }
+            retrasar(cronograma, tareas.get(azar.nextInt(tareas.size())), 0.5 * (1 + azar.nextInt(4)), retrasos);
+            verificar(cronograma, tareas, retrasos);
+        }
+    }
+
+    private static void retrasar(Cronograma cronograma, Tarea tarea, double dias, Map<String, Long> retrasos) {
+        tarea.registrarRetraso(dias);
+        cronograma.registrarRetraso(tarea, dias);
+        retrasos.merge(tarea.getTituloID(), (long) Math.ceil(dias), Long::sum);	//cada retraso redondeado por separado
+    }
+
+    //contra un calculo desde cero
+    private static void verificar(Cronograma cronograma, List<Tarea> tareas, Map<String, Long> retrasos) {
+        Map<String, Long> fines = new HashMap<>();
+        Map<String, Long> finesEstimados = new HashMap<>();
+        long duracion = 0;
+        long duracionEstimada = 0;
+        for (Tarea t : tareas) {	//estan en orden topologico
+            long inicio = 0;
+            long inicioEstimado = 0;
+            for (String anterior : cronograma.dependenciasDe(t.getTituloID())) {
+                inicio = Math.max(inicio, fines.get(anterior));
+                inicioEstimado = Math.max(inicioEstimado, finesEstimados.get(anterior));
+            }
+            long fin = inicio + (long) Math.ceil(t.getDiasEstimados()) + retrasos.getOrDefault(t.getTituloID(), 0L);
+            long finEstimado = inicioEstimado + (long) Math.ceil(t.getDiasEstimados());
+            fines.put(t.getTituloID(), fin);
+            finesEstimados.put(t.getTituloID(), finEstimado);
+            duracion = Math.max(duracion, fin);
+            duracionEstimada = Math.max(duracionEstimada, finEstimado);
+            assertEquals(inicio, cronograma.inicioMasTemprano(t.getTituloID()));
+            assertEquals(fin, cronograma.finMasTemprano(t.getTituloID()));
+        }
+        assertEquals(duracion, cronograma.getDuracionReal());
+        assertEquals(duracionEstimada, cronograma.getDuracionEstimada());
+    }
+}
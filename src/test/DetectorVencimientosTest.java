@@ -0,0 +1,145 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.EventoDominio;
+import entidades.FlujoEventos;
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+import entidades.RevisorVencimientos;
+import entidades.Suscripcion;
+import entidades.TipoEvento;
+
+public class DetectorVencimientosTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private static class RelojManual extends Clock {
+        private Instant ahora = Instant.parse("2025-12-01T12:00:00Z");
+
+        void avanzarDias(int dias) {
+            ahora = ahora.plus(Duration.ofDays(dias));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return ahora;
+        }
+    }
+
+    private RelojManual reloj;
+    private HomeSolution homeSolution;
+    private Suscripcion suscripcion;
+
+    @Before
+    public void setUp() {
+        reloj = new RelojManual();
+        homeSolution = new HomeSolution(new FlujoEventos(), reloj);
+        suscripcion = homeSolution.eventos().suscribir();
+        registrar("2025-12-05", 1);	//1: fin real 2025-12-06
+        registrar("2025-12-10", 1);	//2: fin real 2025-12-11
+    }
+
+    @Test
+    public void testAvisaUnaVezCuandoVence() {
+        assertTrue(homeSolution.revisarVencimientos().isEmpty());
+        reloj.avanzarDias(6);	//2025-12-07
+        assertEquals(Arrays.asList(1), homeSolution.revisarVencimientos());
+        assertTrue(homeSolution.revisarVencimientos().isEmpty());	//ya avisado
+        reloj.avanzarDias(10);
+        assertEquals(Arrays.asList(2), homeSolution.revisarVencimientos());
+        assertEquals(2, tipos(TipoEvento.PROYECTO_VENCIDO).size());
+    }
+
+    @Test
+    public void testCorrerLaFechaVuelveAArmarlo() {
+        reloj.avanzarDias(6);
+        assertEquals(Arrays.asList(1), homeSolution.revisarVencimientos());
+        homeSolution.agregarTareaEnProyecto(1, "Otra", "", 3);	//fin real 2025-12-09
+        assertTrue(homeSolution.revisarVencimientos().isEmpty());
+        reloj.avanzarDias(3);	//2025-12-10
+        assertEquals(Arrays.asList(1), homeSolution.revisarVencimientos());
+    }
+
+    @Test
+    public void testFinalizadoNoVence() throws Exception {
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.asignarResponsableEnTarea(1, "Tarea");
+        homeSolution.finalizarProyecto(1, "2025-12-02");
+        reloj.avanzarDias(30);
+        assertEquals(Arrays.asList(2), homeSolution.revisarVencimientos());
+    }
+
+    @Test
+    public void testAvisaAtrasoYTareaExcedidaAlCruzar() {
+        homeSolution.registrarRetrasoEnTarea(1, "Tarea", 1);
+        homeSolution.registrarRetrasoEnTarea(1, "Tarea", 1);	//ya estaba cruzado: no avisa de nuevo
+        List<EventoDominio> lote = suscripcion.siguienteLote(1000);
+        List<EventoDominio> excedidas = filtrar(lote, TipoEvento.TAREA_EXCEDIDA);
+        assertEquals(1, excedidas.size());
+        assertEquals(2, excedidas.get(0).getValor(), 0);	//1 estimado + 1 de retraso
+        assertEquals(1, filtrar(lote, TipoEvento.PROYECTO_ATRASADO).size());
+        assertEquals(Arrays.asList(1), homeSolution.proyectosAtrasados(1));
+    }
+
+    @Test
+    public void testRevisorPeriodico() throws Exception {
+        reloj.avanzarDias(30);
+        CountDownLatch avisado = new CountDownLatch(1);
+        List<Integer> vencidos = new ArrayList<>();
+        RevisorVencimientos revisor = new RevisorVencimientos(new HomeSolutionSincronizada(homeSolution),
+                10, TimeUnit.MILLISECONDS, lista -> {
+                    vencidos.addAll(lista);
+                    avisado.countDown();
+                });
+        try {
+            assertTrue(avisado.await(5, TimeUnit.SECONDS));
+        } finally {
+            revisor.close();
+        }
+        assertEquals(Arrays.asList(1, 2), vencidos);
+    }
+
+    private List<EventoDominio> tipos(TipoEvento tipo) {
+        return filtrar(suscripcion.siguienteLote(1000), tipo);
+    }
+
+    private List<EventoDominio> filtrar(List<EventoDominio> lote, TipoEvento tipo) {
+        List<EventoDominio> lista = new ArrayList<>();
+        for (EventoDominio e : lote) {
+            if (e.getTipo() == tipo) {
+                lista.add(e);
+            }
+        }
+        return lista;
+    }
+
+    private void registrar(String fin, double dias) {
+        homeSolution.registrarProyecto(new String[] {"Tarea"}, new String[] {""}, new double[] {dias},
+                "Calle 1", CLIENTE, "2025-12-01", fin);
+    }
+}
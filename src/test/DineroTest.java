@@ -0,0 +1,50 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import entidades.Dinero;
+import entidades.EmpleadoContratado;
+import entidades.EmpleadoDePlanta;
+
+public class DineroTest {
+
+    @Test
+    public void testConversionYPorcentajes() {
+        assertEquals(1234567, Dinero.desde(1234.567));
+        assertEquals(0.1, Dinero.aDouble(Dinero.desde(0.1)), 0);
+        assertEquals(2700, Dinero.porcentaje(10000, 2700));	//27% de 10 pesos
+        assertEquals(1, Dinero.porcentaje(5, 2000));	//1 milesimo: la mitad redondea para arriba
+        assertEquals(0, Dinero.porcentaje(2, 2000));
+    }
+
+    @Test
+    public void testSumarEsExacto() {
+        long total = 0;
+        double enDouble = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            total = Dinero.sumar(total, Dinero.desde(0.1));
+            enDouble += 0.1;
+        }
+        assertEquals(100_000_000, total);	//100000 pesos justos
+        assertEquals(100000.0, Dinero.aDouble(total), 0);
+        assertNotEquals(100000.0, enDouble, 0);	//sumando double se acumula error
+        assertEquals(0, Dinero.restar(total, total));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testSumarNoDaLaVuelta() {
+        Dinero.sumar(Long.MAX_VALUE, 1);
+    }
+
+    @Test
+    public void testCostosDeEmpleados() {
+        EmpleadoContratado contratado = new EmpleadoContratado("Juan", 1000, 1000.5);
+        assertEquals(Dinero.desde(4002), contratado.calcularCostoEnMilesimos(0.5));	//4 horas
+        EmpleadoDePlanta planta = new EmpleadoDePlanta("Ana", 1001, 50000, "TECNICO");
+        assertEquals(Dinero.desde(100000), planta.calcularCostoEnMilesimos(1.5));	//dias redondeados
+        assertEquals(100000, planta.calcularCosto(1.5), 0);
+    }
+}
@@ -0,0 +1,105 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Estado;
+import entidades.EventoDominio;
+import entidades.FlujoEventos;
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.Suscripcion;
+import entidades.TipoEvento;
+
+public class FlujoEventosTest {
+    private IHomeSolution homeSolution;
+    private Suscripcion suscripcion;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        suscripcion = homeSolution.eventos().suscribir();
+
+        String titulos[] = {"Pintar"};
+        String descripciones[] = {""};
+        double duracion[] = {4};
+        String cliente[] = {"Pedro Gomez", "mail@mail.com", "123456"};
+        homeSolution.registrarProyecto(titulos, descripciones, duracion, "San Martin 1000", cliente, "2025-12-01", "2025-12-05");
+        homeSolution.registrarEmpleado("Juan", 15000);
+    }
+
+    @Test
+    public void testEventosDeUnProyectoCompleto() throws Exception {
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.registrarRetrasoEnTarea(1, "Pintar", 2);
+        homeSolution.finalizarProyecto(1, "2025-12-08");
+
+        List<EventoDominio> lote = suscripcion.siguienteLote(100);
+        TipoEvento[] esperados = {TipoEvento.PROYECTO_REGISTRADO, TipoEvento.EMPLEADO_REGISTRADO,
+                TipoEvento.ESTADO_CAMBIADO, TipoEvento.TAREA_ASIGNADA, TipoEvento.RETRASO_REGISTRADO,
+                TipoEvento.TAREA_EXCEDIDA, TipoEvento.PROYECTO_ATRASADO,
+                TipoEvento.ESTADO_CAMBIADO, TipoEvento.PROYECTO_FINALIZADO};
+        assertEquals(esperados.length, lote.size());
+        for (int i = 0; i < esperados.length; i++) {
+            assertEquals(esperados[i], lote.get(i).getTipo());
+            assertEquals(i + 1, lote.get(i).getSecuencia());
+        }
+        EventoDominio fin = lote.get(lote.size() - 1);
+        assertEquals(Estado.finalizado, fin.getEstado());
+        assertEquals(homeSolution.costoProyecto(1), fin.getValor(), 0.001);
+        assertTrue(homeSolution.instantanea().getVersion() >= fin.getVersion());
+    }
+
+    @Test
+    public void testSuscriptoresConCursoresIndependientes() throws Exception {
+        Suscripcion otra = homeSolution.eventos().suscribir();
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+
+        assertEquals(2, suscripcion.siguienteLote(2).size());	//lote limitado
+        assertEquals(2, otra.siguienteLote(100).size());	//no ve lo anterior a suscribirse
+        assertEquals(2, suscripcion.siguienteLote(100).size());
+        assertTrue(otra.siguienteLote(100).isEmpty());
+    }
+
+    @Test
+    public void testDescartarSalteaLoQueSePisoAlSuscriptorLento() {
+        homeSolution = new HomeSolution(new FlujoEventos(4, FlujoEventos.Desborde.DESCARTAR));
+        Suscripcion lenta = homeSolution.eventos().suscribir();
+        for (int i = 0; i < 10; i++) {
+            homeSolution.registrarEmpleado("Empleado" + i, 15000);
+        }
+
+        List<EventoDominio> lote = lenta.siguienteLote(100);
+        assertEquals(4, lote.size());
+        assertEquals(7, lote.get(0).getSecuencia());
+        assertEquals(6, lenta.getPerdidos());
+    }
+
+    @Test
+    public void testEsperarFrenaAlEscritorHastaQueLeaElSuscriptor() throws Exception {
+        IHomeSolution sistema = new HomeSolution(new FlujoEventos(2, FlujoEventos.Desborde.ESPERAR));
+        Suscripcion lenta = sistema.eventos().suscribir();
+        CountDownLatch terminado = new CountDownLatch(1);
+        Thread escritor = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                sistema.registrarEmpleado("Empleado" + i, 15000);
+            }
+            terminado.countDown();
+        });
+        escritor.start();
+
+        assertFalse(terminado.await(100, TimeUnit.MILLISECONDS));	//el tercero no entra
+        assertEquals(2, lenta.siguienteLote(100).size());
+        assertTrue(terminado.await(5, TimeUnit.SECONDS));
+        assertEquals(1, lenta.esperarLote(100, 1000).size());
+        assertEquals(0, lenta.getPerdidos());
+    }
+}
@@ -0,0 +1,63 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import carga.GeneradorCarga;
+import carga.Operacion;
+import carga.ReproductorCarga;
+import carga.ResultadoCarga;
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+
+public class GeneradorCargaTest {
+
+    private GeneradorCarga nuevoGenerador(long semilla) {
+        return new GeneradorCarga(semilla, GeneradorCarga.proporcionesPorDefecto(), 1.0, 4);
+    }
+
+    @Test
+    public void testMismaSemillaMismaSecuencia() {
+        GeneradorCarga a = nuevoGenerador(7);
+        GeneradorCarga b = nuevoGenerador(7);
+        a.generarCargaInicial(10, 10);
+        b.generarCargaInicial(10, 10);
+        List<Operacion> opsA = a.generar(1000);
+        List<Operacion> opsB = b.generar(1000);
+        for (int i = 0; i < opsA.size(); i++) {
+            assertEquals(opsA.get(i).aLinea(), opsB.get(i).aLinea());
+        }
+    }
+
+    @Test
+    public void testOperacionIdaYVueltaATexto() {
+        for (Operacion op : nuevoGenerador(3).generar(200)) {
+            assertEquals(op.aLinea(), Operacion.desdeLinea(op.aLinea()).aLinea());
+        }
+    }
+
+    @Test
+    public void testCargaInicialSecuencialSinRechazos() {
+        GeneradorCarga generador = nuevoGenerador(11);
+        HomeSolution sistema = new HomeSolution();
+        ReproductorCarga reproductor = new ReproductorCarga(sistema, 1, 0);
+        assertEquals(0, reproductor.preparar(generador.generarCargaInicial(20, 30)));
+        assertEquals(20, sistema.empleados().size());
+        assertEquals(30, sistema.proyectosPendientes().size());
+    }
+
+    @Test
+    public void testReproducirConVariosHilos() throws InterruptedException {
+        GeneradorCarga generador = nuevoGenerador(5);
+        ReproductorCarga reproductor = new ReproductorCarga(new HomeSolutionSincronizada(new HomeSolution()), 4, 0);
+        reproductor.preparar(generador.generarCargaInicial(20, 20));
+        ResultadoCarga resultado = reproductor.reproducir(generador.generar(2000));
+        assertEquals(2000, resultado.getOperaciones());
+        assertTrue(resultado.latenciaPercentil(50) <= resultado.latenciaPercentil(99));
+        assertTrue(resultado.latenciaPercentil(99) <= resultado.latenciaMaxima());
+    }
+}
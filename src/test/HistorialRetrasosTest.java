@@ -0,0 +1,112 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import entidades.FlujoEventos;
+import entidades.HomeSolution;
+import entidades.SerieRetrasos;
+import entidades.Tupla;
+
+public class HistorialRetrasosTest {
+
+    //reloj que avanza solo cuando el test lo pide
+    private static class RelojManual extends Clock {
+        private Instant ahora = Instant.parse("2025-01-01T00:00:00Z");
+
+        void avanzarDias(int dias) {
+            ahora = ahora.plus(Duration.ofDays(dias));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return ahora;
+        }
+    }
+
+    @Test
+    public void testSerieCoincideConFuerzaBruta() {
+        Random azar = new Random(7);
+        SerieRetrasos serie = new SerieRetrasos();
+        List<long[]> retrasos = new ArrayList<>();	//{instante, medios dias}
+        long instante = 0;
+        for (int i = 0; i < 2000; i++) {
+            instante += azar.nextInt(5);
+            int medios = 1 + azar.nextInt(40);
+            serie.registrar(instante, medios / 2.0);
+            retrasos.add(new long[] {instante, medios});
+        }
+
+        for (int consulta = 0; consulta < 200; consulta++) {
+            long desde = azar.nextInt((int) instante);
+            long hasta = desde + azar.nextInt(2000);
+            List<Integer> ventana = new ArrayList<>();
+            double suma = 0;
+            for (long[] r : retrasos) {
+                if (r[0] >= desde && r[0] <= hasta) {
+                    ventana.add((int) r[1]);
+                    suma += r[1] / 2.0;
+                }
+            }
+            Collections.sort(ventana);
+            assertEquals(ventana.size(), serie.contar(desde, hasta));
+            assertEquals(suma, serie.sumarDias(desde, hasta), 0.001);
+            if (!ventana.isEmpty()) {
+                int k = (int) Math.ceil(0.9 * ventana.size());
+                assertEquals(ventana.get(k - 1) / 2.0, serie.percentil(desde, hasta, 90), 0.001);
+            }
+        }
+    }
+
+    @Test
+    public void testVentanasDeHomeSolution() throws Exception {
+        RelojManual reloj = new RelojManual();
+        HomeSolution homeSolution = new HomeSolution(new FlujoEventos(), reloj);
+        String[] titulos = {"Pintar", "Podar"};
+        String[] cliente = {"Pedro Gomez", "mail@mail.com", "123456"};
+        homeSolution.registrarProyecto(titulos, new String[] {"", ""}, new double[] {1, 1}, "San Martin 1000", cliente, "2025-12-01", "2025-12-05");
+        homeSolution.registrarEmpleado("Juan", 15000);
+        homeSolution.registrarEmpleado("Luis", 50000, "EXPERTO");
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");	//Juan
+        homeSolution.asignarResponsableEnTarea(1, "Podar");	//Luis
+
+        homeSolution.registrarRetrasoEnTarea(1, "Pintar", 10);
+        reloj.avanzarDias(100);
+        homeSolution.registrarRetrasoEnTarea(1, "Podar", 3);
+        homeSolution.registrarRetrasoEnTarea(1, "Pintar", 1);
+
+        List<Tupla<Integer, Double>> ultimos90 = homeSolution.empleadosConMasRetrasos(90, 5);
+        assertEquals(2, ultimos90.size());
+        assertEquals(Integer.valueOf(1001), ultimos90.get(0).getValor1());	//Luis: 3 dias
+        assertEquals(3.0, ultimos90.get(0).getValor2(), 0.001);
+
+        List<Tupla<Integer, Double>> todos = homeSolution.empleadosConMasRetrasos(365, 1);
+        assertEquals(Integer.valueOf(1000), todos.get(0).getValor1());	//Juan: 11 dias
+        assertEquals(11.0, todos.get(0).getValor2(), 0.001);
+
+        assertEquals(1.0, homeSolution.percentilRetrasos("CONTRATADO", 90, 90), 0.001);
+        assertEquals(10.0, homeSolution.percentilRetrasos("CONTRATADO", 365, 90), 0.001);
+        assertEquals(0.0, homeSolution.percentilRetrasos("INICIAL", 365, 90), 0.001);
+    }
+}
@@ -0,0 +1,118 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.HomeSolutionAsincronica;
+import entidades.ResultadoAsignacion;
+
+public class HomeSolutionAsincronicaTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private HomeSolutionAsincronica asincronica;
+
+    @Before
+    public void setUp() {
+        asincronica = new HomeSolutionAsincronica(new HomeSolution());
+    }
+
+    @After
+    public void tearDown() {
+        asincronica.close();
+    }
+
+    @Test
+    public void testRespetaElOrdenDentroDeCadaProyecto() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            asincronica.registrarEmpleado("Empleado" + i, 15000);
+            asincronica.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                    "Calle " + i, CLIENTE, "2025-12-01", "2025-12-05");
+        }
+        //desde varios hilos: cada uno manda agregar -> asignar -> finalizar sobre su proyecto
+        List<CompletableFuture<ResultadoAsignacion>> asignaciones = new ArrayList<>();
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            int desde = h * 5 + 1;
+            Thread hilo = new Thread(() -> {
+                for (int numero = desde; numero < desde + 5; numero++) {
+                    asincronica.agregarTareaEnProyecto(numero, "Limpieza", "", 1);
+                    CompletableFuture<ResultadoAsignacion> a = asincronica.asignarResponsableEnTarea(numero, "Limpieza");
+                    synchronized (asignaciones) {
+                        asignaciones.add(a);
+                    }
+                    asincronica.finalizarTarea(numero, "Limpieza");
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        CompletableFuture.allOf(asignaciones.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        for (CompletableFuture<ResultadoAsignacion> a : asignaciones) {
+            assertEquals(ResultadoAsignacion.ASIGNADO, a.get());
+        }
+        Object[] noAsignadas = asincronica.consultar(1, s -> s.tareasProyectoNoAsignadas(1)).get(5, TimeUnit.SECONDS);
+        assertEquals(1, noAsignadas.length);	//solo "Pintar"
+        assertEquals(20, asincronica.instantanea().empleadosNoAsignados().length);
+    }
+
+    @Test
+    public void testReenviaLasPoliticasYLasTareasNuevas() throws Exception {
+        asincronica.registrarEmpleado("Juan", 1000);	//1000
+        asincronica.registrarEmpleado("Ana", 50000, "EXPERTO");	//1001
+        asincronica.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        asincronica.agregarTareaEnProyecto(1, "Tablero", "", 1, "EXPERTO");
+        asincronica.agregarTareaEnProyecto(1, "Cables", "", 1, null, 0.5);
+        asincronica.definirDependenciasTarea(1, "Cables", new String[0]);
+        asincronica.registrarAusenciaEmpleado(1000, "2025-12-01", "2025-12-05");
+
+        CompletableFuture<ResultadoAsignacion> tablero = asincronica.asignarResponsablePorCategoria(1, "Tablero");
+        CompletableFuture<ResultadoAsignacion> ausente = asincronica.asignarResponsableSegunCalendario(1, "Pintar");
+        asincronica.cancelarAusenciaEmpleado(1000, "2025-12-01", "2025-12-05");
+        CompletableFuture<ResultadoAsignacion> barato = asincronica.asignarResponsableMasBarato(1, "Pintar");
+        asincronica.cambiarCapacidadEmpleado(1000, 1.5);
+        CompletableFuture<ResultadoAsignacion> cables = asincronica.asignarResponsableMenorRiesgo(1, "Cables");
+
+        assertEquals(ResultadoAsignacion.ASIGNADO, tablero.get(5, TimeUnit.SECONDS));
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, ausente.get(5, TimeUnit.SECONDS));	//Juan ausente, Ana ocupada
+        assertEquals(ResultadoAsignacion.ASIGNADO, barato.get(5, TimeUnit.SECONDS));
+        assertEquals(ResultadoAsignacion.ASIGNADO, cables.get(5, TimeUnit.SECONDS));	//le queda medio dia a Juan
+        assertEquals(0, (long) asincronica.consultar(1, s -> s.inicioYFinTarea(1, "Cables")).get(5, TimeUnit.SECONDS).getValor1());
+        assertEquals(0, asincronica.instantanea().empleadosNoAsignados().length);
+    }
+
+    @Test
+    public void testLosErroresCompletanElFuture() throws Exception {
+        CompletableFuture<Void> f = asincronica.finalizarProyecto(99, "2025-12-10");
+        try {
+            f.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            return;
+        }
+        throw new AssertionError("Deberia fallar");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCerradaNoAceptaOperaciones() throws Exception {
+        CompletableFuture<Void> alta = asincronica.registrarEmpleado("Juan", 15000);
+        asincronica.close();
+        assertTrue(alta.isDone());	//lo encolado antes de cerrar se aplica
+        asincronica.registrarEmpleado("Luis", 15000);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import entidades.HomeSolution;
 import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
 import entidades.Tupla;
 
 public class HomeSolutionTest{
@@ -231,6 +232,57 @@ public class HomeSolutionTest{
         assertEquals(costo, homeSolution.costoProyecto(numeroProyecto), 0.001);
     }
 
+    @Test
+    public void testAgregarTareaEnProyectoActivoLoVuelvePendiente() throws Exception{
+        Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        asignarTareas(numeroProyecto);
+        homeSolution.agregarTareaEnProyecto(numeroProyecto,"Limpieza","limpieza general",1);
+        assertEquals(0, homeSolution.proyectosActivos().size());
+        assertEquals(1, homeSolution.tareasProyectoNoAsignadas(numeroProyecto).length);
+    }
+    @Test
+    public void testFinalizarProyectoNoLiberaEmpleadoQueTrabajaEnOtro() throws Exception{
+        Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        asignarTareas(numeroProyecto);
+        homeSolution.finalizarTarea(numeroProyecto,"Pintar");  // libera a un empleado
+        Integer otroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        homeSolution.asignarResponsableEnTarea(otroProyecto,"Pintar"); // lo toma el otro proyecto
+        homeSolution.finalizarProyecto(numeroProyecto,"2025-12-10");
+        assertEquals(3, homeSolution.empleadosNoAsignados().length);
+    }
+    @Test(expected = Exception.class)
+    public void testReasignarTareaFinalizadaLanzaExcepcion() throws Exception{
+        Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        asignarTareas(numeroProyecto);
+        homeSolution.finalizarTarea(numeroProyecto,"Pintar");
+        homeSolution.reasignarEmpleadoConMenosRetraso(numeroProyecto,"Pintar");
+    }
+
+    @Test
+    public void testIntentarAsignarSinEmpleadosNoLanzaExcepcion() throws Exception{
+        Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        homeSolution.agregarTareaEnProyecto(numeroProyecto,"Limpieza","limpieza general",1);
+        asignarTareas(numeroProyecto);
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableEnTarea(numeroProyecto,"Limpieza"));
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMenosRetraso(numeroProyecto,"Limpieza"));
+        assertEquals(1, homeSolution.tareasProyectoNoAsignadas(numeroProyecto).length);
+        assertEquals(2, homeSolution.proyectosPendientes().size());
+    }
+    @Test
+    public void testIntentarAsignarInformaCadaCaso() throws Exception{
+        Integer numeroProyecto = (homeSolution.proyectosPendientes().get(0)).getValor1();
+        assertEquals(ResultadoAsignacion.ASIGNADO, homeSolution.intentarAsignarResponsableEnTarea(numeroProyecto,"Pintar"));
+        assertEquals(ResultadoAsignacion.YA_ASIGNADA, homeSolution.intentarAsignarResponsableMenosRetraso(numeroProyecto,"Pintar"));
+        homeSolution.asignarResponsableEnTarea(numeroProyecto,"Instalacion electrica");
+        homeSolution.asignarResponsableEnTarea(numeroProyecto,"Trabajos jardineria");
+        homeSolution.asignarResponsableEnTarea(numeroProyecto,"Instalar AA");
+        homeSolution.agregarTareaEnProyecto(numeroProyecto,"Limpieza","limpieza general",1);
+        homeSolution.finalizarTarea(numeroProyecto,"Pintar");
+        homeSolution.asignarResponsableEnTarea(numeroProyecto,"Limpieza");
+        homeSolution.finalizarProyecto(numeroProyecto,"2025-12-10");
+        assertEquals(ResultadoAsignacion.PROYECTO_FINALIZADO, homeSolution.intentarAsignarResponsableEnTarea(numeroProyecto,"Pintar"));
+    }
+
 
 
     private void asignarTareas(Integer numeroProyecto) throws Exception{
@@ -0,0 +1,80 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import entidades.Empleado;
+import entidades.EmpleadoContratado;
+import entidades.EmpleadoDePlanta;
+import entidades.HomeSolution;
+import entidades.IndiceCosto;
+import entidades.Tarea;
+
+public class IndiceCostoTest {
+    private static final String[] CATEGORIAS = {"INICIAL", "TECNICO", "EXPERTO"};
+    private static final double[] CARGAS = {0.25, 0.5, 1};
+
+    @Test
+    public void testCoincideConRecorrerTodos() {
+        Random azar = new Random(11);
+        Empleado[] empleados = new Empleado[200];
+        List<List<Tarea>> tomadas = new ArrayList<>();
+        IndiceCosto indice = new IndiceCosto();
+        for (int i = 0; i < empleados.length; i++) {
+            if (azar.nextBoolean()) {
+                empleados[i] = new EmpleadoContratado("C" + i, i, 1000 + azar.nextInt(5000));
+            } else {
+                empleados[i] = new EmpleadoDePlanta("P" + i, i, 10000 + azar.nextInt(40000), CATEGORIAS[azar.nextInt(3)]);
+            }
+            tomadas.add(new ArrayList<>());
+            indice.actualizar(empleados[i]);
+        }
+
+        for (int consulta = 0; consulta < 500; consulta++) {
+            int i = azar.nextInt(empleados.length);	//toma o devuelve carga, entera o parcial
+            Tarea trabajo = new Tarea("W", "", 1, null, CARGAS[azar.nextInt(CARGAS.length)]);
+            if (!tomadas.get(i).isEmpty() && azar.nextBoolean()) {
+                empleados[i].devolverCarga(tomadas.get(i).remove(0));
+            } else if (empleados[i].puedeTomar(trabajo)) {
+                empleados[i].tomarCarga(trabajo);
+                tomadas.get(i).add(trabajo);
+            }
+            indice.actualizar(empleados[i]);
+
+            String minima = azar.nextInt(3) == 0 ? CATEGORIAS[azar.nextInt(3)] : null;
+            Tarea tarea = new Tarea("T", "", (1 + azar.nextInt(20)) / 2.0, minima, CARGAS[azar.nextInt(CARGAS.length)]);
+            Empleado esperado = null;
+            double menor = Double.MAX_VALUE;
+            for (Empleado e : empleados) {
+                double costo = e.calcularCosto(tarea.getDiasEstimados());
+                if (tarea.admite(e) && e.puedeTomar(tarea) && costo < menor) {
+                    esperado = e;	//a igual costo queda el de menor legajo, que se vio antes
+                    menor = costo;
+                }
+            }
+            assertEquals(esperado, indice.masBarato(tarea));
+        }
+    }
+
+    @Test
+    public void testMediaJornadaFavoreceAlContratado() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Luis", 50000, "INICIAL");	//1000: 50000 por dia (redondeado)
+        homeSolution.registrarEmpleado("Juan", 5000);	//1001: 40000 por dia, 20000 por medio dia
+        homeSolution.registrarProyecto(new String[] {"Medio", "Largo"}, new String[] {"", ""}, new double[] {0.5, 3},
+                "San Martin 1000", new String[] {"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-05");
+
+        homeSolution.asignarResponsableMasBarato(1, "Medio");
+        homeSolution.asignarResponsableMasBarato(1, "Largo");
+        for (Object obj : homeSolution.tareasDeUnProyecto(1)) {
+            Tarea tarea = (Tarea) obj;
+            int esperado = tarea.getTituloID().equals("Medio") ? 1001 : 1000;
+            assertEquals(esperado, tarea.getResponsable().getNumLegajo());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+
+public class IndiceFechasTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarEmpleado("Ana", 1000);
+        registrar("2025-12-01", "2025-12-05", 2);	//1: fin real 2025-12-07
+        registrar("2025-12-10", "2025-12-15", 1);	//2: fin real 2025-12-16
+        registrar("2026-01-05", "2026-01-10", 1);	//3: fin real 2026-01-11
+    }
+
+    @Test
+    public void testEmpiezanYVencenEntre() {
+        assertEquals(Arrays.asList(1, 2), homeSolution.proyectosQueEmpiezanEntre("2025-12-01", "2025-12-31"));
+        assertEquals(Arrays.asList(3), homeSolution.proyectosQueEmpiezanEntre("2026-01-05", "2026-01-05"));
+        assertEquals(Arrays.asList(1, 2), homeSolution.proyectosQueVencenEntre("2025-12-06", "2025-12-31"));
+    }
+
+    @Test
+    public void testRetrasosYTareasMuevenLasFechas() throws Exception {
+        homeSolution.registrarRetrasoEnTarea(1, "Tarea", 3);	//fin real 2025-12-10, 3 dias de atraso
+        homeSolution.registrarRetrasoEnTarea(2, "Tarea", 0.5);	//fin real 2025-12-17, 1 dia
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-08", "2025-12-16"));
+        assertEquals(Arrays.asList(1, 2), homeSolution.proyectosAtrasados(1));
+        assertEquals(Arrays.asList(1), homeSolution.proyectosAtrasados(2));
+
+        homeSolution.agregarTareaEnProyecto(1, "Otra", "", 2);	//mueve las dos fechas: el atraso no cambia
+        assertEquals(Arrays.asList(1), homeSolution.proyectosQueVencenEntre("2025-12-12", "2025-12-12"));
+        assertEquals(Arrays.asList(1), homeSolution.proyectosAtrasados(3));
+
+        homeSolution.asignarResponsableEnTarea(1, "Tarea");
+        homeSolution.asignarResponsableEnTarea(1, "Otra");
+        homeSolution.finalizarProyecto(1, "2025-12-20");	//los finalizados salen de vencimientos y atrasos
+        assertEquals(Arrays.asList(2), homeSolution.proyectosAtrasados(1));
+        assertEquals(Arrays.asList(2), homeSolution.proyectosQueVencenEntre("2025-12-01", "2025-12-31"));
+        assertEquals(Arrays.asList(1, 2), homeSolution.proyectosQueEmpiezanEntre("2025-12-01", "2025-12-31"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRangoInvertido() {
+        homeSolution.proyectosQueEmpiezanEntre("2025-12-31", "2025-12-01");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFechaInvalida() {
+        homeSolution.proyectosQueVencenEntre("31/12/2025", "2026-01-01");
+    }
+
+    private void registrar(String inicio, String fin, double dias) {
+        homeSolution.registrarProyecto(new String[] {"Tarea"}, new String[] {""}, new double[] {dias},
+                "Calle 1", CLIENTE, inicio, fin);
+    }
+}
@@ -0,0 +1,62 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+
+public class IndiceTextoTest {
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {"Paredes del living"}, new double[] {1},
+                "San Martín 1000", new String[] {"Pedro Gómez", "pedro@mail.com", "123456"}, "2025-12-01", "2025-12-05");
+        homeSolution.registrarProyecto(new String[] {"Electricidad"}, new String[] {"Tablero nuevo"}, new double[] {2},
+                "Belgrano 250", new String[] {"Ana Martinez", "ana@mail.com", "654321"}, "2025-12-01", "2025-12-05");
+        homeSolution.registrarProyecto(new String[] {"Techo"}, new String[] {""}, new double[] {3},
+                "Mitre 40", new String[] {"Luis Sanchez", "luis@mail.com", "111111"}, "2025-12-01", "2025-12-05");
+    }
+
+    @Test
+    public void testSinAcentosNiMayusculas() {
+        assertEquals(Arrays.asList(1), homeSolution.buscarProyectos("GOMEZ", 10));
+        assertEquals(Arrays.asList(1), homeSolution.buscarProyectos("pedro@mail.com", 10));
+    }
+
+    @Test
+    public void testPrefijoYSubcadena() {
+        assertEquals(Arrays.asList(2), homeSolution.buscarProyectos("elec", 10));
+        assertEquals(Arrays.asList(2), homeSolution.buscarProyectos("tric", 10));	//parte de "electricidad"
+        assertTrue(homeSolution.buscarProyectos("zz", 10).isEmpty());
+    }
+
+    @Test
+    public void testElDomicilioPesaMasQueElCliente() {
+        //"martin" es calle del 1 y apellido de la clienta del 2 (como prefijo)
+        List<Integer> resultado = homeSolution.buscarProyectos("martin", 10);
+        assertEquals(Arrays.asList(1, 2), resultado);
+        assertEquals(Arrays.asList(1), homeSolution.buscarProyectos("martin", 1));
+    }
+
+    @Test
+    public void testTodasLasPalabrasYTareasNuevas() {
+        assertTrue(homeSolution.buscarProyectos("mitre gas", 10).isEmpty());
+        homeSolution.agregarTareaEnProyecto(3, "Gas", "Revisar la caldera", 1);
+        assertEquals(Arrays.asList(3), homeSolution.buscarProyectos("mitre gas", 10));
+        assertEquals(Arrays.asList(3), homeSolution.buscarProyectos("caldera", 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCantidadInvalida() {
+        homeSolution.buscarProyectos("mitre", 0);
+    }
+}
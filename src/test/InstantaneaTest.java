@@ -0,0 +1,141 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Dinero;
+import entidades.Empleado;
+import entidades.EmpleadoDePlanta;
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.Instantanea;
+import entidades.Tarea;
+
+public class InstantaneaTest {
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+
+        String titulos[] = {"Pintar", "Instalacion electrica"};
+        String descripciones[] = {"", ""};
+        double duracion[] = {4, 2};
+        String cliente[] = {"Pedro Gomez", "mail@mail.com", "123456"};
+        homeSolution.registrarProyecto(titulos, descripciones, duracion, "San Martin 1000", cliente, "2025-12-01", "2025-12-05");
+        homeSolution.registrarProyecto(titulos, descripciones, duracion, "Libertador 500", cliente, "2025-12-10", "2025-12-15");
+        homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");
+        homeSolution.registrarEmpleado("Juan", 15000);
+    }
+
+    @Test
+    public void testInstantaneaNoCambiaConEscriturasPosteriores() throws Exception {
+        Instantanea antes = homeSolution.instantanea();
+
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.asignarResponsableEnTarea(1, "Instalacion electrica");
+        homeSolution.finalizarProyecto(1, "2025-12-06");
+
+        assertEquals(2, antes.proyectosPendientes().size());
+        assertEquals(0, antes.proyectosFinalizados().size());
+        assertEquals(2, antes.empleadosNoAsignados().length);
+        assertTrue(homeSolution.instantanea().getVersion() > antes.getVersion());
+        assertEquals(1, homeSolution.instantanea().proyectosFinalizados().size());
+    }
+
+    @Test
+    public void testInstantaneaCoincideConLosReportes() throws Exception {
+        homeSolution.asignarResponsableMenosRetraso(1, "Pintar");
+        homeSolution.finalizarTarea(1, "Pintar");	//Luis queda libre
+        homeSolution.asignarResponsableMenosRetraso(2, "Pintar");
+        homeSolution.registrarRetrasoEnTarea(2, "Pintar", 2);	//Luis pierde el bonus tambien en el proyecto 1
+
+        Instantanea actual = homeSolution.instantanea();
+        for (int numero = 1; numero <= 2; numero++) {
+            assertEquals(homeSolution.costoProyecto(numero), actual.costoProyecto(numero), 0.001);
+            assertEquals(homeSolution.consultarProyecto(numero), actual.consultarProyecto(numero));
+        }
+        assertEquals(homeSolution.empleadosNoAsignados().length, actual.empleadosNoAsignados().length);
+        assertEquals(1, actual.consultarCantidadRetrasosEmpleado(1000));
+    }
+
+    @Test
+    public void testCostoAlDiaCoincideConRecalcularlo() {
+        Random azar = new Random(5);
+        String[] titulos = new String[12];
+        for (int i = 0; i < titulos.length; i++) {
+            titulos[i] = "T" + i;
+        }
+        for (int i = 0; i < 4; i++) {
+            homeSolution.registrarEmpleado("Planta" + i, 60000, "TECNICO");
+            homeSolution.registrarEmpleado("Contratado" + i, 12000);
+        }
+        String[] descripciones = new String[titulos.length];
+        double[] dias = new double[titulos.length];
+        for (int i = 0; i < titulos.length; i++) {
+            descripciones[i] = "";
+            dias[i] = 0.5 + i % 4;
+        }
+        String[] cliente = {"Ana", "ana@mail.com", "1"};
+        //3 y 4 comparten empleados: el primer retraso en uno le quita el bonus tambien en el otro
+        homeSolution.registrarProyecto(titulos, descripciones, dias, "Belgrano 10", cliente, "2025-12-01", "2025-12-05");
+        homeSolution.registrarProyecto(titulos, descripciones, dias, "Belgrano 20", cliente, "2025-12-01", "2025-12-05");
+        for (int paso = 0; paso < 400; paso++) {
+            int numero = 3 + azar.nextInt(2);
+            String titulo = titulos[azar.nextInt(titulos.length)];
+            try {
+                switch (azar.nextInt(4)) {
+                    case 0:
+                        homeSolution.asignarResponsableEnTarea(numero, titulo);
+                        break;
+                    case 1:
+                        homeSolution.registrarRetrasoEnTarea(numero, titulo, 0.5);
+                        break;
+                    case 2:
+                        homeSolution.reasignarEmpleadoConMenosRetraso(numero, titulo);
+                        break;
+                    default:
+                        homeSolution.finalizarTarea(numero, titulo);
+                }
+            } catch (Exception e) {
+                //ya asignada, sin empleados libres, ya finalizada: se sigue
+            }
+            for (int n = 3; n <= 4; n++) {
+                assertEquals(costoRecalculado(n), homeSolution.costoProyectoEnMilesimos(n));
+                assertEquals(homeSolution.consultarProyecto(n), homeSolution.instantanea().consultarProyecto(n));
+            }
+        }
+    }
+
+    //la cuenta de siempre, recorriendo todas las tareas (el proyecto no esta finalizado: 35%)
+    private long costoRecalculado(int numero) {
+        long base = 0;
+        Map<Empleado, Long> porResponsable = new HashMap<>();
+        for (Object obj : homeSolution.tareasDeUnProyecto(numero)) {
+            Tarea t = (Tarea) obj;
+            base += t.calcularCostoEnMilesimos();
+            if (t.getResponsable() != null) {
+                porResponsable.merge(t.getResponsable(), t.calcularCostoEnMilesimos(), Long::sum);
+            }
+        }
+        long bonus = 0;
+        for (Map.Entry<Empleado, Long> e : porResponsable.entrySet()) {
+            if (e.getKey() instanceof EmpleadoDePlanta && e.getKey().getCantRetrasos() == 0) {
+                bonus += Dinero.porcentaje(e.getValue(), 200);
+            }
+        }
+        return base + bonus + Dinero.porcentaje(base + bonus, 3500);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProyectoInexistenteLanzaExcepcion() {
+        homeSolution.instantanea().costoProyecto(99);
+    }
+}
@@ -0,0 +1,200 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import entidades.DespachadorNotificaciones;
+import entidades.HomeSolution;
+import entidades.Notificacion;
+import entidades.ResultadoAsignacion;
+import entidades.TransporteDirectorio;
+
+public class NotificacionesTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    @Rule
+    public TemporaryFolder carpeta = new TemporaryFolder();
+
+    private HomeSolution homeSolution;
+    private List<List<Notificacion>> lotes;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        lotes = new CopyOnWriteArrayList<>();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarEmpleado("Ana", 1000);
+    }
+
+    //el periodo es largo para que las vueltas las haga el test con despachar()
+    private DespachadorNotificaciones despachador(int tamanioLote, int maximoPorSegundo) {
+        return new DespachadorNotificaciones(homeSolution.bandejaSalida(), lote -> lotes.add(new ArrayList<>(lote)),
+                tamanioLote, maximoPorSegundo, 1, TimeUnit.HOURS);
+    }
+
+    private void registrarProyecto(String domicilio) {
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                domicilio, CLIENTE, "2025-12-01", "2025-12-05");
+    }
+
+    private void registrarYFinalizar(String domicilio, int numero) throws Exception {
+        registrarProyecto(domicilio);
+        homeSolution.asignarResponsableEnTarea(numero, "Pintar");
+        homeSolution.finalizarProyecto(numero, "2025-12-10");
+    }
+
+    @Test
+    public void testSinDespachadorNoEncola() throws Exception {
+        registrarProyecto("San Martin 1000");
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.finalizarProyecto(1, "2025-12-10");
+        assertEquals(0, homeSolution.bandejaSalida().tamanio());
+    }
+
+    @Test
+    public void testSinPersonalYFinalizado() throws Exception {
+        try (DespachadorNotificaciones despachador = despachador(10, 100)) {
+            homeSolution.registrarProyecto(new String[] {"Pintar", "Revocar"}, new String[] {"", ""}, new double[] {1, 2},
+                    "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+            registrarProyecto("Libertador 500");	//2
+            homeSolution.asignarResponsableEnTarea(1, "Pintar");	//Juan
+            homeSolution.asignarResponsableEnTarea(2, "Pintar");	//Ana
+            homeSolution.agregarTareaEnProyecto(1, "Techo", "", 1);
+            assertEquals(0, homeSolution.bandejaSalida().tamanio());	//registrar, asignar y agregar tareas no avisan
+
+            assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableEnTarea(1, "Revocar"));
+            assertEquals(1, homeSolution.bandejaSalida().tamanio());	//se busco personal y no habia
+
+            homeSolution.finalizarProyecto(2, "2025-12-10");	//libera a Ana
+            homeSolution.asignarResponsableEnTarea(1, "Revocar");
+            assertEquals(2, homeSolution.bandejaSalida().tamanio());
+
+            assertEquals(2, despachador.despachar());
+            assertEquals(1, lotes.size());
+            Notificacion sinPersonal = lotes.get(0).get(0);
+            Notificacion finalizado = lotes.get(0).get(1);
+            assertEquals(Notificacion.Motivo.SIN_PERSONAL, sinPersonal.getMotivo());
+            assertEquals(1, sinPersonal.getNumeroProyecto());
+            assertEquals("mail@mail.com", sinPersonal.getDestino());
+            assertEquals(Notificacion.Motivo.FINALIZADO, finalizado.getMotivo());
+            assertEquals(2, finalizado.getNumeroProyecto());
+            assertEquals(homeSolution.costoProyectoEnMilesimos(2), finalizado.getCostoEnMilesimos());
+            assertEquals(0, homeSolution.bandejaSalida().tamanio());
+        }
+    }
+
+    @Test
+    public void testDescartaRepetidas() throws Exception {
+        try (DespachadorNotificaciones despachador = despachador(10, 100)) {
+            homeSolution.registrarProyecto(new String[] {"Pintar", "Revocar"}, new String[] {"", ""}, new double[] {1, 2},
+                    "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+            homeSolution.asignarResponsableEnTarea(1, "Pintar");
+            homeSolution.asignarResponsableEnTarea(1, "Revocar");	//Juan y Ana ocupados
+            homeSolution.registrarProyecto(new String[] {"Pintar", "Revocar"}, new String[] {"", ""}, new double[] {1, 2},
+                    "Libertador 500", CLIENTE, "2025-12-01", "2025-12-05");	//2
+            for (int i = 0; i < 3; i++) {	//los reintentos por la misma tarea no vuelven a encolar
+                homeSolution.intentarAsignarResponsableEnTarea(2, "Pintar");
+            }
+            assertEquals(1, homeSolution.bandejaSalida().tamanio());
+            homeSolution.intentarAsignarResponsableEnTarea(2, "Revocar");	//otra tarea: encola, pero dice lo mismo
+            assertEquals(2, homeSolution.bandejaSalida().tamanio());
+
+            assertEquals(1, despachador.despachar());
+            assertEquals(1, despachador.getRepetidas());
+        }
+    }
+
+    @Test
+    public void testVuelveAAvisarSiLaTareaSeAsignoYVuelveAFaltar() throws Exception {
+        try (DespachadorNotificaciones despachador = despachador(10, 100)) {
+            homeSolution.registrarProyecto(new String[] {"Pintar", "Revocar", "Techo"}, new String[] {"", "", ""},
+                    new double[] {1, 2, 1}, "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+            homeSolution.asignarResponsableEnTarea(1, "Pintar");
+            homeSolution.asignarResponsableEnTarea(1, "Revocar");
+            homeSolution.intentarAsignarResponsableEnTarea(1, "Techo");
+            homeSolution.intentarAsignarResponsableEnTarea(1, "Techo");
+            assertEquals(1, homeSolution.bandejaSalida().tamanio());
+
+            homeSolution.finalizarTarea(1, "Pintar");	//Juan queda libre: Techo ya no espera
+            homeSolution.asignarResponsableEnTarea(1, "Techo");
+            assertEquals(1, despachador.despachar());
+            assertEquals(0, homeSolution.bandejaSalida().tamanio());
+        }
+    }
+
+    @Test
+    public void testLimitaTasaYArmaLotes() throws Exception {
+        DespachadorNotificaciones despachador = despachador(2, 5);
+        try {
+            for (int i = 1; i <= 8; i++) {
+                registrarYFinalizar("Calle " + i, i);
+            }
+            assertEquals(5, despachador.despachar());	//la rafaga llega hasta la tasa por segundo
+            assertEquals(3, lotes.size());	//lotes de 2, 2 y 1
+            assertEquals(1, lotes.get(2).size());
+            assertEquals(3, despachador.getPendientes());
+        } finally {
+            despachador.close();	//espera fichas y manda las 3 que quedaban
+        }
+        assertEquals(8, despachador.getEnviadas());
+        assertEquals(0, despachador.getNoEnviadas());
+    }
+
+    @Test
+    public void testAlCerrarInformaLasQueNoSalieron() throws Exception {
+        DespachadorNotificaciones despachador = new DespachadorNotificaciones(homeSolution.bandejaSalida(), lote -> {
+            throw new IOException("sin conexion");
+        }, 10, 100, 1, TimeUnit.HOURS);
+        registrarYFinalizar("San Martin 1000", 1);
+        registrarYFinalizar("Libertador 500", 2);
+        despachador.close();
+        assertEquals(0, despachador.getEnviadas());
+        assertEquals(2, despachador.getNoEnviadas());
+    }
+
+    @Test
+    public void testReintentaSiFallaElTransporte() throws Exception {
+        int[] intentos = {0};
+        try (DespachadorNotificaciones despachador = new DespachadorNotificaciones(homeSolution.bandejaSalida(),
+                lote -> {
+                    if (intentos[0]++ == 0) {
+                        throw new IOException("sin conexion");
+                    }
+                    lotes.add(lote);
+                }, 10, 100, 1, TimeUnit.HOURS)) {
+            registrarYFinalizar("San Martin 1000", 1);
+            assertEquals(0, despachador.despachar());
+            assertEquals(1, despachador.getFallos());
+            assertEquals(1, despachador.despachar());
+            assertEquals(1, lotes.size());
+        }
+    }
+
+    @Test
+    public void testTransporteDirectorio() throws Exception {
+        Path directorio = carpeta.getRoot().toPath().resolve("salida");
+        TransporteDirectorio transporte = new TransporteDirectorio(directorio);
+        try (DespachadorNotificaciones despachador = new DespachadorNotificaciones(homeSolution.bandejaSalida(),
+                transporte, 10, 100, 1, TimeUnit.HOURS)) {
+            registrarYFinalizar("San Martin 1000", 1);
+            despachador.despachar();
+        }
+        List<String> lineas = Files.readAllLines(directorio.resolve("lote-000001.txt"), StandardCharsets.UTF_8);
+        assertEquals(1, lineas.size());
+        assertTrue(lineas.get(0).startsWith("mail@mail.com | FINALIZADO | 1 |"));
+    }
+}
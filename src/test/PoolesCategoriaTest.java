@@ -0,0 +1,75 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
+import entidades.Tarea;
+
+public class PoolesCategoriaTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 15000);	//1000 contratado
+        homeSolution.registrarEmpleado("Ana", 50000, "INICIAL");	//1001
+        homeSolution.registrarEmpleado("Luis", 80000, "EXPERTO");	//1002
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {1},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        homeSolution.agregarTareaEnProyecto(1, "Electricidad", "", 2, "TECNICO");
+        homeSolution.agregarTareaEnProyecto(1, "Gas", "", 2, "INICIAL");
+    }
+
+    @Test
+    public void testSubeDeCategoriaSinUsarLasDeAbajo() throws Exception {
+        homeSolution.asignarResponsablePorCategoria(1, "Electricidad");	//no hay TECNICO: va el EXPERTO
+        assertEquals(1002, responsable(1, "Electricidad"));
+        homeSolution.asignarResponsablePorCategoria(1, "Pintar");	//sin minimo: empieza por contratados
+        assertEquals(1000, responsable(1, "Pintar"));
+        homeSolution.asignarResponsablePorCategoria(1, "Gas");
+        assertEquals(1001, responsable(1, "Gas"));
+    }
+
+    @Test
+    public void testLasOtrasPoliticasRespetanLaCategoria() throws Exception {
+        homeSolution.asignarResponsableEnTarea(1, "Electricidad");
+        assertEquals(1002, responsable(1, "Electricidad"));
+        assertEquals(ResultadoAsignacion.ASIGNADO, homeSolution.intentarAsignarResponsableMenosRetraso(1, "Gas"));
+        assertEquals(1001, responsable(1, "Gas"));
+    }
+
+    @Test
+    public void testSinCategoriaSuficienteNoAsigna() {
+        homeSolution.agregarTareaEnProyecto(1, "Techo", "", 1, "EXPERTO");
+        homeSolution.intentarAsignarResponsablePorCategoria(1, "Electricidad");	//toma al unico EXPERTO
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMenorRiesgo(1, "Techo"));
+    }
+
+    @Test(expected = Exception.class)
+    public void testReasignarAUnEmpleadoSinCategoria() throws Exception {
+        homeSolution.asignarResponsablePorCategoria(1, "Electricidad");
+        homeSolution.reasignarEmpleadoEnProyecto(1, 1001, "Electricidad");	//INICIAL no alcanza
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCategoriaMinimaInvalida() {
+        homeSolution.agregarTareaEnProyecto(1, "Techo", "", 1, "CONTRATADO");
+    }
+
+    private int responsable(Integer numero, String titulo) {
+        for (Object obj : homeSolution.tareasDeUnProyecto(numero)) {
+            Tarea tarea = (Tarea) obj;
+            if (tarea.getTituloID().equals(titulo)) {
+                return tarea.getResponsable().getNumLegajo();
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,81 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import carga.Operacion;
+import carga.PruebaEstres;
+import carga.RegistroOperacion;
+import carga.ResultadoEstres;
+import carga.TipoOperacion;
+import carga.VerificadorInvariantes;
+import carga.VerificadorLinealizabilidad;
+import entidades.HomeSolution;
+import entidades.HomeSolutionSincronizada;
+
+public class PruebaEstresTest {
+
+    @Test
+    public void testHomeSolutionSincronizadaSinViolaciones() throws InterruptedException {
+        PruebaEstres prueba = new PruebaEstres(() -> new HomeSolutionSincronizada(new HomeSolution()),
+                HomeSolution::new, 4, 6, 1);
+        ResultadoEstres resultado = prueba.ejecutar(30);
+        assertTrue(resultado.toString(), resultado.sinViolaciones());
+        assertEquals(30, resultado.getLinealizables() + resultado.getInconclusas());
+    }
+
+    @Test
+    public void testDetectaHistorialNoLinealizable() {
+        List<Operacion> inicial = new ArrayList<>();
+        Operacion registrar = new Operacion(TipoOperacion.REGISTRAR_PROYECTO, 1, "Calle 1", 0);
+        Operacion listarPendientes = new Operacion(TipoOperacion.LISTAR, 0, null, 1);
+
+        //el listado empezo despues de que termino el registro, pero no lo ve
+        List<RegistroOperacion> historial = Arrays.asList(
+                new RegistroOperacion(registrar, 0, 0, 10, "ok"),
+                new RegistroOperacion(listarPendientes, 1, 20, 30, "[]"));
+        HomeSolution esperado = new HomeSolution();
+        RegistroOperacion.ejecutarYDescribir(registrar, esperado);
+
+        VerificadorLinealizabilidad verificador = new VerificadorLinealizabilidad(HomeSolution::new, inicial, 1000);
+        assertEquals(VerificadorLinealizabilidad.Veredicto.NO_LINEALIZABLE,
+                verificador.verificar(historial, VerificadorInvariantes.estadoCanonico(esperado)));
+    }
+
+    @Test
+    public void testAceptaOperacionesSolapadasEnCualquierOrden() {
+        List<Operacion> inicial = new ArrayList<>();
+        Operacion registrar = new Operacion(TipoOperacion.REGISTRAR_PROYECTO, 1, "Calle 1", 0);
+        Operacion listarPendientes = new Operacion(TipoOperacion.LISTAR, 0, null, 1);
+
+        //se solapan: el listado puede haber ocurrido antes del registro
+        List<RegistroOperacion> historial = Arrays.asList(
+                new RegistroOperacion(registrar, 0, 0, 30, "ok"),
+                new RegistroOperacion(listarPendientes, 1, 10, 20, "[]"));
+        HomeSolution esperado = new HomeSolution();
+        RegistroOperacion.ejecutarYDescribir(registrar, esperado);
+
+        VerificadorLinealizabilidad verificador = new VerificadorLinealizabilidad(HomeSolution::new, inicial, 1000);
+        assertEquals(VerificadorLinealizabilidad.Veredicto.LINEALIZABLE,
+                verificador.verificar(historial, VerificadorInvariantes.estadoCanonico(esperado)));
+    }
+
+    @Test
+    public void testInvariantesDeUnSistemaSecuencial() throws Exception {
+        HomeSolution sistema = new HomeSolution();
+        sistema.registrarEmpleado("Juan", 15000);
+        sistema.registrarEmpleado("Luis", 80000, "EXPERTO");
+        String[] titulos = {"Pintar", "Instalar AA"};
+        sistema.registrarProyecto(titulos, new String[]{"", ""}, new double[]{1, 2}, "San Martin 1000",
+                new String[]{"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-05");
+        sistema.asignarResponsableEnTarea(1, "Pintar");
+        sistema.asignarResponsableEnTarea(1, "Instalar AA");
+        assertTrue(VerificadorInvariantes.verificar(sistema, 2, 1).isEmpty());
+    }
+}
@@ -0,0 +1,116 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.Ranking;
+import entidades.Tupla;
+
+public class RankingTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    @Test
+    public void testActualizaYQuita() {
+        Ranking ranking = new Ranking();
+        ranking.actualizar(1, 5);
+        ranking.actualizar(2, 8);
+        ranking.actualizar(3, 5);
+        ranking.actualizar(2, 1);	//baja
+        ranking.actualizar(4, 0);	//no entra
+        assertEquals(Arrays.asList(1, 3, 2), claves(ranking.primeros(10)));
+        ranking.quitar(1);
+        assertEquals(Arrays.asList(3), claves(ranking.primeros(1)));
+        assertEquals(2, ranking.tamanio());
+    }
+
+    @Test
+    public void testCoincideConOrdenarTodo() {
+        Random azar = new Random(3);
+        HomeSolution homeSolution = new HomeSolution();
+        for (int i = 0; i < 8; i++) {
+            if (i % 2 == 0) {
+                homeSolution.registrarEmpleado("C" + i, 1000 + i);
+            } else {
+                homeSolution.registrarEmpleado("P" + i, 20000 + i, "TECNICO");
+            }
+        }
+        for (int i = 1; i <= 8; i++) {
+            homeSolution.registrarProyecto(new String[] {"A", "B"}, new String[] {"", ""}, new double[] {1, 2},
+                    "Calle " + i, CLIENTE, "2025-12-01", "2025-12-05");
+        }
+        for (int paso = 0; paso < 300; paso++) {
+            int numero = 1 + azar.nextInt(8);
+            String titulo = azar.nextBoolean() ? "A" : "B";
+            try {
+                switch (azar.nextInt(4)) {
+                    case 0: homeSolution.asignarResponsableEnTarea(numero, titulo); break;
+                    case 1: homeSolution.registrarRetrasoEnTarea(numero, titulo, 1.5); break;
+                    case 2: homeSolution.finalizarTarea(numero, titulo); break;
+                    default: if (azar.nextInt(8) == 0) homeSolution.finalizarProyecto(numero, "2025-12-20");
+                }
+            } catch (Exception e) {
+                //operacion invalida en este estado
+            }
+            verificarCostos(homeSolution);
+            verificarRetrasos(homeSolution);
+        }
+    }
+
+    private void verificarCostos(HomeSolution homeSolution) {
+        List<Tupla<Integer, Double>> esperado = new ArrayList<>();
+        for (int numero = 1; numero <= 8; numero++) {
+            if (!homeSolution.estaFinalizado(numero) && homeSolution.costoProyecto(numero) > 0) {
+                esperado.add(new Tupla<>(numero, homeSolution.costoProyecto(numero)));
+            }
+        }
+        esperado.sort((a, b) -> {
+            int porValor = Double.compare(b.getValor2(), a.getValor2());
+            return porValor != 0 ? porValor : Integer.compare(a.getValor1(), b.getValor1());
+        });
+        List<Tupla<Integer, Double>> ranking = homeSolution.rankingProyectosMasCaros(3);
+        assertEquals(claves(esperado.subList(0, Math.min(3, esperado.size()))), claves(ranking));
+    }
+
+    private void verificarRetrasos(HomeSolution homeSolution) {
+        int maximo = 0;
+        for (Tupla<Integer, String> e : homeSolution.empleados()) {
+            maximo = Math.max(maximo, homeSolution.consultarCantidadRetrasosEmpleado(e.getValor1()));
+        }
+        List<Tupla<Integer, Integer>> ranking = homeSolution.rankingEmpleadosConMasRetrasos(1);
+        assertEquals(maximo, ranking.isEmpty() ? 0 : (int) ranking.get(0).getValor2());
+    }
+
+    @Test
+    public void testDesvioPorRetrasos() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarEmpleado("Ana", 1000);
+        for (int i = 1; i <= 2; i++) {
+            homeSolution.registrarProyecto(new String[] {"A"}, new String[] {""}, new double[] {1},
+                    "Calle " + i, CLIENTE, "2025-12-01", "2025-12-05");
+            homeSolution.asignarResponsableEnTarea(i, "A");
+        }
+        homeSolution.registrarRetrasoEnTarea(1, "A", 2);
+        homeSolution.registrarRetrasoEnTarea(2, "A", 3);
+        homeSolution.registrarRetrasoEnTarea(2, "A", 0.5);
+        List<Tupla<Integer, Integer>> ranking = homeSolution.rankingProyectosMasDesviados(5);
+        assertEquals(2, (int) ranking.get(0).getValor1());
+        assertEquals(5, (int) ranking.get(0).getValor2());	//1 dia de la tarea + 3 + 1 (cada retraso se redondea por separado)
+        assertEquals(3, (int) ranking.get(1).getValor2());
+    }
+
+    private <V> List<Integer> claves(List<Tupla<Integer, V>> lista) {
+        List<Integer> claves = new ArrayList<>();
+        for (Tupla<Integer, V> t : lista) {
+            claves.add(t.getValor1());
+        }
+        return claves;
+    }
+}
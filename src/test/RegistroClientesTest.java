@@ -0,0 +1,64 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.Proyecto;
+import entidades.RegistroClientes;
+
+public class RegistroClientesTest {
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        registrar("San Martin 1000", "Pedro Gomez", "pedro@mail.com", "11-1234-5678");
+        registrar("Belgrano 250", "Ana Martinez", "ana@mail.com", "11-8765-4321");
+        registrar("Mitre 40", "P. Gomez", " PEDRO@mail.com ", "");	//mismo email
+        registrar("Rivadavia 9", "Pedro", "otro@mail.com", "(11) 1234 5678");	//mismo telefono
+    }
+
+    @Test
+    public void testAgrupaPorEmailOTelefono() {
+        assertEquals(Arrays.asList(1, 3, 4), homeSolution.proyectosDeCliente("pedro@mail.com"));
+        assertEquals(Arrays.asList(1, 3, 4), homeSolution.proyectosDeCliente("1112345678"));
+        assertEquals(Arrays.asList(1, 3, 4), homeSolution.proyectosDeCliente("otro@mail.com"));	//dato agregado despues
+        assertEquals(Arrays.asList(2), homeSolution.proyectosDeCliente("ana@mail.com"));
+    }
+
+    @Test
+    public void testAbiertosYCostoFinalizado() throws Exception {
+        homeSolution.asignarResponsableEnTarea(3, "Tarea");
+        homeSolution.finalizarProyecto(3, "2025-12-10");
+        assertEquals(Arrays.asList(1, 4), homeSolution.proyectosAbiertosDeCliente("pedro@mail.com"));
+        assertEquals(homeSolution.costoProyecto(3), homeSolution.costoFinalizadoCliente("pedro@mail.com"), 0.001);
+        assertEquals(0, homeSolution.costoFinalizadoCliente("ana@mail.com"), 0.001);
+    }
+
+    @Test
+    public void testComparteLaInstancia() {
+        RegistroClientes registro = new RegistroClientes();
+        assertSame(registro.obtenerOCrear("Pedro", "a@mail.com", "1"), registro.obtenerOCrear("Otro", "A@MAIL.COM", "2"));
+        registro.agregarProyecto(new Proyecto(1, "Calle 1", registro.buscar("2"), "2025-12-01", "2025-12-05"));
+        assertEquals(1, registro.cantidadClientes());
+        assertEquals(1, registro.proyectosDe(registro.buscar("a@mail.com")).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testClienteInexistente() {
+        homeSolution.proyectosDeCliente("nadie@mail.com");
+    }
+
+    private void registrar(String domicilio, String nombre, String email, String telefono) {
+        homeSolution.registrarProyecto(new String[] {"Tarea"}, new String[] {""}, new double[] {1},
+                domicilio, new String[] {nombre, email, telefono}, "2025-12-01", "2025-12-05");
+    }
+}
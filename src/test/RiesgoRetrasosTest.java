@@ -0,0 +1,121 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import entidades.Empleado;
+import entidades.EmpleadoContratado;
+import entidades.EmpleadoDePlanta;
+import entidades.HomeSolution;
+import entidades.IHomeSolution;
+import entidades.ResultadoAsignacion;
+import entidades.RiesgoRetrasos;
+import entidades.Tarea;
+
+public class RiesgoRetrasosTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+    private static final Tarea MEDIA = new Tarea("Media", "", 1, null, 0.5);
+
+    private IHomeSolution homeSolution;
+
+    @Before
+    public void setUp() throws Exception {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Veterano", 15000);	//1000
+        homeSolution.registrarEmpleado("Impuntual", 15000);	//1001
+        homeSolution.registrarProyecto(new String[] {"Pintar", "Podar"}, new String[] {"", ""}, new double[] {20, 10},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");	//Veterano, sin retrasos
+        homeSolution.asignarResponsableEnTarea(1, "Podar");	//Impuntual
+        homeSolution.registrarRetrasoEnTarea(1, "Podar", 5);
+        homeSolution.finalizarTarea(1, "Pintar");
+        homeSolution.finalizarTarea(1, "Podar");
+        homeSolution.registrarEmpleado("Nuevo", 15000);	//1002, sin historial
+    }
+
+    @Test
+    public void testElNuevoNoTieneRiesgoCero() {
+        double veterano = homeSolution.riesgoRetraso(1000);
+        double nuevo = homeSolution.riesgoRetraso(1002);
+        double impuntual = homeSolution.riesgoRetraso(1001);
+        assertTrue(veterano < nuevo);
+        assertTrue(nuevo < impuntual);
+        assertEquals(0.5 / 25, veterano, 0.0001);	//solo la tasa previa sobre 20 dias trabajados
+    }
+
+    @Test
+    public void testAsignaPorMenorRiesgoEntreLosDisponibles() throws Exception {
+        homeSolution.registrarProyecto(new String[] {"A", "B", "C", "D"}, new String[] {"", "", "", ""},
+                new double[] {1, 1, 1, 1}, "Libertador 500", CLIENTE, "2025-12-10", "2025-12-15");
+
+        homeSolution.asignarResponsableMenorRiesgo(2, "A");
+        homeSolution.asignarResponsableMenorRiesgo(2, "B");
+        homeSolution.asignarResponsableMenorRiesgo(2, "C");
+        assertEquals(ResultadoAsignacion.SIN_EMPLEADOS, homeSolution.intentarAsignarResponsableMenorRiesgo(2, "D"));
+
+        int[] orden = new int[3];
+        for (Object obj : homeSolution.tareasDeUnProyecto(2)) {
+            Tarea tarea = (Tarea) obj;
+            if (tarea.getResponsable() != null) {
+                orden[tarea.getTituloID().charAt(0) - 'A'] = tarea.getResponsable().getNumLegajo();
+            }
+        }
+        assertEquals(1000, orden[0]);
+        assertEquals(1002, orden[1]);
+        assertEquals(1001, orden[2]);
+    }
+
+    @Test
+    public void testPorCategoriaCoincideConRecorrerTodos() {
+        Random azar = new Random(23);
+        String[] categorias = {null, "INICIAL", "TECNICO", "EXPERTO"};
+        RiesgoRetrasos riesgo = new RiesgoRetrasos();
+        Empleado[] empleados = new Empleado[40];
+        double[] cargas = {0.5, 1};
+        for (int i = 0; i < empleados.length; i++) {
+            String categoria = categorias[azar.nextInt(categorias.length)];
+            empleados[i] = categoria == null ? new EmpleadoContratado("E" + i, i, 1000)
+                    : new EmpleadoDePlanta("E" + i, i, 1000, categoria);
+            riesgo.registrarEmpleado(empleados[i]);
+        }
+        for (int paso = 0; paso < 500; paso++) {
+            int i = azar.nextInt(empleados.length);
+            switch (azar.nextInt(4)) {
+                case 0:
+                    riesgo.registrarRetraso(empleados[i], 1 + azar.nextInt(3));
+                    break;
+                case 1:
+                    riesgo.registrarFinalizacion(empleados[i], 1 + azar.nextInt(5));
+                    break;
+                case 2:	//toma media jornada
+                    if (empleados[i].getCapacidadLibre() >= 50) {
+                        empleados[i].tomarCarga(MEDIA);
+                    }
+                    riesgo.actualizar(empleados[i]);
+                    break;
+                default:
+                    if (empleados[i].getCapacidadLibre() < 100) {
+                        empleados[i].devolverCarga(MEDIA);
+                    }
+                    riesgo.actualizar(empleados[i]);
+            }
+            Tarea tarea = new Tarea("T", "", 1, categorias[azar.nextInt(categorias.length)], cargas[azar.nextInt(cargas.length)]);
+            Empleado esperado = null;
+            for (int j = 0; j < empleados.length; j++) {
+                Empleado e = empleados[j];
+                if (!e.puedeTomar(tarea) || !tarea.admite(e)) {
+                    continue;
+                }
+                if (esperado == null || riesgo.puntaje(j) < riesgo.puntaje(esperado.getNumLegajo())) {
+                    esperado = e;	//a igual puntaje queda el de menor legajo, que se vio antes
+                }
+            }
+            assertEquals(esperado, riesgo.menorRiesgoDisponible(tarea));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import entidades.HomeSolution;
+import entidades.Tablero;
+import entidades.Tarea;
+import entidades.Tupla;
+
+public class TableroTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    @Test
+    public void testCasoSimple() throws Exception {
+        HomeSolution homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 1000);
+        homeSolution.registrarEmpleado("Ana", 50000, "TECNICO");
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {2},
+                "San Martin 1000", CLIENTE, "2025-12-01", "2025-12-05");
+        assertEquals(1, homeSolution.tablero().getPendientes());
+        assertEquals(2, homeSolution.tablero().getEmpleadosLibres());
+
+        homeSolution.asignarResponsableEnTarea(1, "Pintar");
+        homeSolution.registrarRetrasoEnTarea(1, "Pintar", 1);
+        Tablero tablero = homeSolution.tablero();
+        assertEquals(1, tablero.getActivos());
+        assertEquals(1, tablero.getEmpleadosOcupados());
+        assertEquals(0.5, tablero.getOcupacion(), 0.001);
+        assertEquals(1, tablero.getTareasConRetraso());
+        assertEquals(homeSolution.costoProyecto(1), tablero.getCostoEnCurso(), 0.001);
+
+        homeSolution.finalizarProyecto(1, "2025-12-10");
+        tablero = homeSolution.tablero();
+        assertEquals(1, tablero.getFinalizados());
+        assertEquals(0, tablero.getCostoEnCurso(), 0.001);
+        assertEquals(homeSolution.costoProyecto(1), tablero.getCostoFinalizados(), 0.001);
+        assertEquals(2, tablero.getEmpleadosLibres());
+    }
+
+    @Test
+    public void testCoincideConRecalcular() {
+        Random azar = new Random(5);
+        HomeSolution homeSolution = new HomeSolution();
+        for (int i = 0; i < 10; i++) {
+            if (i % 2 == 0) {
+                homeSolution.registrarEmpleado("C" + i, 1000 + i);
+            } else {
+                homeSolution.registrarEmpleado("P" + i, 20000 + i, "EXPERTO");
+            }
+        }
+        for (int i = 1; i <= 6; i++) {
+            homeSolution.registrarProyecto(new String[] {"A", "B"}, new String[] {"", ""}, new double[] {1, 2},
+                    "Calle " + i, CLIENTE, "2025-12-01", "2025-12-05");
+        }
+        for (int paso = 0; paso < 300; paso++) {
+            int numero = 1 + azar.nextInt(6);
+            String titulo = azar.nextBoolean() ? "A" : "B";
+            try {
+                switch (azar.nextInt(5)) {
+                    case 0: homeSolution.asignarResponsableMenosRetraso(numero, titulo); break;
+                    case 1: homeSolution.registrarRetrasoEnTarea(numero, titulo, 0.5); break;
+                    case 2: homeSolution.finalizarTarea(numero, titulo); break;
+                    case 3: homeSolution.agregarTareaEnProyecto(numero, "T" + paso, "", 1); break;
+                    default: if (azar.nextInt(10) == 0) homeSolution.finalizarProyecto(numero, "2025-12-20");
+                }
+            } catch (Exception e) {
+                //operacion invalida en este estado: el tablero no debe cambiar
+            }
+            verificar(homeSolution);
+        }
+    }
+
+    private void verificar(HomeSolution homeSolution) {
+        Tablero tablero = homeSolution.tablero();
+        assertEquals(homeSolution.proyectosPendientes().size(), tablero.getPendientes());
+        assertEquals(homeSolution.proyectosActivos().size(), tablero.getActivos());
+        assertEquals(homeSolution.proyectosFinalizados().size(), tablero.getFinalizados());
+        long enCurso = 0;
+        long finalizados = 0;
+        int conRetraso = 0;
+        for (int numero = 1; numero <= 6; numero++) {
+            if (homeSolution.estaFinalizado(numero)) {
+                finalizados += homeSolution.costoProyectoEnMilesimos(numero);
+            } else {
+                enCurso += homeSolution.costoProyectoEnMilesimos(numero);
+            }
+            for (Object obj : homeSolution.tareasDeUnProyecto(numero)) {
+                if (((Tarea) obj).huboRetraso()) {
+                    conRetraso++;
+                }
+            }
+        }
+        assertEquals(enCurso, tablero.getCostoEnCursoEnMilesimos());	//en milesimos las sumas son exactas
+        assertEquals(finalizados, tablero.getCostoFinalizadosEnMilesimos());
+        assertEquals(conRetraso, tablero.getTareasConRetraso());
+        List<Tupla<Integer, String>> empleados = homeSolution.empleados();
+        int libres = homeSolution.empleadosNoAsignados().length;
+        assertEquals(libres, tablero.getEmpleadosLibres());
+        assertEquals(empleados.size() - libres, tablero.getEmpleadosOcupados());
+    }
+}